@@ -0,0 +1,93 @@
+package Benchmarks;
+
+import Domain.Fruit;
+import Domain.FruitManager;
+import Domain.GameMap;
+import Domain.GameSession;
+
+import java.util.Random;
+
+/**
+ * Escenarios de juego para los benchmarks.
+ * "default" es el nivel normal de 18x18; los escenarios grandes incrustan el
+ * nivel normal en un mapa mayor lleno de hielo, frutas y trolls al azar
+ * (con semilla fija para que todas las corridas midan lo mismo).
+ * Los escenarios "crowd" llenan el mapa sobre todo de frutas y trolls (decenas de miles
+ * de entidades) para medir los gestores con muchas entidades.
+ */
+public class BenchWorld {
+    private static final int CELL_SIZE = 42;
+    private static final int DEFAULT_CELLS = 18;
+    static final String PLAYER_SPRITES = "Images/IceCreams/Vanilla";
+
+    private final String name;
+    private final int gridWidth;
+    private final int gridHeight;
+
+    // Probabilidad de cada contenido en las celdas fuera del nivel normal
+    private final double iceChance;
+    private final double fruitChance;
+    private final double trollChance;
+
+    private BenchWorld(String name, int gridWidth, int gridHeight,
+                       double iceChance, double fruitChance, double trollChance) {
+        this.name = name;
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        this.iceChance = iceChance;
+        this.fruitChance = fruitChance;
+        this.trollChance = trollChance;
+    }
+
+    public static BenchWorld defaultLevel() {
+        return new BenchWorld("default", DEFAULT_CELLS, DEFAULT_CELLS, 0, 0, 0);
+    }
+
+    public static BenchWorld synthetic(int cells) {
+        return new BenchWorld("grid" + cells, cells, cells, 0.25, 0.02, 0.005);
+    }
+
+    public static BenchWorld crowded(int cells) {
+        return new BenchWorld("crowd" + cells, cells, cells, 0.10, 0.40, 0.05);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Construye una sesion nueva con el contenido del escenario
+     */
+    public GameSession create() {
+        GameSession session = new GameSession(gridWidth * CELL_SIZE, gridHeight * CELL_SIZE, CELL_SIZE);
+        session.startDefaultLevel(PLAYER_SPRITES);
+
+        if (gridWidth > DEFAULT_CELLS || gridHeight > DEFAULT_CELLS) {
+            fillOutsideDefaultArea(session);
+        }
+        return session;
+    }
+
+    private void fillOutsideDefaultArea(GameSession session) {
+        GameMap gameMap = session.getGameMap();
+        Random random = new Random(42);
+
+        for (int y = 1; y < gridHeight - 1; y++) {
+            for (int x = 1; x < gridWidth - 1; x++) {
+                if ((x < DEFAULT_CELLS && y < DEFAULT_CELLS) || gameMap.hasBlockAtGrid(x, y)) {
+                    continue;
+                }
+
+                double roll = random.nextDouble();
+                if (roll < iceChance) {
+                    gameMap.createSolidIceAt(x, y);
+                } else if (roll < iceChance + fruitChance) {
+                    FruitManager fruitManager = session.getFruitManager();
+                    fruitManager.addFruit(fruitManager.createFruit(Fruit.FruitType.BANANA, x, y));
+                } else if (roll < iceChance + fruitChance + trollChance) {
+                    session.getEnemyManager().createTroll(x, y);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package Benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Arnes de microbenchmarks sin dependencias externas.
+ * Hace iteraciones de calentamiento y de medicion de duracion fija y reporta
+ * tiempo por operacion, rendimiento, bytes asignados por operacion (ThreadMXBean)
+ * y actividad del GC durante la medicion.
+ * La salida de consola del juego se silencia mientras se mide.
+ */
+public class BenchmarkRunner {
+    private final int warmupIterations;
+    private final int measureIterations;
+    private final long iterationNanos;
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final List<GarbageCollectorMXBean> gcBeans;
+    private final PrintStream console;
+    private final PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+
+    // Se acumula el resultado de cada operacion para que no se elimine como codigo muerto
+    private static volatile long sink;
+
+    public BenchmarkRunner(int warmupIterations, int measureIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measureIterations = measureIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+        this.threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        this.console = System.out;
+
+        if (threadBean.isThreadAllocatedMemorySupported()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    public static void printHeader(PrintStream out) {
+        out.printf("%-52s %12s %10s %14s %12s %8s %8s%n",
+                "Benchmark", "ns/op", "+-", "ops/s", "B/op", "gc", "gc ms");
+    }
+
+    /**
+     * Ejecuta una carga de trabajo e imprime una linea con los resultados
+     */
+    public void run(String scenario, Workload workload) {
+        System.setOut(silent);
+        Result result;
+        try {
+            for (int i = 0; i < warmupIterations; i++) {
+                runIteration(workload);
+            }
+
+            double[] nanosPerOp = new double[measureIterations];
+            long totalOps = 0;
+            long totalNanos = 0;
+            long totalBytes = 0;
+            long gcCountBefore = gcCount();
+            long gcTimeBefore = gcTime();
+
+            for (int i = 0; i < measureIterations; i++) {
+                Iteration it = runIteration(workload);
+                nanosPerOp[i] = (double) it.nanos / it.ops;
+                totalOps += it.ops;
+                totalNanos += it.nanos;
+                totalBytes += it.bytes;
+            }
+
+            result = new Result(nanosPerOp, totalOps, totalNanos, totalBytes,
+                    gcCount() - gcCountBefore, gcTime() - gcTimeBefore);
+        } finally {
+            System.setOut(console);
+        }
+
+        console.printf("%-52s %12.1f %10.1f %14.0f %12.1f %8d %8d%n",
+                scenario + ":" + workload.getName(),
+                result.meanNanos(), result.stdDevNanos(),
+                result.totalOps * 1e9 / result.totalNanos,
+                (double) result.totalBytes / result.totalOps,
+                result.gcCount, result.gcMillis);
+    }
+
+    private Iteration runIteration(Workload workload) {
+        Iteration it = new Iteration();
+        long threadId = Thread.currentThread().getId();
+        long acc = 0;
+        long wallStart = System.nanoTime();
+
+        // Las cargas que reconstruyen el mundo gastan mas tiempo en setUp que midiendo;
+        // se limita la duracion real de la iteracion para que no se eternice
+        while (it.nanos < iterationNanos && System.nanoTime() - wallStart < iterationNanos * 10) {
+            workload.setUp();
+            int batch = workload.batchSize();
+
+            long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            for (int i = 0; i < batch; i++) {
+                acc += workload.run(i);
+            }
+            long elapsed = System.nanoTime() - start;
+            long bytesAfter = threadBean.getThreadAllocatedBytes(threadId);
+
+            it.nanos += elapsed;
+            it.ops += batch;
+            it.bytes += bytesAfter - bytesBefore;
+        }
+
+        sink += acc;
+        return it;
+    }
+
+    private long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+
+    private static class Iteration {
+        long nanos;
+        long ops;
+        long bytes;
+    }
+
+    private static class Result {
+        final double[] nanosPerOp;
+        final long totalOps;
+        final long totalNanos;
+        final long totalBytes;
+        final long gcCount;
+        final long gcMillis;
+
+        Result(double[] nanosPerOp, long totalOps, long totalNanos, long totalBytes, long gcCount, long gcMillis) {
+            this.nanosPerOp = nanosPerOp;
+            this.totalOps = totalOps;
+            this.totalNanos = totalNanos;
+            this.totalBytes = totalBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        double meanNanos() {
+            double sum = 0;
+            for (double v : nanosPerOp) {
+                sum += v;
+            }
+            return sum / nanosPerOp.length;
+        }
+
+        double stdDevNanos() {
+            double mean = meanNanos();
+            double sum = 0;
+            for (double v : nanosPerOp) {
+                sum += (v - mean) * (v - mean);
+            }
+            return Math.sqrt(sum / nanosPerOp.length);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package Benchmarks;
+
+import Domain.GameMap;
+import Domain.GameSession;
+import Domain.GridSystem;
+import Domain.LevelLoader;
+import Domain.LevelTemplate;
+import Domain.Player;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks de los caminos calientes de Domain.
+ * Uso (desde la raiz del proyecto para que encuentre las imagenes):
+ *   java -Djava.awt.headless=true -cp out Benchmarks.DomainBenchmarks [filtro]
+ * El filtro opcional deja solo los benchmarks cuyo nombre lo contiene.
+ * Con -Dbadicecream.entityStore=true se miden los gestores con entidades en arreglos.
+ */
+public class DomainBenchmarks {
+    private static final Player.Direction[] DIRECTIONS = Player.Direction.values();
+
+    public static void main(String[] args) {
+        String filter = args.length > 0 ? args[0] : "";
+        int warmup = Integer.getInteger("bench.warmup", 3);
+        int iterations = Integer.getInteger("bench.iterations", 5);
+        long iterationMillis = Long.getLong("bench.iterationMillis", 200);
+
+        BenchmarkRunner runner = new BenchmarkRunner(warmup, iterations, iterationMillis);
+        BenchWorld[] worlds = {
+                BenchWorld.defaultLevel(),
+                BenchWorld.synthetic(64),
+                BenchWorld.synthetic(128),
+                BenchWorld.crowded(256)
+        };
+
+        BenchmarkRunner.printHeader(System.out);
+        for (BenchWorld world : worlds) {
+            for (Workload workload : workloadsFor(world)) {
+                String fullName = world.getName() + ":" + workload.getName();
+                if (fullName.contains(filter)) {
+                    runner.run(world.getName(), workload);
+                }
+            }
+        }
+    }
+
+    private static List<Workload> workloadsFor(BenchWorld world) {
+        List<Workload> workloads = new ArrayList<>();
+
+        // Crea una linea de hielo por fila desde el muro izquierdo
+        workloads.add(new RowWorkload("GameMap.createIceInDirection", world) {
+            @Override
+            public long run(int i) {
+                GameMap gameMap = session.getGameMap();
+                gameMap.createIceInDirection(rowStartX(), rowStartY(i), Player.Direction.RIGHT);
+                return gameMap.getBlocks().size();
+            }
+        });
+
+        // Rompe todo el hielo de cada fila desde el muro izquierdo
+        workloads.add(new RowWorkload("GameMap.destroyIceInDirection", world) {
+            @Override
+            public long run(int i) {
+                return session.getGameMap().destroyIceInDirection(
+                        rowStartX(), rowStartY(i), Player.Direction.RIGHT) ? 1 : 0;
+            }
+        });
+
+        // Congela una fila, espera a que el hielo quede solido, lo rompe y espera a que desaparezca;
+        // en estado estable los hielos salen del pool
+        workloads.add(new SharedWorkload("GameMap.freezeBreakCycle", world) {
+            @Override
+            public int batchSize() {
+                return 4;
+            }
+
+            @Override
+            public long run(int i) {
+                GameMap gameMap = session.getGameMap();
+                int x = grid.gridToPixelX(0);
+                int y = grid.gridToPixelY(1 + i % (grid.getGridHeight() - 2));
+                gameMap.createIceInDirection(x, y, Player.Direction.RIGHT);
+                for (int tick = 0; tick < 40; tick++) {
+                    gameMap.update();
+                }
+                gameMap.destroyIceInDirection(x, y, Player.Direction.RIGHT);
+                for (int tick = 0; tick < 80; tick++) {
+                    gameMap.update();
+                }
+                return gameMap.getPoolHits();
+            }
+        });
+
+        workloads.add(new SharedWorkload("GameMap.hasBlockAtGrid", world) {
+            @Override
+            public int batchSize() {
+                return grid.getGridWidth() * grid.getGridHeight();
+            }
+
+            @Override
+            public long run(int i) {
+                int width = grid.getGridWidth();
+                return session.getGameMap().hasBlockAtGrid(i % width, i / width) ? 1 : 0;
+            }
+        });
+
+        workloads.add(new SharedWorkload("GameMap.update", world) {
+            @Override
+            public int batchSize() {
+                return 256;
+            }
+
+            @Override
+            public long run(int i) {
+                GameMap gameMap = session.getGameMap();
+                gameMap.update();
+                return gameMap.getBlocks().size();
+            }
+        });
+
+        workloads.add(new SharedWorkload("GameCollisionDetector.getValidNextPosition", world) {
+            @Override
+            public int batchSize() {
+                return grid.getGridWidth() * grid.getGridHeight() * DIRECTIONS.length;
+            }
+
+            @Override
+            public long run(int i) {
+                int cell = i / DIRECTIONS.length;
+                int width = grid.getGridWidth();
+                Point next = session.getCollisionDetector().getValidNextPosition(
+                        cell % width, cell / width, DIRECTIONS[i % DIRECTIONS.length]);
+                return next.x + next.y;
+            }
+        });
+
+        // Animacion de todas las frutas
+        workloads.add(new SharedWorkload("FruitManager.update", world) {
+            @Override
+            public int batchSize() {
+                return 256;
+            }
+
+            @Override
+            public long run(int i) {
+                session.getFruitManager().update();
+                return session.getFruitManager().getRemainingCount();
+            }
+        });
+
+        workloads.add(new SharedWorkload("FruitManager.checkCollisions", world) {
+            @Override
+            public long run(int i) {
+                session.getFruitManager().checkCollisions(session.getPlayer());
+                return session.getFruitManager().getCollectedCount();
+            }
+        });
+
+        workloads.add(new SharedWorkload("EnemyManager.update", world) {
+            @Override
+            public int batchSize() {
+                return 256;
+            }
+
+            @Override
+            public long run(int i) {
+                session.getEnemyManager().update();
+                return session.getEnemyManager().getActiveEnemyCount();
+            }
+        });
+
+        // Choque del jugador con los enemigos (en los mundos grandes hay cientos de trolls)
+        workloads.add(new SharedWorkload("EnemyManager.checkCollisionWithPlayer", world) {
+            @Override
+            public long run(int i) {
+                return session.getEnemyManager().checkCollisionWithPlayer(session.getPlayer()) ? 1 : 0;
+            }
+        });
+
+        // Empezar (o reiniciar) el nivel 1 desde su plantilla ya leida
+        workloads.add(new SharedWorkload("GameSession.startLevel", world) {
+            private final LevelTemplate level = LevelLoader.loadDefault();
+
+            @Override
+            public long run(int i) {
+                GameSession fresh = new GameSession(
+                        grid.getGridWidth() * grid.getCellSize(), grid.getGridHeight() * grid.getCellSize(),
+                        grid.getCellSize(), i);
+                fresh.startLevel(level, BenchWorld.PLAYER_SPRITES);
+                return fresh.getGameMap().getBlocks().size();
+            }
+        });
+
+        return workloads;
+    }
+
+    /**
+     * Carga de solo lectura (o de estado estable): el mundo se construye una sola vez
+     */
+    private abstract static class SharedWorkload extends Workload {
+        private final BenchWorld world;
+        protected GameSession session;
+        protected GridSystem grid;
+
+        SharedWorkload(String name, BenchWorld world) {
+            super(name);
+            this.world = world;
+        }
+
+        @Override
+        public void setUp() {
+            if (session == null) {
+                session = world.create();
+                grid = session.getGameMap().getGrid();
+            }
+        }
+    }
+
+    /**
+     * Carga que modifica el mapa: una operacion por fila interior y luego
+     * se reconstruye el mundo para que cada lote mida lo mismo
+     */
+    private abstract static class RowWorkload extends Workload {
+        private final BenchWorld world;
+        protected GameSession session;
+        protected GridSystem grid;
+
+        RowWorkload(String name, BenchWorld world) {
+            super(name);
+            this.world = world;
+        }
+
+        @Override
+        public void setUp() {
+            session = world.create();
+            grid = session.getGameMap().getGrid();
+        }
+
+        @Override
+        public int batchSize() {
+            return grid.getGridHeight() - 2;
+        }
+
+        protected int rowStartX() {
+            return grid.gridToPixelX(0);
+        }
+
+        protected int rowStartY(int i) {
+            return grid.gridToPixelY(i + 1);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package Benchmarks;
+
+/**
+ * Una carga de trabajo medible por BenchmarkRunner.
+ * El runner llama a setUp() fuera de la medicion antes de cada lote de
+ * batchSize() operaciones y luego mide solo las llamadas a run().
+ */
+public abstract class Workload {
+    private final String name;
+
+    protected Workload(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Prepara (o restaura) el estado antes de un lote. No se mide.
+     */
+    public abstract void setUp();
+
+    /**
+     * Cantidad de operaciones que admite el estado antes de volver a prepararlo
+     */
+    public int batchSize() {
+        return 1024;
+    }
+
+    /**
+     * Ejecuta una operacion medida
+     * @param i indice de la operacion dentro del lote
+     * @return un valor que depende del resultado, para que el JIT no elimine el trabajo
+     */
+    public abstract long run(int i);
+}
@@ -0,0 +1,414 @@
+package Domain;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maneja un helado con la misma mascara de entrada que usa el teclado.
+ * La planificacion no corre en el tick: en el tick solo se toma una foto liviana del mundo
+ * (ocupacion de celdas, frutas y enemigos) y se encola para un hilo de fondo. El resultado
+ * vuelve como un comando en una cola que el tick lee sin esperar; si el plan todavia
+ * no llego, el helado sigue con el comando anterior o se queda quieto, pero el juego nunca se frena.
+ *
+ * Cada plan es un BFS desde la celda a la que se dirige el helado hasta la fruta mas cercana,
+ * limitado a una cantidad de celdas segun la dificultad. Con el presupuesto agotado
+ * va hacia la celda explorada mas cercana a alguna fruta.
+ */
+public class AIController {
+    // Cada cuantos ticks se vuelve a planificar si el helado sigue en la misma celda
+    private static final int REPLAN_TICKS = 20;
+
+    private static final Player.Direction[] STEPS = {
+            Player.Direction.UP, Player.Direction.RIGHT, Player.Direction.DOWN, Player.Direction.LEFT
+    };
+
+    // Un solo hilo para todas las IA: los planes son cortos y no deben competir con el juego
+    private static final ExecutorService planner = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "ai-planner");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /**
+     * Dificultades del selector de la pantalla de 2 jugadores
+     */
+    public enum Difficulty {
+        // Va directo a la fruta sin mirar a los enemigos y con poca vision
+        HUNGRY(48, 0),
+        // Se aleja de los enemigos aunque tenga que dar vueltas
+        FEARFUL(160, 3),
+        // Explora todo el mapa y solo evita las celdas pegadas a un enemigo
+        EXPERT(4096, 1);
+
+        private final int nodeBudget;
+        private final int dangerRadius;
+
+        Difficulty(int nodeBudget, int dangerRadius) {
+            this.nodeBudget = nodeBudget;
+            this.dangerRadius = dangerRadius;
+        }
+
+        /**
+         * Celdas que puede expandir cada decision
+         */
+        public int getNodeBudget() {
+            return nodeBudget;
+        }
+
+        public int getDangerRadius() {
+            return dangerRadius;
+        }
+
+        /**
+         * Dificultad por nombre ("hungry", "fearful", "expert"); si no se reconoce, HUNGRY
+         */
+        public static Difficulty fromName(String name) {
+            if (name != null) {
+                for (Difficulty difficulty : values()) {
+                    if (difficulty.name().equalsIgnoreCase(name.trim())) {
+                        return difficulty;
+                    }
+                }
+            }
+            return HUNGRY;
+        }
+    }
+
+    private final Difficulty difficulty;
+    private final ConcurrentLinkedQueue<Command> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean planning = new AtomicBoolean();
+    private volatile boolean stopped;
+
+    // Solo los usa el hilo del tick
+    private Command current;
+    private long decisions;
+    private long budgetExhausted;
+
+    public AIController(Difficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     * Mascara de entrada para este tick. Nunca bloquea: usa el ultimo comando que llego
+     * para la celda actual y, si hace falta, pide un plan nuevo en segundo plano.
+     */
+    public int nextInput(GameSession session, IceCreamPlayer body, long tick) {
+        GridSystem grid = session.getGameMap().getGrid();
+        int originX = grid.pixelToGridX(body.getTargetX());
+        int originY = grid.pixelToGridY(body.getTargetY());
+        int origin = grid.toCellIndex(originX, originY);
+
+        Command arrived;
+        while ((arrived = commands.poll()) != null) {
+            if (arrived.origin == origin) {
+                current = arrived;
+                decisions++;
+                if (arrived.exhausted) {
+                    budgetExhausted++;
+                }
+            }
+        }
+
+        boolean valid = current != null && current.origin == origin && tick < current.expiresAt;
+        if (!valid && planning.compareAndSet(false, true)) {
+            Snapshot snapshot = new Snapshot(session, originX, originY, tick + REPLAN_TICKS, difficulty);
+            planner.execute(() -> plan(snapshot));
+        }
+
+        if (current == null || current.origin != origin) {
+            // Mientras llega el plan sigue el paso en curso; quieto si no hay ninguno
+            return body.isMoving() && current != null ? current.directionMask : 0;
+        }
+        return current.nextMask();
+    }
+
+    /**
+     * Descarta los planes pendientes; los que terminen despues se ignoran
+     */
+    public void stop() {
+        stopped = true;
+        commands.clear();
+    }
+
+    public String getReport() {
+        return "IA " + difficulty.name().toLowerCase() + ": " + decisions + " decisiones, "
+                + budgetExhausted + " con el presupuesto agotado";
+    }
+
+    private void plan(Snapshot snapshot) {
+        try {
+            if (!stopped) {
+                commands.offer(snapshot.solve());
+            }
+        } finally {
+            planning.set(false);
+        }
+    }
+
+    /**
+     * Decision para una celda: direccion a mantener y, si hay que romper hielo, la accion
+     * despues de haberse girado
+     */
+    private static final class Command {
+        final int origin;
+        final int directionMask;
+        final long expiresAt;
+        final boolean exhausted;
+        private int iceTicks;
+
+        Command(int origin, int directionMask, boolean breakIce, long expiresAt, boolean exhausted) {
+            this.origin = origin;
+            this.directionMask = directionMask;
+            this.expiresAt = expiresAt;
+            this.exhausted = exhausted;
+            // El primer tick solo gira (la accion usa la direccion a la que mira); el segundo rompe
+            this.iceTicks = breakIce ? 2 : 0;
+        }
+
+        int nextMask() {
+            if (iceTicks == 0) {
+                return directionMask;
+            }
+            iceTicks--;
+            return iceTicks == 0 ? directionMask | GameSession.INPUT_ICE : directionMask;
+        }
+    }
+
+    /**
+     * Foto del mundo tomada en el tick; el planificador solo lee estos arreglos
+     */
+    private static final class Snapshot {
+        private static final byte FREE = 0;
+        private static final byte WALL = 1;
+        private static final byte ICE = 2;
+
+        final int width;
+        final int height;
+        final byte[] cells;
+        final boolean[] fruit;
+        // Distancia Manhattan de cada celda a la fruta mas cercana (Integer.MAX_VALUE sin frutas);
+        // se calcula en solve, ya en el hilo del planificador
+        private int[] fruitDistance;
+        final boolean[] danger;
+        // Desplazamiento de cada paso de STEPS, tomados de GridSystem
+        final int[] stepDx = new int[STEPS.length];
+        final int[] stepDy = new int[STEPS.length];
+        final int originX;
+        final int originY;
+        final long expiresAt;
+        final int budget;
+
+        Snapshot(GameSession session, int originX, int originY, long expiresAt, Difficulty difficulty) {
+            GameMap gameMap = session.getGameMap();
+            GridSystem grid = gameMap.getGrid();
+            this.width = grid.getGridWidth();
+            this.height = grid.getGridHeight();
+            this.originX = originX;
+            this.originY = originY;
+            this.expiresAt = expiresAt;
+            this.budget = difficulty.getNodeBudget();
+            for (int s = 0; s < STEPS.length; s++) {
+                stepDx[s] = grid.getDeltaX(STEPS[s]);
+                stepDy[s] = grid.getDeltaY(STEPS[s]);
+            }
+
+            cells = new byte[width * height];
+            for (int cell = 0; cell < cells.length; cell++) {
+                int x = grid.cellX(cell);
+                int y = grid.cellY(cell);
+                if (gameMap.hasWallAtGrid(x, y)) {
+                    cells[cell] = WALL;
+                } else if (gameMap.hasBlockAtGrid(x, y)) {
+                    cells[cell] = ICE;
+                }
+            }
+
+            fruit = new boolean[cells.length];
+            for (Fruit f : session.getFruitManager().getFruits()) {
+                if (!f.isCollected()) {
+                    int x = grid.pixelToGridX(f.getX());
+                    int y = grid.pixelToGridY(f.getY());
+                    if (grid.isInBounds(x, y)) {
+                        fruit[grid.toCellIndex(x, y)] = true;
+                    }
+                }
+            }
+
+            danger = new boolean[cells.length];
+            int radius = difficulty.getDangerRadius();
+            List<Enemy> enemies = session.getEnemyManager().getEnemies();
+            for (Enemy enemy : enemies) {
+                if (!enemy.isActive()) {
+                    continue;
+                }
+                int ex = grid.pixelToGridX(enemy.getX());
+                int ey = grid.pixelToGridY(enemy.getY());
+                // La celda del enemigo siempre es peligrosa, aun para HUNGRY
+                for (int dy = -radius; dy <= radius; dy++) {
+                    for (int dx = -radius; dx <= radius; dx++) {
+                        if (Math.abs(dx) + Math.abs(dy) <= radius && grid.isInBounds(ex + dx, ey + dy)) {
+                            danger[grid.toCellIndex(ex + dx, ey + dy)] = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * BFS desde todas las frutas a la vez ignorando obstaculos: en la grilla rectangular
+         * sin obstaculos la distancia en pasos es la distancia Manhattan a la fruta mas cercana
+         */
+        private int[] computeFruitDistances() {
+            int[] distance = new int[cells.length];
+            Arrays.fill(distance, Integer.MAX_VALUE);
+            int[] queue = new int[cells.length];
+            int tail = 0;
+            for (int cell = 0; cell < fruit.length; cell++) {
+                if (fruit[cell]) {
+                    distance[cell] = 0;
+                    queue[tail++] = cell;
+                }
+            }
+            for (int head = 0; head < tail; head++) {
+                int cell = queue[head];
+                int x = cell % width;
+                int y = cell / width;
+                for (int s = 0; s < STEPS.length; s++) {
+                    int nx = x + stepDx[s];
+                    int ny = y + stepDy[s];
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+                        continue;
+                    }
+                    int next = ny * width + nx;
+                    if (distance[next] == Integer.MAX_VALUE) {
+                        distance[next] = distance[cell] + 1;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            return distance;
+        }
+
+        /**
+         * BFS acotado por el presupuesto; devuelve el primer paso del camino elegido
+         */
+        Command solve() {
+            fruitDistance = computeFruitDistances();
+            int origin = originY * width + originX;
+            int[] firstStep = new int[cells.length];
+            Arrays.fill(firstStep, -1);
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+
+            firstStep[origin] = STEPS.length;
+            queue.add(origin);
+            int expanded = 0;
+            int bestCell = origin;
+            int bestScore = distanceToFruit(origin);
+
+            while (!queue.isEmpty() && expanded < budget) {
+                int cell = queue.poll();
+                expanded++;
+                int x = cell % width;
+                int y = cell / width;
+
+                if (cell != origin && fruit[cell]) {
+                    return command(origin, firstStep[cell], false, false);
+                }
+                int score = distanceToFruit(cell);
+                if (score < bestScore) {
+                    bestScore = score;
+                    bestCell = cell;
+                }
+
+                for (int s = 0; s < STEPS.length; s++) {
+                    int nx = x + stepDx[s];
+                    int ny = y + stepDy[s];
+                    if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+                        continue;
+                    }
+                    int next = ny * width + nx;
+                    if (cells[next] == ICE && fruit[next]) {
+                        // Fruta dentro del hielo: ir a la celda de al lado y romperlo
+                        if (cell == origin) {
+                            return command(origin, s, true, false);
+                        }
+                        return command(origin, firstStep[cell], false, false);
+                    }
+                    if (cells[next] != FREE || danger[next] || firstStep[next] >= 0) {
+                        continue;
+                    }
+                    firstStep[next] = cell == origin ? s : firstStep[cell];
+                    queue.add(next);
+                }
+            }
+
+            boolean exhausted = !queue.isEmpty();
+            if (bestCell != origin) {
+                return command(origin, firstStep[bestCell], false, exhausted);
+            }
+            if (danger[origin]) {
+                return command(origin, escapeStep(origin), false, exhausted);
+            }
+            return command(origin, -1, false, exhausted);
+        }
+
+        /**
+         * Con un enemigo encima, cualquier celda libre de al lado que no sea peligrosa
+         */
+        private int escapeStep(int origin) {
+            int x = origin % width;
+            int y = origin / width;
+            int fallback = -1;
+            for (int s = 0; s < STEPS.length; s++) {
+                int nx = x + stepDx[s];
+                int ny = y + stepDy[s];
+                if (nx < 0 || ny < 0 || nx >= width || ny >= height) {
+                    continue;
+                }
+                int next = ny * width + nx;
+                if (cells[next] == FREE) {
+                    if (!danger[next]) {
+                        return s;
+                    }
+                    fallback = s;
+                }
+            }
+            return fallback;
+        }
+
+        /**
+         * Distancia Manhattan a la fruta mas cercana, ya calculada para todas las celdas
+         */
+        private int distanceToFruit(int cell) {
+            return fruitDistance[cell];
+        }
+
+        private Command command(int origin, int step, boolean breakIce, boolean exhausted) {
+            int mask = step >= 0 && step < STEPS.length ? maskOf(STEPS[step]) : 0;
+            return new Command(origin, mask, breakIce, expiresAt, exhausted);
+        }
+    }
+
+    private static int maskOf(Player.Direction direction) {
+        switch (direction) {
+            case UP:
+                return GameSession.INPUT_UP;
+            case DOWN:
+                return GameSession.INPUT_DOWN;
+            case LEFT:
+                return GameSession.INPUT_LEFT;
+            default:
+                return GameSession.INPUT_RIGHT;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package Domain;
+
+/**
+ * Autoguardado de una partida.
+ * Se consulta al final de cada tick (con el mundo en un estado consistente) y,
+ * cuando toca guardar, toma una foto barata de la sesion y se la pasa al SaveWriter
+ * para que la codifique y escriba en segundo plano.
+ * Guarda cada cierto numero de ticks, al recolectar una fruta y al pausar.
+ */
+public class AutoSaver {
+    public static final String AUTOSAVE_PATH = "saves/autosave.sav";
+
+    private final SaveWriter writer;
+    private final String playerName;
+    private final String playerFlavor;
+    private final long intervalTicks;
+
+    private long lastSaveTick;
+    private int lastCollected;
+    private boolean lastPaused;
+
+    /**
+     * @param writer escritor en segundo plano compartido
+     * @param intervalTicks ticks entre guardados periodicos
+     */
+    public AutoSaver(SaveWriter writer, String playerName, String playerFlavor, long intervalTicks) {
+        this.writer = writer;
+        this.playerName = playerName;
+        this.playerFlavor = playerFlavor;
+        this.intervalTicks = intervalTicks;
+    }
+
+    /**
+     * Se llama despues de cada tick, con el candado de la simulacion tomado
+     */
+    public void onTick(GameSession session) {
+        if (session.isPlayerDead() || session.isLevelComplete()) {
+            return;
+        }
+
+        int collected = session.getFruitManager().getCollectedCount();
+        boolean paused = session.isPaused();
+        long tick = session.getTickCount();
+
+        boolean due = tick - lastSaveTick >= intervalTicks
+                || collected != lastCollected
+                || (paused && !lastPaused);
+
+        lastCollected = collected;
+        lastPaused = paused;
+
+        if (due) {
+            lastSaveTick = tick;
+            writer.submit(session.createSaveData(playerName, playerFlavor), AUTOSAVE_PATH, null);
+        }
+    }
+
+    /**
+     * Toma la situacion actual como punto de partida sin guardar (al iniciar o cargar una partida)
+     */
+    public void reset(GameSession session) {
+        lastSaveTick = session.getTickCount();
+        lastCollected = session.getFruitManager().getCollectedCount();
+        lastPaused = session.isPaused();
+    }
+}
@@ -1,7 +1,5 @@
 package Domain;
 
-import javax.swing.ImageIcon;
-import java.awt.Image;
 import java.awt.Point;
 
 /**
@@ -13,17 +11,19 @@ public class BananaFruit implements Fruit {
     private int x, y;
     private Point gridPosition;
     private boolean collected;
-    private Image[] sprites;
+    private SpriteFrame[] sprites;
     private GridSystem grid;
 
     // Animacion
     private int animationFrame;
     private int animationCounter;
-    private static final int ANIMATION_SPEED = 7;
-    private static final int TOTAL_FRAMES = 5;
-    private static final int POINTS = 100;
+    static final int ANIMATION_SPEED = 7;
+    static final int TOTAL_FRAMES = 5;
+    static final int POINTS = 100;
 
-    private static final int FRUIT_SIZE = 56;
+    static final String SPRITE_PATH = "Images/Fruits/Banana";
+
+    static final int FRUIT_SIZE = 56;
 
     public BananaFruit(int gridX, int gridY, GridSystem grid) {
         this.gridPosition = new Point(gridX, gridY);
@@ -42,23 +42,7 @@ public class BananaFruit implements Fruit {
     }
 
     private void loadSprites() {
-        sprites = new Image[TOTAL_FRAMES];
-
-        for (int i = 0; i < TOTAL_FRAMES; i++) {
-            String path = "Images/Fruits/Banana/" + (i + 1) + ".png";
-            try {
-                ImageIcon icon = new ImageIcon(path);
-                if (icon.getIconWidth() > 0) {
-                    sprites[i] = icon.getImage();
-                } else {
-                    System.out.println("Advertencia: No se pudo cargar " + path);
-                }
-            } catch (Exception e) {
-                System.out.println("Error cargando sprite de banana: " + path);
-            }
-        }
-
-        System.out.println("Sprites de banana cargados: " + TOTAL_FRAMES + " frames");
+        sprites = SpriteAtlas.getFrames(SPRITE_PATH, TOTAL_FRAMES);
     }
 
     @Override
@@ -116,7 +100,7 @@ public class BananaFruit implements Fruit {
     }
 
     @Override
-    public Image getCurrentSprite() {
+    public SpriteFrame getCurrentSprite() {
         if (sprites != null && sprites.length > 0 && sprites[animationFrame] != null) {
             return sprites[animationFrame];
         }
@@ -139,11 +123,8 @@ public class BananaFruit implements Fruit {
             return false;
         }
 
-        // Convertir posicion del jugador a coordenadas de grid
-        Point playerGridPos = grid.pixelToGrid(playerX, playerY);
-
         // Verificar si el jugador esta en la MISMA celda que la fruta
-        return playerGridPos.x == gridPosition.x &&
-                playerGridPos.y == gridPosition.y;
+        return grid.pixelToGridX(playerX) == gridPosition.x &&
+                grid.pixelToGridY(playerY) == gridPosition.y;
     }
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package Domain;
 
-import java.awt.Image;
-
 /**
  * Interfaz para los bloques del juego (polimorfismo)
  */
@@ -20,7 +18,7 @@ public interface Block {
     boolean isSolid();
 
     // Sprite actual
-    Image getCurrentSprite();
+    SpriteFrame getCurrentSprite();
 
     // Tipo de bloque
     BlockType getType();
@@ -1,6 +1,5 @@
 package Domain;
 
-import java.awt.Image;
 import java.awt.Point;
 
 /**
@@ -18,9 +17,11 @@ public interface Enemy {
 
     // Posicion en la cuadricula
     Point getGridPosition();
+    int getGridX();
+    int getGridY();
 
     // Sprite actual
-    Image getCurrentSprite();
+    SpriteFrame getCurrentSprite();
 
     // Estado del enemigo
     boolean isActive();
@@ -32,6 +33,9 @@ public interface Enemy {
     // Tipo de enemigo
     EnemyType getType();
 
+    // Si persigue al jugador en lugar de seguir su patron
+    boolean isChasing();
+
     enum EnemyType {
         TROLL
     }
@@ -1,41 +1,155 @@
 package Domain;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
 
 /**
  * Gestiona todos los enemigos del juego
  * Maneja actualizacion, colisiones y creacion de enemigos
+ * Los conteos de enemigos activos se actualizan al crear y desactivar enemigos;
+ * para que esten al dia, los enemigos se desactivan con deactivateEnemy.
+ * Un indice por celda (EnemyOccupancy) sigue la celda de cada enemigo: el choque con el
+ * jugador mira solo la celda del jugador y los trolls no entran en celdas reservadas por otro.
+ * Con -Dbadicecream.entityStore=true los trolls se guardan en un TrollStore (arreglos paralelos)
+ * y la lista tiene solo sus vistas.
  */
 public class EnemyManager {
+    private static final Enemy.EnemyType[] ENEMY_TYPES = Enemy.EnemyType.values();
+
+    // -Dbadicecream.entityStore=true guarda los trolls en arreglos en lugar de un objeto por troll
+    private static final boolean ENTITY_STORE = Boolean.getBoolean("badicecream.entityStore");
+
     private List<Enemy> enemies;
+
+    // Enemigos activos, en total y por tipo
+    private int activeCount;
+    private final int[] activeByType = new int[ENEMY_TYPES.length];
+    // Vista por tipo para la interfaz; se rearma solo cuando cambian los conteos
+    private final Map<Enemy.EnemyType, Integer> countsByType = new EnumMap<>(Enemy.EnemyType.class);
+    private final Map<Enemy.EnemyType, Integer> readOnlyCounts = Collections.unmodifiableMap(countsByType);
     private GridSystem grid;
     private CollisionDetector collisionDetector;
+    private FlowField chaseField;
+    private final EnemyOccupancy occupancy;
+    private final TrollStore trollStore;
+    // Enemigos que no estan en el almacen y se actualizan uno por uno
+    private int looseCount;
 
     public EnemyManager(GridSystem grid, CollisionDetector collisionDetector) {
+        this(grid, collisionDetector, null);
+    }
+
+    /**
+     * @param chaseField campo hacia el jugador que comparten los enemigos que persiguen
+     */
+    public EnemyManager(GridSystem grid, CollisionDetector collisionDetector, FlowField chaseField) {
         this.grid = grid;
         this.collisionDetector = collisionDetector;
+        this.chaseField = chaseField;
         this.enemies = new ArrayList<>();
+        this.occupancy = new EnemyOccupancy(grid);
+        this.trollStore = ENTITY_STORE ? new TrollStore(grid, collisionDetector, chaseField, occupancy) : null;
     }
 
     /**
      * Crea un enemigo troll en una posicion de grid
      */
     public void createTroll(int gridX, int gridY) {
-        Enemy troll = new TrollEnemy(gridX, gridY, grid, collisionDetector);
-        enemies.add(troll);
-        System.out.println("Troll creado en posicion: (" + gridX + ", " + gridY + ")");
+        createTroll(gridX, gridY, false);
+    }
+
+    /**
+     * Crea un enemigo troll que, si chasing es verdadero, persigue al jugador
+     */
+    public void createTroll(int gridX, int gridY, boolean chasing) {
+        if (chasing && chaseField == null) {
+            System.out.println("Advertencia: No hay campo de persecucion, el troll seguira su patron");
+        }
+        Enemy troll = trollStore != null
+                ? trollStore.add(gridX, gridY, chasing, enemies.size())
+                : new TrollEnemy(gridX, gridY, grid, collisionDetector, chasing ? chaseField : null, occupancy);
+        addEnemy(troll);
+        System.out.println("Troll creado en posicion: (" + gridX + ", " + gridY + ")" + (troll.isChasing() ? " persiguiendo" : ""));
+    }
+
+    /**
+     * Agrega un enemigo ya creado y lo cuenta
+     */
+    public void addEnemy(Enemy enemy) {
+        enemies.add(enemy);
+        if (!(enemy instanceof TrollStore.View)) {
+            looseCount++;
+        }
+        if (enemy.isActive()) {
+            changeCount(enemy.getType(), 1);
+            occupancy.add(enemies.size() - 1, enemy.getGridX(), enemy.getGridY());
+        }
+    }
+
+    /**
+     * Desactiva un enemigo y lo descuenta
+     * @param index posicion del enemigo en getEnemies() (la misma que usa el indice de ocupacion)
+     */
+    public void deactivateEnemy(int index) {
+        Enemy enemy = enemies.get(index);
+        if (enemy.isActive()) {
+            enemy.deactivate();
+            changeCount(enemy.getType(), -1);
+            occupancy.remove(index);
+        }
+    }
+
+    private void changeCount(Enemy.EnemyType type, int delta) {
+        activeCount += delta;
+        int count = activeByType[type.ordinal()] += delta;
+        if (count > 0) {
+            countsByType.put(type, count);
+        } else {
+            countsByType.remove(type);
+        }
+    }
+
+    /**
+     * Crea un enemigo del tipo indicado en una posicion de grid
+     */
+    public void createEnemy(Enemy.EnemyType type, int gridX, int gridY) {
+        createEnemy(type, gridX, gridY, false);
+    }
+
+    /**
+     * Crea un enemigo del tipo indicado; si chasing es verdadero persigue al jugador
+     */
+    public void createEnemy(Enemy.EnemyType type, int gridX, int gridY, boolean chasing) {
+        switch (type) {
+            case TROLL:
+                createTroll(gridX, gridY, chasing);
+                break;
+            default:
+                System.out.println("Tipo de enemigo no implementado: " + type);
+        }
     }
 
     /**
      * Actualiza todos los enemigos
      */
     public void update() {
-        for (Enemy enemy : enemies) {
-            if (enemy.isActive()) {
+        // Los trolls del almacen actualizan su celda en el indice al llegar a ella
+        if (trollStore != null) {
+            trollStore.update();
+        }
+        if (looseCount == 0) {
+            return;
+        }
+
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive() && !(enemy instanceof TrollStore.View)) {
                 enemy.update();
+                occupancy.update(i, enemy.getGridX(), enemy.getGridY());
             }
         }
     }
@@ -45,10 +159,11 @@ public class EnemyManager {
      * @return true si el jugador colisiono con algun enemigo
      */
     public boolean checkCollisionWithPlayer(Player player) {
-        for (Enemy enemy : enemies) {
-            if (enemy.isActive() && enemy.collidesWith(
-                    player.getX(), player.getY(),
-                    player.getWidth(), player.getHeight())) {
+        // Solo los enemigos que estan en la celda del jugador
+        int cell = occupancy.cellAt(grid.pixelToGridX(player.getX()), grid.pixelToGridY(player.getY()));
+        for (int i = occupancy.first(cell); i >= 0; i = occupancy.next(i)) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive()) {
                 System.out.println("Colision detectada con enemigo tipo: " + enemy.getType());
                 return true;
             }
@@ -56,6 +171,13 @@ public class EnemyManager {
         return false;
     }
 
+    /**
+     * Verdadero si algun enemigo activo esta en esa celda o esta entrando en ella
+     */
+    public boolean hasEnemyAt(int gridX, int gridY) {
+        return occupancy.first(occupancy.cellAt(gridX, gridY)) >= 0 || occupancy.isClaimed(gridX, gridY);
+    }
+
     /**
      * Obtiene todos los enemigos
      */
@@ -68,48 +190,42 @@ public class EnemyManager {
      */
     public void clear() {
         enemies.clear();
+        occupancy.clear();
+        if (trollStore != null) {
+            trollStore.clear();
+        }
+        looseCount = 0;
+        activeCount = 0;
+        Arrays.fill(activeByType, 0);
+        countsByType.clear();
     }
 
     /**
      * Obtiene cantidad de enemigos activos
      */
     public int getActiveEnemyCount() {
-        int count = 0;
-        for (Enemy enemy : enemies) {
-            if (enemy.isActive()) {
-                count++;
-            }
-        }
-        return count;
+        return activeCount;
+    }
+
+    /**
+     * Obtiene la cantidad de enemigos activos de un tipo
+     */
+    public int getActiveCount(Enemy.EnemyType type) {
+        return activeByType[type.ordinal()];
     }
 
     /**
      * Obtiene un mapa con el conteo de enemigos por tipo
-     * @return Map con el tipo de enemigo y su cantidad activa
+     * @return vista de solo lectura (se mantiene al dia) con los tipos que tienen enemigos activos
      */
     public Map<Enemy.EnemyType, Integer> getEnemyCountsByType() {
-        Map<Enemy.EnemyType, Integer> counts = new HashMap<>();
-
-        for (Enemy enemy : enemies) {
-            if (enemy.isActive()) {
-                Enemy.EnemyType type = enemy.getType();
-                counts.put(type, counts.getOrDefault(type, 0) + 1);
-            }
-        }
-
-        return counts;
+        return readOnlyCounts;
     }
 
     /**
      * Obtiene la cantidad de trolls activos
      */
     public int getActiveTrollCount() {
-        int count = 0;
-        for (Enemy enemy : enemies) {
-            if (enemy.isActive() && enemy.getType() == Enemy.EnemyType.TROLL) {
-                count++;
-            }
-        }
-        return count;
+        return getActiveCount(Enemy.EnemyType.TROLL);
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Indice por celda de los enemigos, mantenido por EnemyManager.
+ * Guarda dos cosas por celda:
+ *  - los enemigos cuya celda actual es esa (una lista enlazada de indices), para
+ *    buscar en O(1) quien esta en la celda del jugador;
+ *  - cuantos enemigos la tienen reservada (la celda en la que estan y, mientras caminan,
+ *    la celda a la que van), para que dos enemigos no terminen en la misma celda.
+ */
+class EnemyOccupancy {
+    private final GridSystem grid;
+
+    private final int[] cellHead;
+    private final int[] claims;
+    private int[] nextInCell = new int[16];
+    private int[] cellOf = new int[16];
+
+    EnemyOccupancy(GridSystem grid) {
+        this.grid = grid;
+        int cells = grid.getGridWidth() * grid.getGridHeight();
+        this.cellHead = new int[cells];
+        this.claims = new int[cells];
+        Arrays.fill(cellHead, -1);
+    }
+
+    /**
+     * Celda de la grilla como indice, o -1 si esta afuera
+     */
+    int cellAt(int gridX, int gridY) {
+        return grid.isInBounds(gridX, gridY) ? grid.toCellIndex(gridX, gridY) : -1;
+    }
+
+    /**
+     * Registra al enemigo numero id en su celda actual
+     */
+    void add(int id, int gridX, int gridY) {
+        if (id >= cellOf.length) {
+            int size = Math.max(id + 1, cellOf.length * 2);
+            cellOf = Arrays.copyOf(cellOf, size);
+            nextInCell = Arrays.copyOf(nextInCell, size);
+        }
+        cellOf[id] = -1;
+        moveTo(id, cellAt(gridX, gridY));
+    }
+
+    /**
+     * Actualiza la celda del enemigo si cambio
+     */
+    void update(int id, int gridX, int gridY) {
+        int cell = cellAt(gridX, gridY);
+        if (cell != cellOf[id]) {
+            moveTo(id, cell);
+        }
+    }
+
+    /**
+     * Saca al enemigo del indice (al desactivarlo)
+     */
+    void remove(int id) {
+        moveTo(id, -1);
+    }
+
+    private void moveTo(int id, int cell) {
+        int old = cellOf[id];
+        if (old >= 0) {
+            if (cellHead[old] == id) {
+                cellHead[old] = nextInCell[id];
+            } else {
+                for (int i = cellHead[old]; i >= 0; i = nextInCell[i]) {
+                    if (nextInCell[i] == id) {
+                        nextInCell[i] = nextInCell[id];
+                        break;
+                    }
+                }
+            }
+        }
+        cellOf[id] = cell;
+        if (cell >= 0) {
+            nextInCell[id] = cellHead[cell];
+            cellHead[cell] = id;
+        }
+    }
+
+    /**
+     * Primer enemigo de la celda, o -1
+     */
+    int first(int cell) {
+        return cell >= 0 ? cellHead[cell] : -1;
+    }
+
+    /**
+     * Siguiente enemigo de la misma celda, o -1
+     */
+    int next(int id) {
+        return nextInCell[id];
+    }
+
+    boolean isClaimed(int gridX, int gridY) {
+        int cell = cellAt(gridX, gridY);
+        return cell >= 0 && claims[cell] > 0;
+    }
+
+    void claim(int gridX, int gridY) {
+        int cell = cellAt(gridX, gridY);
+        if (cell >= 0) {
+            claims[cell]++;
+        }
+    }
+
+    void release(int gridX, int gridY) {
+        int cell = cellAt(gridX, gridY);
+        if (cell >= 0 && claims[cell] > 0) {
+            claims[cell]--;
+        }
+    }
+
+    void clear() {
+        Arrays.fill(cellHead, -1);
+        Arrays.fill(claims, 0);
+    }
+}
@@ -0,0 +1,337 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Campo de distancias hacia el jugador compartido por todos los enemigos que lo persiguen.
+ * Guarda, para cada celda, cuantos pasos la separan del objetivo por celdas libres
+ * (sin muros ni hielo solido), calculado con un BFS sobre la ocupacion de GameMap.
+ *
+ * El BFS completo se hace solo cuando cambia la celda objetivo (como mucho una vez por tick,
+ * y recien cuando alguien consulta el campo). Cuando GameMap pone o quita hielo el campo se
+ * corrige localmente: al liberar una celda se propagan las distancias que bajan, y al
+ * bloquearla se invalidan solo las celdas que dependian de ella y se recalculan desde su borde.
+ * Cada enemigo lee su siguiente paso en O(1) comparando las distancias de sus vecinos.
+ */
+public class FlowField {
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // Orden fijo de vecinos para que el camino elegido sea determinista
+    private static final Player.Direction[] STEPS = {
+            Player.Direction.UP, Player.Direction.RIGHT, Player.Direction.DOWN, Player.Direction.LEFT
+    };
+
+    private final GameMap gameMap;
+    private final GridSystem grid;
+
+    private final int[] distance;
+    private final boolean[] blocked;
+
+    // Memoria de trabajo reutilizada: cola circular, marcas y celdas invalidadas
+    private final int[] queue;
+    private final boolean[] marked;
+    private final int[] affected;
+    private int head;
+    private int size;
+
+    private int target = -1;
+    private boolean dirty = true;
+
+    private long rebuilds;
+    private long incrementalUpdates;
+
+    FlowField(GameMap gameMap) {
+        this.gameMap = gameMap;
+        this.grid = gameMap.getGrid();
+        int cells = grid.getGridWidth() * grid.getGridHeight();
+        this.distance = new int[cells];
+        this.blocked = new boolean[cells];
+        this.queue = new int[cells];
+        this.marked = new boolean[cells];
+        this.affected = new int[cells];
+        Arrays.fill(distance, UNREACHABLE);
+    }
+
+    /**
+     * Fija la celda objetivo (la del jugador). Si cambio, el campo se recalcula en la proxima consulta.
+     */
+    public void setTarget(int gridX, int gridY) {
+        int cell = grid.isInBounds(gridX, gridY) ? grid.toCellIndex(gridX, gridY) : -1;
+        if (cell != target) {
+            target = cell;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Descarta el campo entero (por ejemplo cuando cambian los muros)
+     */
+    void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Avisa que una celda paso a estar bloqueada o libre
+     */
+    void cellChanged(int gridX, int gridY, boolean nowBlocked) {
+        if (!grid.isInBounds(gridX, gridY)) {
+            return;
+        }
+        int cell = grid.toCellIndex(gridX, gridY);
+        if (blocked[cell] == nowBlocked) {
+            return;
+        }
+        blocked[cell] = nowBlocked;
+        if (dirty) {
+            return;
+        }
+        if (cell == target) {
+            dirty = true;
+            return;
+        }
+
+        if (nowBlocked) {
+            raise(cell);
+        } else {
+            lower(cell);
+        }
+        incrementalUpdates++;
+    }
+
+    /**
+     * Direccion del siguiente paso hacia el objetivo desde una celda, o null si ya esta
+     * en el objetivo o no hay camino. Desde una celda bloqueada (un enemigo dentro del hielo)
+     * elige el vecino libre mas cercano al objetivo.
+     */
+    public Player.Direction getNextDirection(int gridX, int gridY) {
+        ensureComputed();
+        if (!grid.isInBounds(gridX, gridY)) {
+            return null;
+        }
+
+        int best = distance[grid.toCellIndex(gridX, gridY)];
+        Player.Direction step = null;
+        for (Player.Direction direction : STEPS) {
+            int nextX = gridX + grid.getDeltaX(direction);
+            int nextY = gridY + grid.getDeltaY(direction);
+            if (grid.isInBounds(nextX, nextY)) {
+                int d = distance[grid.toCellIndex(nextX, nextY)];
+                if (d < best) {
+                    best = d;
+                    step = direction;
+                }
+            }
+        }
+        return step;
+    }
+
+    /**
+     * Pasos desde una celda hasta el objetivo, o UNREACHABLE
+     */
+    public int getDistance(int gridX, int gridY) {
+        ensureComputed();
+        if (!grid.isInBounds(gridX, gridY)) {
+            return UNREACHABLE;
+        }
+        return distance[grid.toCellIndex(gridX, gridY)];
+    }
+
+    public long getRebuildCount() {
+        return rebuilds;
+    }
+
+    public long getIncrementalUpdateCount() {
+        return incrementalUpdates;
+    }
+
+    private void ensureComputed() {
+        if (dirty) {
+            rebuild();
+        }
+    }
+
+    /**
+     * BFS completo desde el objetivo, leyendo de nuevo la ocupacion del mapa
+     */
+    private void rebuild() {
+        dirty = false;
+        rebuilds++;
+
+        for (int cell = 0; cell < blocked.length; cell++) {
+            blocked[cell] = gameMap.hasBlockAtGrid(grid.cellX(cell), grid.cellY(cell));
+        }
+        Arrays.fill(distance, UNREACHABLE);
+        if (target < 0) {
+            return;
+        }
+
+        distance[target] = 0;
+        clearQueue();
+        marked[target] = true;
+        push(target);
+        relax();
+    }
+
+    /**
+     * Una celda quedo libre: toma la mejor distancia de sus vecinos y propaga las mejoras
+     */
+    private void lower(int cell) {
+        int best = UNREACHABLE;
+        int x = grid.cellX(cell);
+        int y = grid.cellY(cell);
+        for (Player.Direction direction : STEPS) {
+            int neighbor = neighbor(x, y, direction);
+            if (neighbor >= 0 && isSource(neighbor) && distance[neighbor] < best) {
+                best = distance[neighbor];
+            }
+        }
+        if (best == UNREACHABLE) {
+            return;
+        }
+
+        distance[cell] = best + 1;
+        clearQueue();
+        marked[cell] = true;
+        push(cell);
+        relax();
+    }
+
+    /**
+     * Una celda quedo bloqueada: invalida, en orden de distancia, las celdas que ya no tienen
+     * un vecino un paso mas cerca del objetivo, y las recalcula desde las celdas validas que las rodean
+     */
+    private void raise(int cell) {
+        int old = distance[cell];
+        distance[cell] = UNREACHABLE;
+        if (old == UNREACHABLE) {
+            return;
+        }
+
+        // 1. Celdas que dependian de la bloqueada (recorridas por niveles de distancia)
+        int affectedCount = 0;
+        clearQueue();
+        pushDependents(cell, old);
+        while (size > 0) {
+            int current = poll();
+            if (hasSupport(current)) {
+                continue;
+            }
+            int d = distance[current];
+            distance[current] = UNREACHABLE;
+            affected[affectedCount++] = current;
+            pushDependents(current, d);
+        }
+        // La cola empezo vacia en 0 y cada celda entro una sola vez: quedaron todas en queue[0..head)
+        int candidates = head;
+        for (int i = 0; i < candidates; i++) {
+            marked[queue[i]] = false;
+        }
+
+        // 2. Cada celda invalidada toma la mejor distancia de sus vecinos validos
+        clearQueue();
+        for (int i = 0; i < affectedCount; i++) {
+            int current = affected[i];
+            int x = grid.cellX(current);
+            int y = grid.cellY(current);
+            int best = UNREACHABLE;
+            for (Player.Direction direction : STEPS) {
+                int neighbor = neighbor(x, y, direction);
+                if (neighbor >= 0 && isSource(neighbor) && distance[neighbor] < best) {
+                    best = distance[neighbor];
+                }
+            }
+            if (best != UNREACHABLE) {
+                distance[current] = best + 1;
+                marked[current] = true;
+                push(current);
+            }
+        }
+        relax();
+    }
+
+    /**
+     * Encola los vecinos libres que estaban exactamente un paso mas lejos que la celda dada
+     */
+    private void pushDependents(int cell, int cellDistance) {
+        int x = grid.cellX(cell);
+        int y = grid.cellY(cell);
+        for (Player.Direction direction : STEPS) {
+            int neighbor = neighbor(x, y, direction);
+            if (neighbor >= 0 && !blocked[neighbor] && !marked[neighbor]
+                    && distance[neighbor] != UNREACHABLE && distance[neighbor] == cellDistance + 1) {
+                marked[neighbor] = true;
+                push(neighbor);
+            }
+        }
+    }
+
+    /**
+     * Verdadero si algun vecino valido sigue un paso mas cerca del objetivo
+     */
+    private boolean hasSupport(int cell) {
+        int d = distance[cell];
+        int x = grid.cellX(cell);
+        int y = grid.cellY(cell);
+        for (Player.Direction direction : STEPS) {
+            int neighbor = neighbor(x, y, direction);
+            if (neighbor >= 0 && isSource(neighbor) && distance[neighbor] == d - 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Propaga las distancias de las celdas encoladas mientras alguna mejore
+     */
+    private void relax() {
+        while (size > 0) {
+            int current = poll();
+            marked[current] = false;
+            int next = distance[current] + 1;
+            int x = grid.cellX(current);
+            int y = grid.cellY(current);
+            for (Player.Direction direction : STEPS) {
+                int neighbor = neighbor(x, y, direction);
+                if (neighbor >= 0 && !blocked[neighbor] && next < distance[neighbor]) {
+                    distance[neighbor] = next;
+                    if (!marked[neighbor]) {
+                        marked[neighbor] = true;
+                        push(neighbor);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Celda desde la que se puede propagar distancia: las libres y el objetivo, aunque
+     * el jugador quede dentro del hielo
+     */
+    private boolean isSource(int cell) {
+        return !blocked[cell] || cell == target;
+    }
+
+    private int neighbor(int x, int y, Player.Direction direction) {
+        int nextX = x + grid.getDeltaX(direction);
+        int nextY = y + grid.getDeltaY(direction);
+        return grid.isInBounds(nextX, nextY) ? grid.toCellIndex(nextX, nextY) : -1;
+    }
+
+    private void clearQueue() {
+        head = 0;
+        size = 0;
+    }
+
+    private void push(int cell) {
+        queue[(head + size) % queue.length] = cell;
+        size++;
+    }
+
+    private int poll() {
+        int cell = queue[head];
+        head = (head + 1) % queue.length;
+        size--;
+        return cell;
+    }
+}
@@ -1,6 +1,5 @@
 package Domain;
 
-import java.awt.Image;
 import java.awt.Point;
 
 /**
@@ -24,7 +23,7 @@ public interface Fruit {
     void collect();
 
     // Sprite actual
-    Image getCurrentSprite();
+    SpriteFrame getCurrentSprite();
 
     // Tipo de fruta
     FruitType getType();
@@ -1,158 +1,243 @@
 package Domain;
 
+import java.awt.Point;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Gestor de frutas del juego
  * Maneja la creacion, actualizacion y colision de todas las frutas
- * Controla la aparicion de uvas tras recolectar todas las bananas
+ * Controla la aparicion de las oleadas del nivel: cada oleada aparece
+ * cuando se recolectaron todas las frutas anteriores
+ *
+ * Las oleadas avanzan como una maquina de estados: los contadores se actualizan al aparecer
+ * y recolectar cada fruta, y la oleada siguiente se pide cuando el contador de frutas en juego
+ * llega a cero, sin recorrer la lista en cada tick.
+ *
+ * Las frutas sin recolectar estan indexadas por celda (una lista enlazada de indices por celda),
+ * asi que recolectar es una busqueda en la celda del jugador aunque el nivel tenga miles de frutas.
+ *
+ * Con -Dbadicecream.entityStore=true las frutas creadas con createFruit se guardan en un
+ * FruitStore por tipo (arreglos paralelos) y la lista tiene solo sus vistas.
  */
 public class FruitManager {
+    /**
+     * Estado de las oleadas del nivel
+     */
+    public enum WaveState {
+        // Sin nivel: no hay oleadas que esperar
+        NO_LEVEL,
+        // Quedan frutas de la oleada en juego
+        IN_PROGRESS,
+        // Se recolecto todo; la oleada siguiente aparece en el proximo update
+        CLEARED,
+        // Ya aparecieron todas las oleadas
+        ALL_SPAWNED
+    }
+
+    private static final Fruit.FruitType[] FRUIT_TYPES = Fruit.FruitType.values();
+
+    // -Dbadicecream.entityStore=true guarda las frutas en arreglos en lugar de un objeto por fruta
+    private static final boolean ENTITY_STORE = Boolean.getBoolean("badicecream.entityStore");
+
     private List<Fruit> fruits;
     private GridSystem grid;
     private int totalFruits;
     private int collectedFruits;
     private int score;
-    private boolean bananasCompleted;
-    private boolean grapesSpawned;
-    private int totalBananas;
-    private int totalGrapes;
+
+    // Oleadas del nivel y cuantas ya aparecieron
+    private LevelTemplate level;
+    private int spawnedWaves;
+    private WaveState waveState = WaveState.NO_LEVEL;
+
+    // Frutas sin recolectar, en total y por tipo
+    private int remainingInPlay;
+    private final int[] remainingByType = new int[FRUIT_TYPES.length];
+
+    // Indice por celda: primera fruta sin recolectar de cada celda y la siguiente de cada fruta (-1 al final)
+    private final int[] cellHead;
+    private int[] nextInCell = new int[64];
+
+    // Almacen por tipo (creado al aparecer la primera fruta del tipo), o null sin almacen
+    private final FruitStore[] stores;
+    // Frutas que no estan en un almacen y se actualizan una por una
+    private int looseCount;
 
     public FruitManager(GridSystem grid) {
         this.grid = grid;
         this.fruits = new ArrayList<>();
+        this.cellHead = new int[grid.getGridWidth() * grid.getGridHeight()];
+        Arrays.fill(cellHead, -1);
+        this.stores = ENTITY_STORE ? new FruitStore[FRUIT_TYPES.length] : null;
         this.totalFruits = 0;
         this.collectedFruits = 0;
         this.score = 0;
-        this.bananasCompleted = false;
-        this.grapesSpawned = false;
-        this.totalBananas = 0;
-        this.totalGrapes = 0;
     }
 
     /**
      * Agrega una fruta en una posicion especifica de la grid
      */
     public void addFruit(Fruit fruit) {
+        int index = fruits.size();
         fruits.add(fruit);
         totalFruits++;
+        if (!(fruit instanceof FruitStore.View)) {
+            looseCount++;
+        }
 
-        // Contar bananas separadamente
-        if (fruit.getType() == Fruit.FruitType.BANANA) {
-            totalBananas++;
+        // Las frutas de una partida cargada pueden llegar ya recolectadas
+        if (fruit.isCollected()) {
+            collectedFruits++;
+        } else {
+            linkToCell(index, fruit);
+            remainingInPlay++;
+            remainingByType[fruit.getType().ordinal()]++;
+            if (waveState == WaveState.CLEARED) {
+                waveState = WaveState.IN_PROGRESS;
+            }
         }
     }
 
-    /**
-     * Crea bananas en posiciones especificas del mapa
-     */
-    public void createLevelBananas() {
-        // Esquina superior izquierda
-        addFruit(new BananaFruit(3, 4, grid));
-        addFruit(new BananaFruit(4, 4, grid));
-        addFruit(new BananaFruit(3, 5, grid));
-
-        // Esquina inferior izquierda
-        addFruit(new BananaFruit(3, 12, grid));
-        addFruit(new BananaFruit(3, 13, grid));
-        addFruit(new BananaFruit(4, 13, grid));
-
-        // Esquina superior derecha
-        addFruit(new BananaFruit(14, 4, grid));
-        addFruit(new BananaFruit(14, 5, grid));
-        addFruit(new BananaFruit(13, 4, grid));
-
-        // Esquina inferior derecha
-        addFruit(new BananaFruit(14, 12, grid));
-        addFruit(new BananaFruit(14, 13, grid));
-        addFruit(new BananaFruit(13, 13, grid));
-
-        // Zona superior central
-        addFruit(new BananaFruit(7, 6, grid));
-        addFruit(new BananaFruit(10, 6, grid));
-
-        // Zona inferior central
-        addFruit(new BananaFruit(7, 11, grid));
-        addFruit(new BananaFruit(10, 11, grid));
-
-        // Zona central izquierda
-        addFruit(new BananaFruit(6, 8, grid));
-        addFruit(new BananaFruit(6, 9, grid));
+    private void linkToCell(int index, Fruit fruit) {
+        int cell = cellOf(fruit);
+        if (cell < 0) {
+            return;
+        }
+        if (index >= nextInCell.length) {
+            nextInCell = Arrays.copyOf(nextInCell, Math.max(index + 1, nextInCell.length * 2));
+        }
+        nextInCell[index] = cellHead[cell];
+        cellHead[cell] = index;
+    }
 
-        // Zona central derecha
-        addFruit(new BananaFruit(11, 8, grid));
-        addFruit(new BananaFruit(11, 9, grid));
+    private void unlinkFromCell(int index, int cell) {
+        if (cellHead[cell] == index) {
+            cellHead[cell] = nextInCell[index];
+            return;
+        }
+        for (int i = cellHead[cell]; i >= 0; i = nextInCell[i]) {
+            if (nextInCell[i] == index) {
+                nextInCell[i] = nextInCell[index];
+                return;
+            }
+        }
+    }
 
-        System.out.println("Bananas creadas en el nivel. Total bananas: " + totalBananas);
+    private int cellOf(Fruit fruit) {
+        Point gridPos = fruit.getGridPosition();
+        return grid.isInBounds(gridPos.x, gridPos.y) ? grid.toCellIndex(gridPos.x, gridPos.y) : -1;
     }
 
     /**
-     * Crea uvas en posiciones estrategicas del mapa
-     * Se llama automaticamente cuando todas las bananas son recolectadas
+     * Crea una fruta del tipo indicado en una celda
+     * @return la fruta, o null si el tipo todavia no esta implementado
      */
-    private void spawnGrapes() {
-        if (grapesSpawned) {
-            return;
+    public Fruit createFruit(Fruit.FruitType type, int gridX, int gridY) {
+        if (stores != null) {
+            FruitStore store = storeFor(type);
+            if (store == null) {
+                System.out.println("Tipo de fruta no implementado: " + type);
+                return null;
+            }
+            return store.add(gridX, gridY);
         }
 
-        // Bordes del mapa
-        addFruit(new GrapeFruit(2, 2, grid));
-        addFruit(new GrapeFruit(3, 2, grid));
-        addFruit(new GrapeFruit(2, 3, grid));
-
-        addFruit(new GrapeFruit(14, 2, grid));
-        addFruit(new GrapeFruit(15, 2, grid));
-        addFruit(new GrapeFruit(15, 3, grid));
-
-        addFruit(new GrapeFruit(2, 14, grid));
-        addFruit(new GrapeFruit(2, 15, grid));
-        addFruit(new GrapeFruit(3, 15, grid));
+        switch (type) {
+            case BANANA:
+                return new BananaFruit(gridX, gridY, grid);
+            case GRAPE:
+                return new GrapeFruit(gridX, gridY, grid);
+            default:
+                System.out.println("Tipo de fruta no implementado: " + type);
+                return null;
+        }
+    }
 
-        addFruit(new GrapeFruit(15, 14, grid));
-        addFruit(new GrapeFruit(15, 15, grid));
-        addFruit(new GrapeFruit(14, 15, grid));
+    private FruitStore storeFor(Fruit.FruitType type) {
+        FruitStore store = stores[type.ordinal()];
+        if (store == null) {
+            store = FruitStore.forType(type, grid);
+            stores[type.ordinal()] = store;
+        }
+        return store;
+    }
 
-        // Centro del mapa
-        addFruit(new GrapeFruit(5, 6, grid));
-        addFruit(new GrapeFruit(5, 11, grid));
-        addFruit(new GrapeFruit(12, 6, grid));
-        addFruit(new GrapeFruit(12, 11, grid));
+    /**
+     * Prepara las oleadas de un nivel y hace aparecer la primera
+     */
+    public void startWaves(LevelTemplate level) {
+        resumeWaves(level, 0);
+        spawnNextWave();
+    }
 
-        // Contar cuantas uvas se agregaron
-        totalGrapes = totalFruits - totalBananas;
+    /**
+     * Retoma las oleadas de un nivel cuando ya aparecieron algunas (partida cargada)
+     */
+    public void resumeWaves(LevelTemplate level, int spawnedWaves) {
+        this.level = level;
+        this.spawnedWaves = spawnedWaves;
+        updateWaveState();
+    }
 
-        grapesSpawned = true;
-        System.out.println("Uvas aparecieron! Total de uvas: " + totalGrapes);
-        System.out.println("Total de frutas en el nivel: " + totalFruits);
+    /**
+     * Estado que corresponde a las oleadas aparecidas y las frutas que quedan
+     */
+    private void updateWaveState() {
+        if (level == null) {
+            waveState = WaveState.NO_LEVEL;
+        } else if (spawnedWaves >= level.getWaveCount()) {
+            waveState = WaveState.ALL_SPAWNED;
+        } else {
+            waveState = remainingInPlay == 0 ? WaveState.CLEARED : WaveState.IN_PROGRESS;
+        }
     }
 
     /**
-     * Verifica si todas las bananas han sido recolectadas
+     * Hace aparecer la siguiente oleada del nivel
      */
-    private boolean allBananasCollected() {
-        for (Fruit fruit : fruits) {
-            if (fruit.getType() == Fruit.FruitType.BANANA && !fruit.isCollected()) {
-                return false;
+    private void spawnNextWave() {
+        if (level == null || spawnedWaves >= level.getWaveCount()) {
+            return;
+        }
+
+        LevelTemplate.FruitWave wave = level.getWave(spawnedWaves);
+        for (int i = 0; i < wave.getCount(); i++) {
+            Fruit fruit = createFruit(wave.getType(i), wave.getX(i), wave.getY(i));
+            if (fruit != null) {
+                addFruit(fruit);
             }
         }
-        return true;
+
+        spawnedWaves++;
+        updateWaveState();
+        System.out.println("Oleada " + spawnedWaves + "/" + level.getWaveCount() + " aparecio: "
+                + wave.getCount() + " frutas. Total de frutas en el nivel: " + totalFruits);
     }
 
     /**
      * Actualiza todas las frutas (para frutas moviles o con animacion)
-     * Tambien verifica si debe aparecer las uvas
+     * Tambien verifica si debe aparecer la siguiente oleada
      */
     public void update() {
-        for (Fruit fruit : fruits) {
-            fruit.update();
+        if (stores != null) {
+            for (FruitStore store : stores) {
+                if (store != null) {
+                    store.update();
+                }
+            }
+        }
+        if (looseCount > 0) {
+            for (Fruit fruit : fruits) {
+                if (!(fruit instanceof FruitStore.View)) {
+                    fruit.update();
+                }
+            }
         }
 
-        // Verificar si todas las bananas fueron recolectadas para spawear uvas
-        if (!bananasCompleted && allBananasCollected()) {
-            bananasCompleted = true;
-            System.out.println("Todas las bananas recolectadas! Aparecen las uvas...");
-            spawnGrapes();
+        if (waveState == WaveState.CLEARED) {
+            spawnNextWave();
         }
     }
 
@@ -160,16 +245,40 @@ public class FruitManager {
      * Verifica colisiones con el jugador y recolecta frutas
      */
     public void checkCollisions(Player player) {
-        for (Fruit fruit : fruits) {
-            if (!fruit.isCollected() &&
-                    fruit.collidesWith(player.getX(), player.getY(),
-                            player.getWidth(), player.getHeight())) {
+        int gridX = grid.pixelToGridX(player.getX());
+        int gridY = grid.pixelToGridY(player.getY());
+        if (!grid.isInBounds(gridX, gridY)) {
+            return;
+        }
+
+        // Solo las frutas de la celda del jugador
+        int cell = grid.toCellIndex(gridX, gridY);
+        int index = cellHead[cell];
+        while (index >= 0) {
+            int next = nextInCell[index];
+            Fruit fruit = fruits.get(index);
+            if (fruit.collidesWith(player.getX(), player.getY(),
+                    player.getWidth(), player.getHeight())) {
                 fruit.collect();
-                collectedFruits++;
+                unlinkFromCell(index, cell);
+                onCollected(fruit);
                 score += fruit.getPoints();
                 System.out.println("Frutas recolectadas: " + collectedFruits + "/" + totalFruits +
                         " | Puntos: " + score);
             }
+            index = next;
+        }
+    }
+
+    /**
+     * Actualiza los contadores; si era la ultima fruta en juego la oleada queda terminada
+     */
+    private void onCollected(Fruit fruit) {
+        collectedFruits++;
+        remainingInPlay--;
+        remainingByType[fruit.getType().ordinal()]--;
+        if (remainingInPlay == 0 && waveState == WaveState.IN_PROGRESS) {
+            waveState = WaveState.CLEARED;
         }
     }
 
@@ -182,15 +291,14 @@ public class FruitManager {
 
     /**
      * Verifica si todas las frutas fueron recolectadas (condicion de victoria)
-     * Solo retorna true cuando TODAS las frutas (bananas Y uvas) han sido recolectadas
+     * Solo retorna true cuando aparecieron TODAS las oleadas y se recolectaron todas sus frutas
      */
     public boolean allFruitsCollected() {
-        // Si las uvas no han aparecido todavia, el nivel NO esta completo
-        if (!grapesSpawned) {
+        // Si quedan oleadas por aparecer, el nivel NO esta completo
+        if (!areAllWavesSpawned()) {
             return false;
         }
 
-        // Si las uvas ya aparecieron, verificar si todas las frutas fueron recolectadas
         return collectedFruits >= totalFruits;
     }
 
@@ -216,10 +324,32 @@ public class FruitManager {
     }
 
     /**
-     * Verifica si las uvas ya aparecieron
+     * Verifica si ya aparecieron todas las oleadas del nivel
+     */
+    public boolean areAllWavesSpawned() {
+        return waveState == WaveState.NO_LEVEL || waveState == WaveState.ALL_SPAWNED;
+    }
+
+    public WaveState getWaveState() {
+        return waveState;
+    }
+
+    /**
+     * Frutas aparecidas que todavia no se recolectaron
      */
-    public boolean areGrapesSpawned() {
-        return grapesSpawned;
+    public int getRemainingCount() {
+        return remainingInPlay;
+    }
+
+    /**
+     * Frutas de un tipo que todavia no se recolectaron
+     */
+    public int getRemainingCount(Fruit.FruitType type) {
+        return remainingByType[type.ordinal()];
+    }
+
+    public int getSpawnedWaveCount() {
+        return spawnedWaves;
     }
 
     /**
@@ -227,12 +357,22 @@ public class FruitManager {
      */
     public void clear() {
         fruits.clear();
+        Arrays.fill(cellHead, -1);
+        if (stores != null) {
+            for (FruitStore store : stores) {
+                if (store != null) {
+                    store.clear();
+                }
+            }
+        }
+        looseCount = 0;
         totalFruits = 0;
         collectedFruits = 0;
         score = 0;
-        bananasCompleted = false;
-        grapesSpawned = false;
-        totalBananas = 0;
-        totalGrapes = 0;
+        level = null;
+        spawnedWaves = 0;
+        waveState = WaveState.NO_LEVEL;
+        remainingInPlay = 0;
+        Arrays.fill(remainingByType, 0);
     }
 }
\ No newline at end of file
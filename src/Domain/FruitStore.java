@@ -0,0 +1,185 @@
+package Domain;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+/**
+ * Frutas de un mismo tipo guardadas en arreglos paralelos en lugar de un objeto por fruta.
+ * Lo usa FruitManager con -Dbadicecream.entityStore=true (un almacen por tipo): la animacion
+ * de todas las frutas del tipo se avanza en un solo ciclo con las constantes del tipo, y los
+ * sprites se comparten. Hacia afuera cada fruta se ve como un Fruit (View) que solo guarda su indice.
+ */
+class FruitStore {
+    private final GridSystem grid;
+    private final Fruit.FruitType type;
+    private final String name;
+    private final SpriteFrame[] sprites;
+    private final int animationSpeed;
+    private final int totalFrames;
+    private final int points;
+    private final int width;
+    private final int height;
+
+    private int size;
+    private int[] x = new int[64];
+    private int[] y = new int[64];
+    private int[] gridX = new int[64];
+    private int[] gridY = new int[64];
+    private int[] animationFrame = new int[64];
+    private int[] animationCounter = new int[64];
+    private boolean[] collected = new boolean[64];
+
+    private FruitStore(GridSystem grid, Fruit.FruitType type, String name, String spritePath,
+                       int animationSpeed, int totalFrames, int points, int width, int height) {
+        this.grid = grid;
+        this.type = type;
+        this.name = name;
+        this.sprites = SpriteAtlas.getFrames(spritePath, totalFrames);
+        this.animationSpeed = animationSpeed;
+        this.totalFrames = totalFrames;
+        this.points = points;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Almacen para un tipo, con los mismos valores que su clase (BananaFruit, GrapeFruit...)
+     * @return el almacen, o null si el tipo todavia no esta implementado
+     */
+    static FruitStore forType(Fruit.FruitType type, GridSystem grid) {
+        switch (type) {
+            case BANANA:
+                return new FruitStore(grid, type, "Banana", BananaFruit.SPRITE_PATH,
+                        BananaFruit.ANIMATION_SPEED, BananaFruit.TOTAL_FRAMES, BananaFruit.POINTS,
+                        BananaFruit.FRUIT_SIZE, BananaFruit.FRUIT_SIZE);
+            case GRAPE:
+                return new FruitStore(grid, type, "Uva", GrapeFruit.SPRITE_PATH,
+                        GrapeFruit.ANIMATION_SPEED, GrapeFruit.TOTAL_FRAMES, GrapeFruit.POINTS,
+                        GrapeFruit.FRUIT_SIZE, GrapeFruit.FRUIT_SIZE + 5);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Agrega una fruta sin recolectar en una celda
+     * @return la vista de la fruta
+     */
+    Fruit add(int gridX, int gridY) {
+        if (size == x.length) {
+            grow(size * 2);
+        }
+        int i = size++;
+        this.gridX[i] = gridX;
+        this.gridY[i] = gridY;
+        x[i] = grid.gridToPixelX(gridX);
+        y[i] = grid.gridToPixelY(gridY);
+        animationFrame[i] = 0;
+        animationCounter[i] = 0;
+        collected[i] = false;
+        return new View(i);
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        gridX = Arrays.copyOf(gridX, capacity);
+        gridY = Arrays.copyOf(gridY, capacity);
+        animationFrame = Arrays.copyOf(animationFrame, capacity);
+        animationCounter = Arrays.copyOf(animationCounter, capacity);
+        collected = Arrays.copyOf(collected, capacity);
+    }
+
+    /**
+     * Avanza la animacion de todas las frutas sin recolectar
+     */
+    void update() {
+        for (int i = 0; i < size; i++) {
+            if (!collected[i] && ++animationCounter[i] >= animationSpeed) {
+                animationCounter[i] = 0;
+                if (++animationFrame[i] >= totalFrames) {
+                    animationFrame[i] = 0;
+                }
+            }
+        }
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Una fruta del almacen vista como Fruit (para dibujar, guardar y la IA)
+     */
+    final class View implements Fruit {
+        private final int index;
+
+        private View(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void update() {
+            // Las frutas del almacen se animan todas juntas en FruitStore.update
+        }
+
+        @Override
+        public int getX() {
+            return x[index];
+        }
+
+        @Override
+        public int getY() {
+            return y[index];
+        }
+
+        @Override
+        public int getWidth() {
+            return width;
+        }
+
+        @Override
+        public int getHeight() {
+            return height;
+        }
+
+        @Override
+        public Point getGridPosition() {
+            return new Point(gridX[index], gridY[index]);
+        }
+
+        @Override
+        public boolean isCollected() {
+            return collected[index];
+        }
+
+        @Override
+        public void collect() {
+            collected[index] = true;
+            System.out.println(name + " recolectada en posicion: (" + gridX[index] + ", " + gridY[index]
+                    + ") (+" + points + " puntos)");
+        }
+
+        @Override
+        public SpriteFrame getCurrentSprite() {
+            return sprites.length > 0 ? sprites[animationFrame[index]] : null;
+        }
+
+        @Override
+        public FruitType getType() {
+            return type;
+        }
+
+        @Override
+        public boolean collidesWith(int playerX, int playerY, int playerWidth, int playerHeight) {
+            return !collected[index]
+                    && grid.pixelToGridX(playerX) == gridX[index]
+                    && grid.pixelToGridY(playerY) == gridY[index];
+        }
+
+        @Override
+        public int getPoints() {
+            return points;
+        }
+    }
+}
@@ -28,19 +28,16 @@ public class GameCollisionDetector implements CollisionDetector {
 
     @Override
     public boolean canMove(int fromGridX, int fromGridY, Player.Direction direction) {
-        Point nextPos = grid.getNextGridPosition(fromGridX, fromGridY, direction);
-        return !isBlocked(nextPos.x, nextPos.y);
+        return !isBlocked(fromGridX + grid.getDeltaX(direction), fromGridY + grid.getDeltaY(direction));
     }
 
     @Override
     public Point getValidNextPosition(int currentGridX, int currentGridY, Player.Direction direction) {
-        Point nextPos = grid.getNextGridPosition(currentGridX, currentGridY, direction);
-
         // Si la siguiente posicion esta bloqueada, retornar la actual
-        if (isBlocked(nextPos.x, nextPos.y)) {
+        if (!canMove(currentGridX, currentGridY, direction)) {
             return new Point(currentGridX, currentGridY);
         }
 
-        return nextPos;
+        return grid.getNextGridPosition(currentGridX, currentGridY, direction);
     }
 }
\ No newline at end of file
@@ -13,6 +13,17 @@ public class GameGrid implements GridSystem {
     private final int gridWidth;
     private final int gridHeight;
 
+    // Tablas de desplazamiento indexadas por Player.Direction.ordinal()
+    private static final int[] DELTA_X = new int[Player.Direction.values().length];
+    private static final int[] DELTA_Y = new int[Player.Direction.values().length];
+
+    static {
+        DELTA_Y[Player.Direction.UP.ordinal()] = -1;
+        DELTA_Y[Player.Direction.DOWN.ordinal()] = 1;
+        DELTA_X[Player.Direction.LEFT.ordinal()] = -1;
+        DELTA_X[Player.Direction.RIGHT.ordinal()] = 1;
+    }
+
     public GameGrid(int mapWidth, int mapHeight, int cellSize) {
         this.mapWidth = mapWidth;
         this.mapHeight = mapHeight;
@@ -65,27 +76,52 @@ public class GameGrid implements GridSystem {
 
     @Override
     public Point getNextGridPosition(int currentGridX, int currentGridY, Player.Direction direction) {
-        int nextX = currentGridX;
-        int nextY = currentGridY;
-
-        switch (direction) {
-            case UP:
-                nextY--;
-                break;
-            case DOWN:
-                nextY++;
-                break;
-            case LEFT:
-                nextX--;
-                break;
-            case RIGHT:
-                nextX++;
-                break;
-            case IDLE_DOWN:
-                // No se mueve en idle
-                break;
-        }
-
-        return new Point(nextX, nextY);
+        // Las direcciones idle no se mueven
+        return new Point(currentGridX + getDeltaX(direction), currentGridY + getDeltaY(direction));
+    }
+
+    @Override
+    public int pixelToGridX(int pixelX) {
+        return pixelX / cellSize;
+    }
+
+    @Override
+    public int pixelToGridY(int pixelY) {
+        return pixelY / cellSize;
+    }
+
+    @Override
+    public int gridToPixelX(int gridX) {
+        return gridX * cellSize;
+    }
+
+    @Override
+    public int gridToPixelY(int gridY) {
+        return gridY * cellSize;
+    }
+
+    @Override
+    public int toCellIndex(int gridX, int gridY) {
+        return gridY * gridWidth + gridX;
+    }
+
+    @Override
+    public int cellX(int cellIndex) {
+        return cellIndex % gridWidth;
+    }
+
+    @Override
+    public int cellY(int cellIndex) {
+        return cellIndex / gridWidth;
+    }
+
+    @Override
+    public int getDeltaX(Player.Direction direction) {
+        return DELTA_X[direction.ordinal()];
+    }
+
+    @Override
+    public int getDeltaY(Player.Direction direction) {
+        return DELTA_Y[direction.ordinal()];
     }
 }
\ No newline at end of file
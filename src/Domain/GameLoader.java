@@ -1,7 +1,5 @@
 package Domain;
 
-import java.awt.Point;
-
 /**
  * Responsable de cargar partidas guardadas y reconstruir el estado del juego
  */
@@ -36,59 +34,61 @@ public class GameLoader {
         return saveData.getRemainingTime();
     }
 
+    /**
+     * Nivel de la partida; los guardados anteriores a los archivos de nivel son del nivel 1
+     */
+    public String getLevelId() {
+        String levelId = saveData.getLevelId();
+        return levelId != null ? levelId : LevelLoader.DEFAULT_LEVEL;
+    }
+
+    public int getFruitCount() {
+        return saveData.getFruitCount();
+    }
+
     /**
      * Carga los bloques de hielo en el mapa
      */
     public void loadIceBlocks(GameMap gameMap) {
-        for (GameSaveData.IceBlockData iceData : saveData.getIceBlocksData()) {
-            Point pixelPos = gameMap.getGrid().gridToPixel(iceData.getGridX(), iceData.getGridY());
-            Block ice = new SolidIceBlock(pixelPos.x, pixelPos.y);
-            gameMap.getBlocks().add(ice);
+        int count = saveData.getIceBlockCount();
+        for (int i = 0; i < count; i++) {
+            if (saveData.getIceBlockType(i) == Block.BlockType.ICE) {
+                gameMap.createSolidIceAt(saveData.getIceBlockX(i), saveData.getIceBlockY(i));
+            }
         }
-        System.out.println("Bloques de hielo cargados: " + saveData.getIceBlocksData().size());
+        System.out.println("Bloques de hielo cargados: " + count);
     }
 
     /**
      * Carga las frutas en el gestor de frutas
      */
-    public void loadFruits(FruitManager fruitManager, GridSystem grid) {
-        for (GameSaveData.FruitData fruitData : saveData.getFruitsData()) {
-            Fruit fruit = createFruit(fruitData, grid);
+    public void loadFruits(FruitManager fruitManager) {
+        int count = saveData.getFruitCount();
+        for (int i = 0; i < count; i++) {
+            Fruit fruit = fruitManager.createFruit(saveData.getFruitType(i), saveData.getFruitX(i), saveData.getFruitY(i));
 
             if (fruit != null) {
-                if (fruitData.isCollected()) {
+                if (saveData.isFruitCollected(i)) {
                     fruit.collect();
                 }
                 fruitManager.addFruit(fruit);
             }
         }
-        System.out.println("Frutas cargadas: " + saveData.getFruitsData().size());
+        System.out.println("Frutas cargadas: " + count);
     }
 
     /**
      * Carga los enemigos en el gestor de enemigos
      */
     public void loadEnemies(EnemyManager enemyManager) {
-        for (GameSaveData.EnemyData enemyData : saveData.getEnemiesData()) {
-            if (enemyData.isActive() && enemyData.getEnemyType().equals("TROLL")) {
-                enemyManager.createTroll(enemyData.getGridX(), enemyData.getGridY());
+        int count = saveData.getEnemyCount();
+        for (int i = 0; i < count; i++) {
+            if (saveData.isEnemyActive(i)) {
+                enemyManager.createEnemy(saveData.getEnemyType(i), saveData.getEnemyX(i), saveData.getEnemyY(i),
+                        saveData.isEnemyChasing(i));
             }
         }
-        System.out.println("Enemigos cargados: " + saveData.getEnemiesData().size());
-    }
-
-    private Fruit createFruit(GameSaveData.FruitData fruitData, GridSystem grid) {
-        String type = fruitData.getFruitType();
-        int gridX = fruitData.getGridX();
-        int gridY = fruitData.getGridY();
-
-        if (type.equals("BANANA")) {
-            return new BananaFruit(gridX, gridY, grid);
-        } else if (type.equals("GRAPE")) {
-            return new GrapeFruit(gridX, gridY, grid);
-        }
-
-        return null;
+        System.out.println("Enemigos cargados: " + count);
     }
 
     /**
@@ -1,27 +1,50 @@
 package Domain;
 
 import java.awt.Point;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Maneja el mapa del juego, bloques y muros usando un sistema de cuadricula.
+ * Los hielos destruidos vuelven a un pool y se reutilizan al congelar de nuevo,
+ * asi congelar y romper en estado estable no crea objetos.
  */
 public class GameMap {
     private List<Block> blocks;
     private List<Wall> walls;
+    private List<Wall> readOnlyWalls;
     private GridSystem grid;
 
-    // Mapa para verificar rapidamente si hay un bloque en una celda
-    private Map<Point, Block> gridOccupancy;
+    // Ocupacion de bloques por celda, indexada con GridSystem.toCellIndex
+    private final Block[] cells;
+
+    // Mascara inmutable de celdas ocupadas por muros, se regenera al cambiar los muros
+    private boolean[] wallMask;
+
+    // Se incrementa cada vez que cambia la parte estatica del mapa
+    // (muros o bloques que no estan animandose), para invalidar caches de dibujo
+    private int layoutVersion;
+
+    // Distancias hacia el jugador para los enemigos que lo persiguen; se le avisa cada cambio de ocupacion
+    private final FlowField flowField;
+
+    // Hielos destruidos listos para reutilizar, y cuantos pedidos salieron del pool o crearon uno nuevo
+    private final ArrayDeque<IceBlock> icePool = new ArrayDeque<>();
+    private final ArrayDeque<SolidIceBlock> solidIcePool = new ArrayDeque<>();
+    private long poolHits;
+    private long poolMisses;
 
     public GameMap(int mapWidth, int mapHeight, int cellSize) {
         this.grid = new GameGrid(mapWidth, mapHeight, cellSize);
         this.blocks = new ArrayList<>();
         this.walls = new ArrayList<>();
-        this.gridOccupancy = new HashMap<>();
+        this.readOnlyWalls = Collections.unmodifiableList(walls);
+        this.cells = new Block[grid.getGridWidth() * grid.getGridHeight()];
+        this.wallMask = new boolean[cells.length];
+        this.flowField = new FlowField(this);
     }
 
     /**
@@ -57,159 +80,129 @@ public class GameMap {
             walls.add(new VerticalWall(gridWidth - 1, y, grid, "Images/Resources/Muro.png"));
         }
 
+        rebuildWallMask();
         System.out.println("Muros del borde inicializados: " + walls.size() + " muros");
     }
 
     /**
-     * Crea hielos iniciales en posiciones especificas del mapa
-     * Estos hielos comienzan en estado solido (sprite 7)
+     * Marca en una mascara nueva todas las celdas que ocupan los muros actuales.
+     * Debe llamarse cada vez que cambia la lista de muros.
+     */
+    private void rebuildWallMask() {
+        boolean[] mask = new boolean[cells.length];
+        for (Wall wall : walls) {
+            Point origin = wall.getGridPosition();
+            for (int dy = 0; dy < wall.getGridHeight(); dy++) {
+                for (int dx = 0; dx < wall.getGridWidth(); dx++) {
+                    int gridX = origin.x + dx;
+                    int gridY = origin.y + dy;
+                    if (grid.isInBounds(gridX, gridY)) {
+                        mask[cellIndex(gridX, gridY)] = true;
+                    }
+                }
+            }
+        }
+        wallMask = mask;
+        layoutVersion++;
+        flowField.invalidate();
+    }
+
+    /**
+     * Coloca los muros interiores y los hielos iniciales (solidos) de un nivel.
+     * El marco del borde ya lo pone initializeBorderWalls.
      */
-    public void createInitialIceLayout() {
-        // ORDEN: De arriba hacia abajo, de izquierda a derecha
-        // Esto asegura que los hielos inferiores se dibujen sobre los superiores
-
-        // Fila 1 (borde superior) - de izquierda a derecha
-        createSolidIceAt(2, 1);
-        createSolidIceAt(3, 1);
-        createSolidIceAt(4, 1);
-        createSolidIceAt(5, 1);
-        createSolidIceAt(6, 1);
-        createSolidIceAt(7, 1);
-        createSolidIceAt(8, 1);
-        createSolidIceAt(9, 1);
-        createSolidIceAt(10, 1);
-        createSolidIceAt(11, 1);
-        createSolidIceAt(12, 1);
-        createSolidIceAt(13, 1);
-        createSolidIceAt(14, 1);
-        createSolidIceAt(15, 1);
-
-        // Columna 1 (borde izquierdo) - de arriba hacia abajo
-        createSolidIceAt(1, 2);
-        createSolidIceAt(1, 3);
-        createSolidIceAt(1, 4);
-        createSolidIceAt(1, 5);
-        createSolidIceAt(1, 6);
-        createSolidIceAt(1, 7);
-        createSolidIceAt(1, 8);
-        createSolidIceAt(1, 9);
-        createSolidIceAt(1, 10);
-        createSolidIceAt(1, 11);
-        createSolidIceAt(1, 12);
-        createSolidIceAt(1, 13);
-        createSolidIceAt(1, 14);
-        createSolidIceAt(1, 15);
-
-        // Columna 16 (borde derecho) - de arriba hacia abajo
-        createSolidIceAt(16, 2);
-        createSolidIceAt(16, 3);
-        createSolidIceAt(16, 4);
-        createSolidIceAt(16, 5);
-        createSolidIceAt(16, 6);
-        createSolidIceAt(16, 7);
-        createSolidIceAt(16, 8);
-        createSolidIceAt(16, 9);
-        createSolidIceAt(16, 10);
-        createSolidIceAt(16, 11);
-        createSolidIceAt(16, 12);
-        createSolidIceAt(16, 13);
-        createSolidIceAt(16, 14);
-        createSolidIceAt(16, 15);
-
-        // Bloque superior izquierdo (fila 5) - de izquierda a derecha
-        createSolidIceAt(4, 5);
-        createSolidIceAt(5, 5);
-        createSolidIceAt(6, 5);
-
-        // Bloque superior derecho (fila 5) - de izquierda a derecha
-        createSolidIceAt(11, 5);
-        createSolidIceAt(12, 5);
-        createSolidIceAt(13, 5);
-
-        // Columna 4 (fila 6) - individual
-        createSolidIceAt(4, 6);
-
-        // Columna 13 (fila 6) - individual
-        createSolidIceAt(13, 6);
-
-        // Bloque medio izquierdo (columna 4, filas 7-9) - de arriba hacia abajo
-        createSolidIceAt(4, 7);
-        createSolidIceAt(4, 8);
-        createSolidIceAt(4, 9);
-
-        // Bloque medio derecho (columna 13, filas 7-9) - de arriba hacia abajo
-        createSolidIceAt(13, 7);
-        createSolidIceAt(13, 8);
-        createSolidIceAt(13, 9);
-
-        // Columna 4 (fila 10) - individual
-        createSolidIceAt(4, 10);
-
-        // Columna 13 (fila 10) - individual
-        createSolidIceAt(13, 10);
-
-        // Bloque inferior izquierdo (columna 4, fila 11) - individual
-        createSolidIceAt(4, 11);
-
-        // Bloque inferior derecho (columna 13, fila 11) - individual
-        createSolidIceAt(13, 11);
-
-        // Fila 12 - de izquierda a derecha (todos los bloques de esta fila)
-        createSolidIceAt(4, 12);
-        createSolidIceAt(5, 12);
-        createSolidIceAt(6, 12);
-        createSolidIceAt(11, 12);
-        createSolidIceAt(12, 12);
-        createSolidIceAt(13, 12);
-
-        // Fila 16 (borde inferior) - de izquierda a derecha
-        createSolidIceAt(2, 16);
-        createSolidIceAt(3, 16);
-        createSolidIceAt(4, 16);
-        createSolidIceAt(5, 16);
-        createSolidIceAt(6, 16);
-        createSolidIceAt(7, 16);
-        createSolidIceAt(8, 16);
-        createSolidIceAt(9, 16);
-        createSolidIceAt(10, 16);
-        createSolidIceAt(11, 16);
-        createSolidIceAt(12, 16);
-        createSolidIceAt(13, 16);
-        createSolidIceAt(14, 16);
-        createSolidIceAt(15, 16);
-        createSolidIceAt(16, 16);
-
-        System.out.println("Hielos iniciales creados: " + blocks.size() + " bloques");
+    public void applyLevel(LevelTemplate level) {
+        applyWalls(level);
+
+        // La plantilla ya viene de arriba hacia abajo y de izquierda a derecha,
+        // asi los hielos inferiores se dibujan sobre los superiores
+        for (int i = 0; i < level.getIceCount(); i++) {
+            createSolidIceAt(level.getIceX(i), level.getIceY(i));
+        }
+
+        System.out.println("Nivel " + level.getName() + ": " + blocks.size() + " hielos, "
+                + level.getWallCount() + " muros interiores");
+    }
+
+    /**
+     * Coloca solo los muros interiores de un nivel (al cargar una partida los hielos vienen del guardado)
+     */
+    public void applyWalls(LevelTemplate level) {
+        int wallCount = level.getWallCount();
+        if (wallCount == 0) {
+            return;
+        }
+        for (int i = 0; i < wallCount; i++) {
+            walls.add(new HorizontalWall(level.getWallX(i), level.getWallY(i), grid,
+                    "Images/Resources/MuroInferior.png"));
+        }
+        rebuildWallMask();
     }
 
     /**
      * Crea un bloque de hielo solido en una posicion de grid especifica
      */
-    private void createSolidIceAt(int gridX, int gridY) {
-        Point pixelPos = grid.gridToPixel(gridX, gridY);
-        Block ice = new SolidIceBlock(pixelPos.x, pixelPos.y);
+    public void createSolidIceAt(int gridX, int gridY) {
+        Block ice = obtainSolidIce(grid.gridToPixelX(gridX), grid.gridToPixelY(gridY));
         blocks.add(ice);
-        gridOccupancy.put(new Point(gridX, gridY), ice);
+        cells[cellIndex(gridX, gridY)] = ice;
+        layoutVersion++;
+        flowField.cellChanged(gridX, gridY, hasBlockAtGrid(gridX, gridY));
     }
 
     /**
      * Crear hielo en una direccion hasta encontrar limite o obstaculo
      */
     public void createIceInDirection(int playerPixelX, int playerPixelY, Player.Direction direction) {
-        Point playerGrid = grid.pixelToGrid(playerPixelX, playerPixelY);
-        Point currentGrid = grid.getNextGridPosition(playerGrid.x, playerGrid.y, direction);
+        int dx = grid.getDeltaX(direction);
+        int dy = grid.getDeltaY(direction);
+        int gridX = grid.pixelToGridX(playerPixelX) + dx;
+        int gridY = grid.pixelToGridY(playerPixelY) + dy;
 
-        while (grid.isInBounds(currentGrid.x, currentGrid.y)) {
-            if (hasBlockAtGrid(currentGrid.x, currentGrid.y)) {
+        while (grid.isInBounds(gridX, gridY)) {
+            if (hasBlockAtGrid(gridX, gridY)) {
                 break;
             }
 
-            Point pixelPos = grid.gridToPixel(currentGrid.x, currentGrid.y);
-            Block newBlock = new IceBlock(pixelPos.x, pixelPos.y);
+            Block newBlock = obtainIce(grid.gridToPixelX(gridX), grid.gridToPixelY(gridY));
             blocks.add(newBlock);
-            gridOccupancy.put(new Point(currentGrid.x, currentGrid.y), newBlock);
+            cells[cellIndex(gridX, gridY)] = newBlock;
 
-            currentGrid = grid.getNextGridPosition(currentGrid.x, currentGrid.y, direction);
+            gridX += dx;
+            gridY += dy;
+        }
+    }
+
+    private IceBlock obtainIce(int x, int y) {
+        IceBlock ice = icePool.poll();
+        if (ice == null) {
+            poolMisses++;
+            return new IceBlock(x, y);
+        }
+        poolHits++;
+        ice.reset(x, y);
+        return ice;
+    }
+
+    private SolidIceBlock obtainSolidIce(int x, int y) {
+        SolidIceBlock ice = solidIcePool.poll();
+        if (ice == null) {
+            poolMisses++;
+            return new SolidIceBlock(x, y);
+        }
+        poolHits++;
+        ice.reset(x, y);
+        return ice;
+    }
+
+    /**
+     * Devuelve un hielo que ya no esta en el mapa a su pool
+     */
+    private void recycle(Block block) {
+        if (block instanceof IceBlock) {
+            icePool.push((IceBlock) block);
+        } else if (block instanceof SolidIceBlock) {
+            solidIcePool.push((SolidIceBlock) block);
         }
     }
 
@@ -217,24 +210,31 @@ public class GameMap {
      * Destruye bloques de hielo en una direccion
      */
     public boolean destroyIceInDirection(int playerPixelX, int playerPixelY, Player.Direction direction) {
-        Point playerGrid = grid.pixelToGrid(playerPixelX, playerPixelY);
-        Point currentGrid = grid.getNextGridPosition(playerGrid.x, playerGrid.y, direction);
+        int dx = grid.getDeltaX(direction);
+        int dy = grid.getDeltaY(direction);
+        int gridX = grid.pixelToGridX(playerPixelX) + dx;
+        int gridY = grid.pixelToGridY(playerPixelY) + dy;
 
         boolean foundIce = false;
 
-        while (grid.isInBounds(currentGrid.x, currentGrid.y)) {
-            Point gridPoint = new Point(currentGrid.x, currentGrid.y);
-            Block block = gridOccupancy.get(gridPoint);
+        while (grid.isInBounds(gridX, gridY)) {
+            Block block = cells[cellIndex(gridX, gridY)];
 
             if (block != null && block.getType() == Block.BlockType.ICE) {
+                boolean wasSolid = block.isSolid();
                 block.startDestroy();
+                if (wasSolid) {
+                    layoutVersion++;
+                    flowField.cellChanged(gridX, gridY, hasBlockAtGrid(gridX, gridY));
+                }
                 foundIce = true;
-                System.out.println("Destruyendo hielo en: (" + currentGrid.x + ", " + currentGrid.y + ")");
-            } else if (hasBlockAtGrid(currentGrid.x, currentGrid.y)) {
+                System.out.println("Destruyendo hielo en: (" + gridX + ", " + gridY + ")");
+            } else if (hasBlockAtGrid(gridX, gridY)) {
                 break;
             }
 
-            currentGrid = grid.getNextGridPosition(currentGrid.x, currentGrid.y, direction);
+            gridX += dx;
+            gridY += dy;
         }
 
         return foundIce;
@@ -244,23 +244,45 @@ public class GameMap {
      * Verifica si hay un bloque o muro en una posicion de cuadricula
      */
     public boolean hasBlockAtGrid(int gridX, int gridY) {
-        for (Wall wall : walls) {
-            if (wall.occupiesCell(gridX, gridY)) {
-                return true;
-            }
+        if (!grid.isInBounds(gridX, gridY)) {
+            return false;
+        }
+
+        int index = cellIndex(gridX, gridY);
+        if (wallMask[index]) {
+            return true;
         }
 
-        Point gridPoint = new Point(gridX, gridY);
-        Block block = gridOccupancy.get(gridPoint);
+        Block block = cells[index];
         return block != null && block.isSolid();
     }
 
+    /**
+     * Verifica si hay un muro en una posicion de cuadricula
+     */
+    public boolean hasWallAtGrid(int gridX, int gridY) {
+        return grid.isInBounds(gridX, gridY) && wallMask[cellIndex(gridX, gridY)];
+    }
+
+    /**
+     * Obtiene el bloque registrado en una celda, o null si esta vacia o fuera del mapa
+     */
+    public Block getBlockAtGrid(int gridX, int gridY) {
+        if (!grid.isInBounds(gridX, gridY)) {
+            return null;
+        }
+        return cells[cellIndex(gridX, gridY)];
+    }
+
+    private int cellIndex(int gridX, int gridY) {
+        return grid.toCellIndex(gridX, gridY);
+    }
+
     /**
      * Verifica si hay un bloque en una posicion de pixeles
      */
     public boolean hasBlockAtPixel(int pixelX, int pixelY) {
-        Point gridPos = grid.pixelToGrid(pixelX, pixelY);
-        return hasBlockAtGrid(gridPos.x, gridPos.y);
+        return hasBlockAtGrid(grid.pixelToGridX(pixelX), grid.pixelToGridY(pixelY));
     }
 
     /**
@@ -269,8 +291,7 @@ public class GameMap {
     public List<Block> getBottomLayerBlocks() {
         List<Block> bottomBlocks = new ArrayList<>();
         for (Block block : blocks) {
-            Point gridPos = grid.pixelToGrid(block.getX(), block.getY());
-            if (gridPos.y == 16) {
+            if (isBottomLayer(block)) {
                 bottomBlocks.add(block);
             }
         }
@@ -283,8 +304,7 @@ public class GameMap {
     public List<Block> getTopLayerBlocks() {
         List<Block> topBlocks = new ArrayList<>();
         for (Block block : blocks) {
-            Point gridPos = grid.pixelToGrid(block.getX(), block.getY());
-            if (gridPos.y != 16) {
+            if (!isBottomLayer(block)) {
                 topBlocks.add(block);
             }
         }
@@ -295,42 +315,108 @@ public class GameMap {
      * Actualizar todos los bloques y limpiar los destruidos
      */
     public void update() {
-        List<Block> toRemove = new ArrayList<>();
-        List<Point> keysToRemove = new ArrayList<>();
-
-        for (Block block : blocks) {
+        // Los que siguen se compactan al principio de la lista, en el mismo orden
+        int kept = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            boolean wasAnimating = block.isAnimating();
             block.update();
 
-            if (block.isDestroyed()) {
-                toRemove.add(block);
+            if (wasAnimating && !block.isAnimating() && !block.isDestroyed()) {
+                // Termino de crearse: pasa a formar parte de la capa estatica y bloquea su celda
+                layoutVersion++;
+                int gridX = grid.pixelToGridX(block.getX());
+                int gridY = grid.pixelToGridY(block.getY());
+                flowField.cellChanged(gridX, gridY, hasBlockAtGrid(gridX, gridY));
+            }
 
-                for (Map.Entry<Point, Block> entry : gridOccupancy.entrySet()) {
-                    if (entry.getValue() == block) {
-                        keysToRemove.add(entry.getKey());
-                        break;
-                    }
+            if (block.isDestroyed()) {
+                // Un bloque destruido vuelve a su posicion base, que coincide con su celda.
+                // Solo se libera si la celda no fue ocupada por un hielo nuevo.
+                int index = cellIndex(grid.pixelToGridX(block.getX()), grid.pixelToGridY(block.getY()));
+                if (index >= 0 && index < cells.length && cells[index] == block) {
+                    cells[index] = null;
                 }
+                recycle(block);
+            } else {
+                blocks.set(kept++, block);
             }
         }
 
-        blocks.removeAll(toRemove);
-        for (Point key : keysToRemove) {
-            gridOccupancy.remove(key);
+        while (blocks.size() > kept) {
+            blocks.remove(blocks.size() - 1);
         }
     }
 
+    /**
+     * Version de la parte estatica del mapa. Cambia cuando se agrega o quita un muro,
+     * o cuando un bloque empieza o deja de animarse.
+     */
+    public int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Indica si un bloque se dibuja en la capa inferior (fila 16, debajo de los muros)
+     */
+    public boolean isBottomLayer(Block block) {
+        return grid.pixelToGridY(block.getY()) == 16;
+    }
+
     public List<Block> getBlocks() {
         return blocks;
     }
 
+    /**
+     * Obtiene los muros para dibujarlos (solo lectura, la mascara depende de esta lista)
+     */
     public List<Wall> getWalls() {
-        return walls;
+        return readOnlyWalls;
     }
 
     public void clear() {
+        for (Block block : blocks) {
+            recycle(block);
+        }
         blocks.clear();
-        gridOccupancy.clear();
+        Arrays.fill(cells, null);
         walls.clear();
+        rebuildWallMask();
+        layoutVersion++;
+    }
+
+    /**
+     * Hielos que se sacaron del pool en lugar de crearse
+     */
+    public long getPoolHits() {
+        return poolHits;
+    }
+
+    /**
+     * Hielos que se crearon porque el pool estaba vacio
+     */
+    public long getPoolMisses() {
+        return poolMisses;
+    }
+
+    /**
+     * Fraccion de hielos reutilizados, entre 0 y 1
+     */
+    public double getPoolHitRate() {
+        long total = poolHits + poolMisses;
+        return total == 0 ? 0.0 : (double) poolHits / total;
+    }
+
+    public String getPoolReport() {
+        return String.format("Pool de hielo: %d reutilizados, %d creados (%.0f%% aciertos), %d libres",
+                poolHits, poolMisses, getPoolHitRate() * 100, icePool.size() + solidIcePool.size());
+    }
+
+    /**
+     * Campo de distancias hacia el jugador compartido por los enemigos que lo persiguen
+     */
+    public FlowField getFlowField() {
+        return flowField;
     }
 
     public GridSystem getGrid() {
@@ -1,126 +1,341 @@
 package Domain;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 
 /**
- * Maneja el guardado y carga del estado del juego
- * SIN clases extra - usa Maps para almacenar datos
+ * Maneja el guardado y carga del estado del juego.
+ * Los datos se guardan tipados, con arreglos primitivos para hielos, frutas y enemigos,
+ * y se escriben en un formato binario versionado con DataOutputStream:
+ *
+ *   int magic ("BICE"), short version,
+ *   UTF nombre, UTF sabor, UTF nivel (desde la version 2),
+ *   int x, int y, int puntaje, int recolectadas, int total, long tiempo,
+ *   int hielos   { short x, short y, byte tipo }
+ *   int frutas   { short x, short y, byte tipo, byte recolectada }
+ *   int enemigos { short x, short y, byte tipo, byte activo, byte direccion,
+ *                  byte persigue (desde la version 3) }
+ *
+ * Los tipos se guardan por ordinal: los enums solo deben crecer agregando valores al final.
+ * Los .sav antiguos (serializacion de Java) se siguen pudiendo leer y se convierten
+ * al formato nuevo la primera vez que se cargan.
  */
 public class GameSaveData implements Serializable {
     private static final long serialVersionUID = 1L;
 
-    // Todos los datos en un Map
-    private Map<String, Object> gameData;
+    private static final int MAGIC = 0x42494345;
+    public static final int FORMAT_VERSION = 3;
+
+    // Primeros bytes de un archivo escrito con ObjectOutputStream
+    private static final int JAVA_SERIALIZATION_MAGIC = 0xACED;
+
+    // Campos de las dos versiones antiguas: la de campos tipados y la de un Map
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("gameData", Map.class),
+            new ObjectStreamField("playerName", String.class),
+            new ObjectStreamField("playerFlavor", String.class),
+            new ObjectStreamField("playerX", int.class),
+            new ObjectStreamField("playerY", int.class),
+            new ObjectStreamField("score", int.class),
+            new ObjectStreamField("collectedFruits", int.class),
+            new ObjectStreamField("totalFruits", int.class),
+            new ObjectStreamField("remainingTime", long.class),
+            new ObjectStreamField("iceBlocksData", List.class),
+            new ObjectStreamField("fruitsData", List.class),
+            new ObjectStreamField("enemiesData", List.class)
+    };
+
+    // Solo se permiten las clases que aparecen en los guardados antiguos
+    private static final ObjectInputFilter LEGACY_FILTER = ObjectInputFilter.Config.createFilter(
+            "Domain.GameSaveData;Domain.GameSaveData$*;java.util.ArrayList;java.util.HashMap;java.util.Map$Entry;"
+                    + "java.lang.Object;java.lang.String;java.lang.Integer;java.lang.Long;java.lang.Boolean;java.lang.Number;"
+                    + "maxdepth=10;!*");
+
+    private static final Fruit.FruitType[] FRUIT_TYPES = Fruit.FruitType.values();
+    private static final Enemy.EnemyType[] ENEMY_TYPES = Enemy.EnemyType.values();
+    private static final Block.BlockType[] BLOCK_TYPES = Block.BlockType.values();
+    private static final Player.Direction[] DIRECTIONS = Player.Direction.values();
+
+    // Datos del jugador
+    private String playerName;
+    private String playerFlavor;
+    private String levelId;
+    private int playerX;
+    private int playerY;
+    private int score;
+
+    // Datos del nivel
+    private int collectedFruits;
+    private int totalFruits;
+    private long remainingTime;
+
+    // Hielos
+    private int iceCount;
+    private int[] iceX = new int[16];
+    private int[] iceY = new int[16];
+    private byte[] iceType = new byte[16];
+
+    // Frutas
+    private int fruitCount;
+    private int[] fruitX = new int[16];
+    private int[] fruitY = new int[16];
+    private byte[] fruitType = new byte[16];
+    private boolean[] fruitCollected = new boolean[16];
+
+    // Enemigos
+    private int enemyCount;
+    private int[] enemyX = new int[4];
+    private int[] enemyY = new int[4];
+    private byte[] enemyType = new byte[4];
+    private boolean[] enemyActive = new boolean[4];
+    private byte[] enemyDirection = new byte[4];
+    private boolean[] enemyChasing = new boolean[4];
 
     public GameSaveData() {
-        gameData = new HashMap<>();
-        gameData.put("fruits", new ArrayList<Map<String, Object>>());
-        gameData.put("enemies", new ArrayList<Map<String, Object>>());
-        gameData.put("iceBlocks", new ArrayList<Map<String, Object>>());
     }
 
     // Datos del jugador
-    public void setPlayerName(String name) { gameData.put("playerName", name); }
-    public String getPlayerName() { return (String) gameData.get("playerName"); }
+    public void setPlayerName(String name) { playerName = name; }
+    public String getPlayerName() { return playerName; }
 
-    public void setPlayerFlavor(String flavor) { gameData.put("playerFlavor", flavor); }
-    public String getPlayerFlavor() { return (String) gameData.get("playerFlavor"); }
+    public void setPlayerFlavor(String flavor) { playerFlavor = flavor; }
+    public String getPlayerFlavor() { return playerFlavor; }
 
-    public void setPlayerX(int x) { gameData.put("playerX", x); }
-    public int getPlayerX() { return (Integer) gameData.get("playerX"); }
+    public void setLevelId(String levelId) { this.levelId = levelId; }
+    public String getLevelId() { return levelId; }
 
-    public void setPlayerY(int y) { gameData.put("playerY", y); }
-    public int getPlayerY() { return (Integer) gameData.get("playerY"); }
+    public void setPlayerX(int x) { playerX = x; }
+    public int getPlayerX() { return playerX; }
 
-    public void setScore(int score) { gameData.put("score", score); }
-    public int getScore() { return (Integer) gameData.get("score"); }
+    public void setPlayerY(int y) { playerY = y; }
+    public int getPlayerY() { return playerY; }
+
+    public void setScore(int score) { this.score = score; }
+    public int getScore() { return score; }
 
     // Datos del nivel
-    public void setCollectedFruits(int count) { gameData.put("collectedFruits", count); }
-    public int getCollectedFruits() { return (Integer) gameData.get("collectedFruits"); }
+    public void setCollectedFruits(int count) { collectedFruits = count; }
+    public int getCollectedFruits() { return collectedFruits; }
 
-    public void setTotalFruits(int count) { gameData.put("totalFruits", count); }
-    public int getTotalFruits() { return (Integer) gameData.get("totalFruits"); }
+    public void setTotalFruits(int count) { totalFruits = count; }
+    public int getTotalFruits() { return totalFruits; }
 
-    public void setRemainingTime(long time) { gameData.put("remainingTime", time); }
-    public long getRemainingTime() { return (Long) gameData.get("remainingTime"); }
+    public void setRemainingTime(long time) { remainingTime = time; }
+    public long getRemainingTime() { return remainingTime; }
 
     // Agregar fruta
-    public void addFruit(int gridX, int gridY, boolean collected, String type) {
-        Map<String, Object> fruit = new HashMap<>();
-        fruit.put("gridX", gridX);
-        fruit.put("gridY", gridY);
-        fruit.put("collected", collected);
-        fruit.put("type", type);
+    public void addFruit(int gridX, int gridY, boolean collected, Fruit.FruitType type) {
+        if (fruitCount == fruitX.length) {
+            int size = fruitCount * 2;
+            fruitX = Arrays.copyOf(fruitX, size);
+            fruitY = Arrays.copyOf(fruitY, size);
+            fruitType = Arrays.copyOf(fruitType, size);
+            fruitCollected = Arrays.copyOf(fruitCollected, size);
+        }
+        fruitX[fruitCount] = gridX;
+        fruitY[fruitCount] = gridY;
+        fruitType[fruitCount] = (byte) type.ordinal();
+        fruitCollected[fruitCount] = collected;
+        fruitCount++;
+    }
 
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> fruits = (List<Map<String, Object>>) gameData.get("fruits");
-        fruits.add(fruit);
+    public int getFruitCount() { return fruitCount; }
+    public int getFruitX(int i) { return fruitX[i]; }
+    public int getFruitY(int i) { return fruitY[i]; }
+    public Fruit.FruitType getFruitType(int i) { return FRUIT_TYPES[fruitType[i]]; }
+    public boolean isFruitCollected(int i) { return fruitCollected[i]; }
+
+    // Agregar enemigo
+    public void addEnemy(int gridX, int gridY, boolean active, Enemy.EnemyType type, Player.Direction direction) {
+        addEnemy(gridX, gridY, active, type, direction, false);
     }
 
-    // Obtener frutas
-    @SuppressWarnings("unchecked")
-    public List<Map<String, Object>> getFruits() {
-        return (List<Map<String, Object>>) gameData.get("fruits");
+    // Agregar enemigo indicando si persigue al jugador
+    public void addEnemy(int gridX, int gridY, boolean active, Enemy.EnemyType type, Player.Direction direction,
+                         boolean chasing) {
+        if (enemyCount == enemyX.length) {
+            int size = enemyCount * 2;
+            enemyX = Arrays.copyOf(enemyX, size);
+            enemyY = Arrays.copyOf(enemyY, size);
+            enemyType = Arrays.copyOf(enemyType, size);
+            enemyActive = Arrays.copyOf(enemyActive, size);
+            enemyDirection = Arrays.copyOf(enemyDirection, size);
+            enemyChasing = Arrays.copyOf(enemyChasing, size);
+        }
+        enemyX[enemyCount] = gridX;
+        enemyY[enemyCount] = gridY;
+        enemyType[enemyCount] = (byte) type.ordinal();
+        enemyActive[enemyCount] = active;
+        enemyDirection[enemyCount] = (byte) direction.ordinal();
+        enemyChasing[enemyCount] = chasing;
+        enemyCount++;
     }
 
-    // Agregar enemigo
-    public void addEnemy(int gridX, int gridY, boolean active, String type, String direction) {
-        Map<String, Object> enemy = new HashMap<>();
-        enemy.put("gridX", gridX);
-        enemy.put("gridY", gridY);
-        enemy.put("active", active);
-        enemy.put("type", type);
-        enemy.put("direction", direction);
+    public int getEnemyCount() { return enemyCount; }
+    public int getEnemyX(int i) { return enemyX[i]; }
+    public int getEnemyY(int i) { return enemyY[i]; }
+    public Enemy.EnemyType getEnemyType(int i) { return ENEMY_TYPES[enemyType[i]]; }
+    public boolean isEnemyActive(int i) { return enemyActive[i]; }
+    public Player.Direction getEnemyDirection(int i) { return DIRECTIONS[enemyDirection[i]]; }
+    public boolean isEnemyChasing(int i) { return enemyChasing[i]; }
+
+    // Agregar bloque de hielo
+    public void addIceBlock(int gridX, int gridY, Block.BlockType type) {
+        if (iceCount == iceX.length) {
+            int size = iceCount * 2;
+            iceX = Arrays.copyOf(iceX, size);
+            iceY = Arrays.copyOf(iceY, size);
+            iceType = Arrays.copyOf(iceType, size);
+        }
+        iceX[iceCount] = gridX;
+        iceY[iceCount] = gridY;
+        iceType[iceCount] = (byte) type.ordinal();
+        iceCount++;
+    }
+
+    public int getIceBlockCount() { return iceCount; }
+    public int getIceBlockX(int i) { return iceX[i]; }
+    public int getIceBlockY(int i) { return iceY[i]; }
+    public Block.BlockType getIceBlockType(int i) { return BLOCK_TYPES[iceType[i]]; }
+
+    /**
+     * Escribe los datos en el formato binario actual
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+
+        out.writeUTF(playerName != null ? playerName : "");
+        out.writeUTF(playerFlavor != null ? playerFlavor : "");
+        out.writeUTF(levelId != null ? levelId : "");
+        out.writeInt(playerX);
+        out.writeInt(playerY);
+        out.writeInt(score);
+        out.writeInt(collectedFruits);
+        out.writeInt(totalFruits);
+        out.writeLong(remainingTime);
+
+        out.writeInt(iceCount);
+        for (int i = 0; i < iceCount; i++) {
+            out.writeShort(iceX[i]);
+            out.writeShort(iceY[i]);
+            out.writeByte(iceType[i]);
+        }
+
+        out.writeInt(fruitCount);
+        for (int i = 0; i < fruitCount; i++) {
+            out.writeShort(fruitX[i]);
+            out.writeShort(fruitY[i]);
+            out.writeByte(fruitType[i]);
+            out.writeBoolean(fruitCollected[i]);
+        }
 
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> enemies = (List<Map<String, Object>>) gameData.get("enemies");
-        enemies.add(enemy);
+        out.writeInt(enemyCount);
+        for (int i = 0; i < enemyCount; i++) {
+            out.writeShort(enemyX[i]);
+            out.writeShort(enemyY[i]);
+            out.writeByte(enemyType[i]);
+            out.writeBoolean(enemyActive[i]);
+            out.writeByte(enemyDirection[i]);
+            out.writeBoolean(enemyChasing[i]);
+        }
     }
 
-    // Obtener enemigos
-    @SuppressWarnings("unchecked")
-    public List<Map<String, Object>> getEnemies() {
-        return (List<Map<String, Object>>) gameData.get("enemies");
+    /**
+     * Lee datos escritos con writeTo
+     * @throws IOException si el archivo no es un guardado o es de una version desconocida
+     */
+    public static GameSaveData readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("No es un archivo de guardado");
+        }
+        int version = in.readUnsignedShort();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Version de guardado no soportada: " + version);
+        }
+
+        GameSaveData data = new GameSaveData();
+        data.playerName = emptyToNull(in.readUTF());
+        data.playerFlavor = emptyToNull(in.readUTF());
+        if (version >= 2) {
+            data.levelId = emptyToNull(in.readUTF());
+        }
+        data.playerX = in.readInt();
+        data.playerY = in.readInt();
+        data.score = in.readInt();
+        data.collectedFruits = in.readInt();
+        data.totalFruits = in.readInt();
+        data.remainingTime = in.readLong();
+
+        int ice = readCount(in);
+        for (int i = 0; i < ice; i++) {
+            data.addIceBlock(in.readShort(), in.readShort(), BLOCK_TYPES[readCode(in, BLOCK_TYPES.length)]);
+        }
+
+        int fruits = readCount(in);
+        for (int i = 0; i < fruits; i++) {
+            int x = in.readShort();
+            int y = in.readShort();
+            Fruit.FruitType type = FRUIT_TYPES[readCode(in, FRUIT_TYPES.length)];
+            data.addFruit(x, y, in.readBoolean(), type);
+        }
+
+        int enemies = readCount(in);
+        for (int i = 0; i < enemies; i++) {
+            int x = in.readShort();
+            int y = in.readShort();
+            Enemy.EnemyType type = ENEMY_TYPES[readCode(in, ENEMY_TYPES.length)];
+            boolean active = in.readBoolean();
+            Player.Direction direction = DIRECTIONS[readCode(in, DIRECTIONS.length)];
+            boolean chasing = version >= 3 && in.readBoolean();
+            data.addEnemy(x, y, active, type, direction, chasing);
+        }
+
+        return data;
     }
 
-    // Agregar bloque de hielo
-    public void addIceBlock(int gridX, int gridY, String type) {
-        Map<String, Object> block = new HashMap<>();
-        block.put("gridX", gridX);
-        block.put("gridY", gridY);
-        block.put("type", type);
+    private static int readCount(DataInput in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > 1_000_000) {
+            throw new IOException("Cantidad invalida en el guardado: " + count);
+        }
+        return count;
+    }
 
-        @SuppressWarnings("unchecked")
-        List<Map<String, Object>> blocks = (List<Map<String, Object>>) gameData.get("iceBlocks");
-        blocks.add(block);
+    private static int readCode(DataInput in, int limit) throws IOException {
+        int code = in.readUnsignedByte();
+        if (code >= limit) {
+            throw new IOException("Tipo desconocido en el guardado: " + code);
+        }
+        return code;
     }
 
-    // Obtener bloques
-    @SuppressWarnings("unchecked")
-    public List<Map<String, Object>> getIceBlocks() {
-        return (List<Map<String, Object>>) gameData.get("iceBlocks");
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
     }
 
     /**
-     * Guarda el estado del juego en un archivo
+     * Guarda el estado del juego en un archivo.
+     * Se escribe primero en un temporal y luego se reemplaza, para no dejar archivos a medias.
+     * @param filepath ruta completa del archivo .sav
      */
-    public boolean saveToFile(String filename) {
+    public boolean saveToFile(String filepath) {
         try {
-            File saveDir = new File("saves");
-            if (!saveDir.exists()) {
-                saveDir.mkdir();
-            }
+            Path target = Paths.get(filepath).toAbsolutePath();
+            Files.createDirectories(target.getParent());
 
-            String filepath = "saves/" + filename + ".sav";
-            FileOutputStream fileOut = new FileOutputStream(filepath);
-            ObjectOutputStream out = new ObjectOutputStream(fileOut);
-            out.writeObject(this);
-            out.close();
-            fileOut.close();
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                writeTo(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
 
-            System.out.println("Juego guardado en: " + filepath);
+            System.out.println("Juego guardado en: " + target);
             return true;
         } catch (IOException e) {
             System.out.println("Error al guardar el juego: " + e.getMessage());
@@ -130,22 +345,210 @@ public class GameSaveData implements Serializable {
     }
 
     /**
-     * Carga el estado del juego desde un archivo
+     * Carga el estado del juego desde un archivo.
+     * Si el archivo es del formato antiguo se convierte y se reescribe en el formato
+     * nuevo, dejando una copia del original con extension .bak
+     * @param filepath ruta completa del archivo .sav
      */
-    public static GameSaveData loadFromFile(String filename) {
+    public static GameSaveData loadFromFile(String filepath) {
         try {
-            String filepath = "saves/" + filename + ".sav";
-            FileInputStream fileIn = new FileInputStream(filepath);
-            ObjectInputStream in = new ObjectInputStream(fileIn);
-            GameSaveData data = (GameSaveData) in.readObject();
-            in.close();
-            fileIn.close();
+            byte[] bytes = Files.readAllBytes(Paths.get(filepath));
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+            if (bytes.length >= 2 && ((bytes[0] & 0xFF) << 8 | (bytes[1] & 0xFF)) == JAVA_SERIALIZATION_MAGIC) {
+                GameSaveData data = readLegacy(bytes);
+                System.out.println("Guardado en formato antiguo, convirtiendo: " + filepath);
+                Files.copy(Paths.get(filepath), Paths.get(filepath + ".bak"), StandardCopyOption.REPLACE_EXISTING);
+                data.saveToFile(filepath);
+                return data;
+            }
 
+            GameSaveData data = readFrom(in);
             System.out.println("Juego cargado desde: " + filepath);
             return data;
-        } catch (IOException | ClassNotFoundException e) {
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
             System.out.println("Error al cargar el juego: " + e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+
+    private static GameSaveData readLegacy(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(LEGACY_FILTER);
+            return (GameSaveData) in.readObject();
+        }
+    }
+
+    /**
+     * Lee cualquiera de las dos versiones serializadas antiguas y las pasa a los campos tipados
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        initializeArrays();
+
+        Map<?, ?> gameData = (Map<?, ?>) fields.get("gameData", null);
+        if (gameData != null) {
+            readLegacyMap(gameData);
+            return;
+        }
+
+        playerName = (String) fields.get("playerName", null);
+        playerFlavor = (String) fields.get("playerFlavor", null);
+        playerX = fields.get("playerX", 0);
+        playerY = fields.get("playerY", 0);
+        score = fields.get("score", 0);
+        collectedFruits = fields.get("collectedFruits", 0);
+        totalFruits = fields.get("totalFruits", 0);
+        remainingTime = fields.get("remainingTime", 0L);
+
+        for (Object item : listOrEmpty(fields.get("iceBlocksData", null))) {
+            IceBlockData ice = (IceBlockData) item;
+            addIceBlock(ice.gridX, ice.gridY, parseBlockType(ice.blockType));
+        }
+        for (Object item : listOrEmpty(fields.get("fruitsData", null))) {
+            FruitData fruit = (FruitData) item;
+            Fruit.FruitType type = parseFruitType(fruit.fruitType);
+            if (type != null) {
+                addFruit(fruit.gridX, fruit.gridY, fruit.collected, type);
+            }
+        }
+        for (Object item : listOrEmpty(fields.get("enemiesData", null))) {
+            EnemyData enemy = (EnemyData) item;
+            Enemy.EnemyType type = parseEnemyType(enemy.enemyType);
+            if (type != null) {
+                addEnemy(enemy.gridX, enemy.gridY, enemy.active, type, parseDirection(enemy.direction));
+            }
+        }
+    }
+
+    private void readLegacyMap(Map<?, ?> gameData) {
+        playerName = (String) gameData.get("playerName");
+        playerFlavor = (String) gameData.get("playerFlavor");
+        playerX = intValue(gameData.get("playerX"));
+        playerY = intValue(gameData.get("playerY"));
+        score = intValue(gameData.get("score"));
+        collectedFruits = intValue(gameData.get("collectedFruits"));
+        totalFruits = intValue(gameData.get("totalFruits"));
+        Object time = gameData.get("remainingTime");
+        remainingTime = time instanceof Number ? ((Number) time).longValue() : 0;
+
+        for (Object item : listOrEmpty(gameData.get("iceBlocks"))) {
+            Map<?, ?> ice = (Map<?, ?>) item;
+            addIceBlock(intValue(ice.get("gridX")), intValue(ice.get("gridY")),
+                    parseBlockType((String) ice.get("type")));
+        }
+        for (Object item : listOrEmpty(gameData.get("fruits"))) {
+            Map<?, ?> fruit = (Map<?, ?>) item;
+            Fruit.FruitType type = parseFruitType((String) fruit.get("type"));
+            if (type != null) {
+                addFruit(intValue(fruit.get("gridX")), intValue(fruit.get("gridY")),
+                        Boolean.TRUE.equals(fruit.get("collected")), type);
+            }
+        }
+        for (Object item : listOrEmpty(gameData.get("enemies"))) {
+            Map<?, ?> enemy = (Map<?, ?>) item;
+            Enemy.EnemyType type = parseEnemyType((String) enemy.get("type"));
+            if (type != null) {
+                addEnemy(intValue(enemy.get("gridX")), intValue(enemy.get("gridY")),
+                        Boolean.TRUE.equals(enemy.get("active")), type,
+                        parseDirection((String) enemy.get("direction")));
+            }
+        }
+    }
+
+    /**
+     * La deserializacion no pasa por el constructor ni por los inicializadores de campo
+     */
+    private void initializeArrays() {
+        iceX = new int[16];
+        iceY = new int[16];
+        iceType = new byte[16];
+        fruitX = new int[16];
+        fruitY = new int[16];
+        fruitType = new byte[16];
+        fruitCollected = new boolean[16];
+        enemyX = new int[4];
+        enemyY = new int[4];
+        enemyType = new byte[4];
+        enemyActive = new boolean[4];
+        enemyDirection = new byte[4];
+        enemyChasing = new boolean[4];
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        throw new NotSerializableException("GameSaveData se guarda con saveToFile, no con serializacion de Java");
+    }
+
+    private static List<?> listOrEmpty(Object value) {
+        return value instanceof List ? (List<?>) value : Collections.emptyList();
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    private static Block.BlockType parseBlockType(String name) {
+        try {
+            return name != null ? Block.BlockType.valueOf(name.toUpperCase()) : Block.BlockType.ICE;
+        } catch (IllegalArgumentException e) {
+            return Block.BlockType.ICE;
+        }
+    }
+
+    /**
+     * Acepta tanto "BANANA" como los nombres antiguos en minuscula y plural ("bananas")
+     */
+    private static Fruit.FruitType parseFruitType(String name) {
+        if (name == null) return null;
+        String normalized = name.toUpperCase();
+        for (Fruit.FruitType type : FRUIT_TYPES) {
+            if (normalized.equals(type.name()) || normalized.equals(type.name() + "S")) {
+                return type;
+            }
+        }
+        System.out.println("Tipo de fruta desconocido en guardado antiguo: " + name);
+        return null;
+    }
+
+    private static Enemy.EnemyType parseEnemyType(String name) {
+        try {
+            return name != null ? Enemy.EnemyType.valueOf(name.toUpperCase()) : null;
+        } catch (IllegalArgumentException e) {
+            System.out.println("Tipo de enemigo desconocido en guardado antiguo: " + name);
+            return null;
+        }
+    }
+
+    private static Player.Direction parseDirection(String name) {
+        try {
+            return name != null ? Player.Direction.valueOf(name.toUpperCase()) : Player.Direction.DOWN;
+        } catch (IllegalArgumentException e) {
+            return Player.Direction.DOWN;
+        }
+    }
+
+    // Clases de la primera version del guardado; solo se usan para leer archivos antiguos
+    private static class IceBlockData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private int gridX;
+        private int gridY;
+        private String blockType;
+    }
+
+    private static class FruitData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private boolean collected;
+        private int gridX;
+        private int gridY;
+        private String fruitType;
+    }
+
+    private static class EnemyData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private boolean active;
+        private int gridX;
+        private int gridY;
+        private String direction;
+        private String enemyType;
+    }
+}
@@ -0,0 +1,718 @@
+package Domain;
+
+import java.awt.Point;
+import java.util.Random;
+
+/**
+ * Nucleo de la simulacion de una partida, sin ninguna dependencia de Swing.
+ * Es duenio del mapa, los gestores, el jugador y el tiempo limite, y ejecuta
+ * un paso de juego en cada llamada a tick(). Puede correr con java.awt.headless=true
+ * para pruebas, bots o servidores; la interfaz solo dibuja y reacciona a su estado.
+ *
+ * La simulacion es determinista: la entrada se acumula entre ticks y se aplica al
+ * comienzo del siguiente como una mascara, y el tiempo (limite y enfriamientos) sale
+ * del numero de tick y no del reloj de pared. Con la misma semilla y las mismas
+ * mascaras por tick, una partida se reproduce exactamente (ver InputLog y ReplayRunner).
+ *
+ * En los modos contra la IA hay un segundo helado: su entrada va en la misma mascara,
+ * corrida PLAYER2_SHIFT bits, asi que tambien queda grabada. Los helados manejados por
+ * AIController se consultan solo en tick(); tick(int) recibe las mascaras ya decididas.
+ */
+public class GameSession {
+    public static final int WIN_ANIMATION_DURATION = 120;
+    public static final long TICK_MILLIS = 16;
+
+    // Bits de la mascara de entrada de un tick
+    public static final int INPUT_UP = 1;
+    public static final int INPUT_DOWN = 1 << 1;
+    public static final int INPUT_LEFT = 1 << 2;
+    public static final int INPUT_RIGHT = 1 << 3;
+    public static final int INPUT_ICE = 1 << 4;
+    public static final int INPUT_PAUSE = 1 << 5;
+    private static final int DIRECTION_MASK = INPUT_UP | INPUT_DOWN | INPUT_LEFT | INPUT_RIGHT;
+    // La entrada del jugador 2 usa los mismos bits desplazados
+    public static final int PLAYER2_SHIFT = 8;
+
+    private final GameMap gameMap;
+    private final CollisionDetector collisionDetector;
+    private final FruitManager fruitManager;
+    private final EnemyManager enemyManager;
+    private final GameTimer timeLimit;
+    private final TickProfiler profiler = new TickProfiler();
+    private IceCreamPlayer player;
+
+    // Segundo helado (modos contra la IA); null en una partida de un jugador
+    private IceCreamPlayer player2;
+    private String player2SpritePath;
+    private boolean player2Dead;
+    private int player2Score;
+    private int lastDirections2;
+
+    // Controladores de IA para cada helado; null si lo maneja el teclado o la grabacion
+    private AIController player1AI;
+    private AIController player2AI;
+
+    private boolean playerDead;
+    private boolean levelComplete;
+    private boolean paused;
+    private int winAnimationCounter;
+    private long tickCount;
+
+    private final long seed;
+    private final Random random;
+
+    // Entrada pendiente para el proximo tick
+    private int heldDirections;
+    private boolean icePending;
+    private boolean pauseRequested;
+    private int lastDirections;
+    private InputLog recorder;
+    private LevelTemplate level;
+
+    /**
+     * Crea una sesion vacia con los muros del borde ya colocados
+     * @param width ancho del area de juego en pixeles
+     * @param height alto del area de juego en pixeles
+     * @param cellSize tamano de cada celda en pixeles
+     */
+    public GameSession(int width, int height, int cellSize) {
+        this(width, height, cellSize, System.nanoTime());
+    }
+
+    /**
+     * @param seed semilla de la aleatoriedad de la partida (se guarda en las grabaciones)
+     */
+    public GameSession(int width, int height, int cellSize, long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+
+        gameMap = new GameMap(width, height, cellSize);
+        gameMap.initializeBorderWalls();
+
+        collisionDetector = new GameCollisionDetector(gameMap, gameMap.getGrid());
+        fruitManager = new FruitManager(gameMap.getGrid());
+        enemyManager = new EnemyManager(gameMap.getGrid(), collisionDetector, gameMap.getFlowField());
+        timeLimit = new GameTimer(width, this::getSimulationTimeMs);
+    }
+
+    /**
+     * Prepara el nivel por defecto (Levels/nivel1.txt)
+     * @param playerSpritePath carpeta de sprites del sabor elegido
+     */
+    public void startDefaultLevel(String playerSpritePath) {
+        startLevel(LevelLoader.loadDefault(), playerSpritePath);
+    }
+
+    /**
+     * Instancia un nivel a partir de su plantilla: muros, hielos, primera oleada,
+     * enemigos, limite de tiempo y jugador
+     * @param playerSpritePath carpeta de sprites del sabor elegido
+     */
+    public void startLevel(LevelTemplate level, String playerSpritePath) {
+        checkFits(level);
+        this.level = level;
+
+        gameMap.applyLevel(level);
+        fruitManager.startWaves(level);
+        for (int i = 0; i < level.getEnemyCount(); i++) {
+            enemyManager.createEnemy(level.getEnemyType(i), level.getEnemyX(i), level.getEnemyY(i),
+                    level.isEnemyChasing(i));
+        }
+        timeLimit.setDurationMs(level.getTimeLimitMs());
+
+        GridSystem grid = gameMap.getGrid();
+        placePlayer(grid.gridToPixelX(level.getPlayerX()), grid.gridToPixelY(level.getPlayerY()), playerSpritePath);
+    }
+
+    /**
+     * Reconstruye la partida a partir de un guardado
+     * @param loader cargador con los datos de la partida
+     * @param level nivel de la partida guardada (muros interiores, oleadas pendientes y tiempo)
+     * @param playerSpritePath carpeta de sprites del sabor guardado
+     */
+    public void loadFromSave(GameLoader loader, LevelTemplate level, String playerSpritePath) {
+        checkFits(level);
+        this.level = level;
+
+        gameMap.applyWalls(level);
+        loader.loadIceBlocks(gameMap);
+        loader.loadFruits(fruitManager);
+        fruitManager.resumeWaves(level, level.getSpawnedWaves(loader.getFruitCount()));
+        loader.loadEnemies(enemyManager);
+        timeLimit.setDurationMs(level.getTimeLimitMs());
+
+        placePlayer(loader.getPlayerX(), loader.getPlayerY(), playerSpritePath);
+    }
+
+    private void checkFits(LevelTemplate level) {
+        GridSystem grid = gameMap.getGrid();
+        if (level.getGridWidth() > grid.getGridWidth() || level.getGridHeight() > grid.getGridHeight()) {
+            throw new IllegalArgumentException("El nivel " + level.getId() + " (" + level.getGridWidth() + "x"
+                    + level.getGridHeight() + ") no cabe en la cuadricula de " + grid.getGridWidth() + "x"
+                    + grid.getGridHeight());
+        }
+    }
+
+    private void placePlayer(int x, int y, String spritePath) {
+        player = createPlayer(x, y, spritePath);
+    }
+
+    private IceCreamPlayer createPlayer(int x, int y, String spritePath) {
+        IceCreamPlayer body = new IceCreamPlayer(x, y, spritePath);
+        body.setCollisionDetector(collisionDetector, gameMap.getGrid());
+        body.setClock(this::getSimulationTimeMs);
+
+        Point alignedPos = gameMap.snapToGrid(body.getX(), body.getY());
+        body.setPosition(alignedPos.x, alignedPos.y);
+        return body;
+    }
+
+    /**
+     * Agrega el segundo helado en la celda libre mas cercana al reflejo horizontal
+     * del inicio del jugador 1, lejos de los enemigos. Se llama despues de startLevel.
+     */
+    public void addSecondPlayer(String spritePath) {
+        GridSystem grid = gameMap.getGrid();
+        int startX = grid.pixelToGridX(player.getX());
+        int startY = grid.pixelToGridY(player.getY());
+        int width = level != null ? level.getGridWidth() : grid.getGridWidth();
+        Point cell = findFreeCellNear(width - 1 - startX, startY);
+        if (cell == null) {
+            cell = new Point(startX, startY);
+        }
+
+        player2 = createPlayer(grid.gridToPixelX(cell.x), grid.gridToPixelY(cell.y), spritePath);
+        player2SpritePath = spritePath;
+        player2Dead = false;
+        player2Score = 0;
+        System.out.println("Jugador 2 en: (" + cell.x + ", " + cell.y + ")");
+    }
+
+    /**
+     * Celda libre mas cercana (por distancia Manhattan) a la indicada, sin enemigos en ella ni al lado
+     */
+    private Point findFreeCellNear(int gridX, int gridY) {
+        GridSystem grid = gameMap.getGrid();
+        int maxRadius = grid.getGridWidth() + grid.getGridHeight();
+        for (int radius = 0; radius <= maxRadius; radius++) {
+            for (int dx = -radius; dx <= radius; dx++) {
+                int dy = radius - Math.abs(dx);
+                if (isSafeSpawnCell(gridX + dx, gridY + dy)) {
+                    return new Point(gridX + dx, gridY + dy);
+                }
+                if (dy != 0 && isSafeSpawnCell(gridX + dx, gridY - dy)) {
+                    return new Point(gridX + dx, gridY - dy);
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isSafeSpawnCell(int gridX, int gridY) {
+        if (!gameMap.getGrid().isInBounds(gridX, gridY) || gameMap.hasBlockAtGrid(gridX, gridY)) {
+            return false;
+        }
+        return !enemyManager.hasEnemyAt(gridX, gridY)
+                && !enemyManager.hasEnemyAt(gridX + 1, gridY) && !enemyManager.hasEnemyAt(gridX - 1, gridY)
+                && !enemyManager.hasEnemyAt(gridX, gridY + 1) && !enemyManager.hasEnemyAt(gridX, gridY - 1);
+    }
+
+    /**
+     * Deja que una IA maneje al jugador 1 (el teclado se ignora) o al 2
+     * @param playerNumber 1 o 2
+     */
+    public void setAIController(int playerNumber, AIController controller) {
+        if (playerNumber == 1) {
+            player1AI = controller;
+        } else {
+            player2AI = controller;
+        }
+    }
+
+    /**
+     * Detiene las IA de la partida (al salir de la pantalla de juego)
+     */
+    public void stopAIControllers() {
+        for (AIController controller : new AIController[] {player1AI, player2AI}) {
+            if (controller != null) {
+                controller.stop();
+                System.out.println(controller.getReport());
+            }
+        }
+    }
+
+    /**
+     * Ejecuta un paso de simulacion con la entrada acumulada desde el tick anterior
+     */
+    public void tick() {
+        int input;
+        if (player1AI != null) {
+            input = player1AI.nextInput(this, player, tickCount);
+        } else {
+            input = heldDirections;
+            if (icePending) {
+                input |= INPUT_ICE;
+                icePending = false;
+            }
+        }
+        // Un jugador 2 muerto ya no necesita planes
+        if (player2 != null && player2AI != null && !player2Dead) {
+            input |= player2AI.nextInput(this, player2, tickCount) << PLAYER2_SHIFT;
+        }
+        if (pauseRequested) {
+            input |= INPUT_PAUSE;
+        }
+        tick(input);
+    }
+
+    /**
+     * Ejecuta un paso de simulacion con una mascara de entrada explicita (reproducciones y bots)
+     */
+    public void tick(int input) {
+        tickCount++;
+        profiler.beginTick();
+
+        if (recorder != null) {
+            recorder.record(tickCount, input);
+        }
+        applyInput(input);
+
+        if (!playerDead && !levelComplete && !paused) {
+            player.update();
+            if (player2 != null) {
+                player2.update();
+            }
+            profiler.endPhase(TickProfiler.Phase.PLAYER);
+            gameMap.update();
+            profiler.endPhase(TickProfiler.Phase.MAP);
+            fruitManager.update();
+            profiler.endPhase(TickProfiler.Phase.FRUITS);
+            // El campo de persecucion se recalcula solo si el jugador cambio de celda
+            GridSystem grid = gameMap.getGrid();
+            gameMap.getFlowField().setTarget(grid.pixelToGridX(player.getX()), grid.pixelToGridY(player.getY()));
+            enemyManager.update();
+            profiler.endPhase(TickProfiler.Phase.ENEMIES);
+            timeLimit.update();
+
+            if (timeLimit.isTimeUp()) {
+                handlePlayerDeath();
+            }
+            profiler.endPhase(TickProfiler.Phase.COLLISIONS);
+
+            applyIceResults(player);
+            if (player2 != null && !player2Dead) {
+                applyIceResults(player2);
+            }
+            profiler.endPhase(TickProfiler.Phase.MAP);
+
+            fruitManager.checkCollisions(player);
+            if (player2 != null && !player2Dead) {
+                int before = fruitManager.getScore();
+                fruitManager.checkCollisions(player2);
+                player2Score += fruitManager.getScore() - before;
+            }
+
+            if (enemyManager.checkCollisionWithPlayer(player)) {
+                handlePlayerDeath();
+            }
+            if (player2 != null && !player2Dead && enemyManager.checkCollisionWithPlayer(player2)) {
+                handlePlayer2Death();
+            }
+
+            if (fruitManager.allFruitsCollected() && !levelComplete) {
+                handleLevelComplete();
+            }
+            profiler.endPhase(TickProfiler.Phase.COLLISIONS);
+        } else if (levelComplete) {
+            player.update();
+            if (player2 != null) {
+                player2.update();
+            }
+            winAnimationCounter++;
+            profiler.endPhase(TickProfiler.Phase.PLAYER);
+        } else if (playerDead) {
+            player.update();
+            if (player2 != null) {
+                player2.update();
+            }
+            profiler.endPhase(TickProfiler.Phase.PLAYER);
+        }
+
+        profiler.endTick();
+    }
+
+    private void handleLevelComplete() {
+        if (levelComplete) return;
+
+        levelComplete = true;
+        winAnimationCounter = 0;
+        System.out.println("Nivel completado! Puntaje final: " + fruitManager.getScore());
+        player.startWinAnimation();
+        if (player2 != null && !player2Dead) {
+            player2.startWinAnimation();
+        }
+    }
+
+    /**
+     * El jugador 2 queda fuera de la partida; el jugador 1 sigue jugando
+     */
+    private void handlePlayer2Death() {
+        player2Dead = true;
+        System.out.println("El jugador 2 ha muerto! Puntaje: " + player2Score);
+        player2.startDeathAnimation();
+    }
+
+    /**
+     * Crea o rompe el hielo que dejo pedido la animacion de un helado
+     */
+    private void applyIceResults(IceCreamPlayer body) {
+        if (body.shouldCreateIce()) {
+            gameMap.createIceInDirection(body.getX(), body.getY(), body.getDirection());
+            body.resetIceCreation();
+        }
+        if (body.shouldDestroyIce()) {
+            gameMap.destroyIceInDirection(body.getX(), body.getY(), body.getDirection());
+            body.resetIceDestruction();
+        }
+    }
+
+    private void handlePlayerDeath() {
+        if (playerDead) return;
+
+        playerDead = true;
+        System.out.println("El jugador ha muerto!");
+        player.startDeathAnimation();
+    }
+
+    /**
+     * Direcciones que el jugador mantiene pulsadas; se aplican en el proximo tick
+     */
+    public void setHeldDirections(boolean up, boolean down, boolean left, boolean right) {
+        heldDirections = (up ? INPUT_UP : 0) | (down ? INPUT_DOWN : 0)
+                | (left ? INPUT_LEFT : 0) | (right ? INPUT_RIGHT : 0);
+    }
+
+    /**
+     * Pide la accion de hielo para el proximo tick
+     */
+    public void queueIceAction() {
+        icePending = true;
+    }
+
+    /**
+     * Pide pausar o reanudar la simulacion a partir del proximo tick
+     */
+    public void requestPause(boolean paused) {
+        pauseRequested = paused;
+    }
+
+    private void applyInput(int input) {
+        setPaused((input & INPUT_PAUSE) != 0);
+
+        int directions = input & DIRECTION_MASK;
+        if (isPlaying()) {
+            applyPlayerInput(player, input, lastDirections);
+        }
+        lastDirections = directions;
+
+        if (player2 != null) {
+            int input2 = input >> PLAYER2_SHIFT;
+            if (isPlaying() && !player2Dead) {
+                applyPlayerInput(player2, input2, lastDirections2);
+            }
+            lastDirections2 = input2 & DIRECTION_MASK;
+        }
+    }
+
+    private void applyPlayerInput(IceCreamPlayer body, int input, int previousDirections) {
+        int directions = input & DIRECTION_MASK;
+        if ((input & INPUT_ICE) != 0) {
+            performIceAction(body);
+        }
+        // Mantener una tecla equivale a la repeticion del teclado; soltarla detiene al jugador
+        if (directions != 0 || directions != previousDirections) {
+            applyMovement(body, directions);
+        }
+    }
+
+    private void applyMovement(IceCreamPlayer player, int directions) {
+        if (player.isPerformingAction()) {
+            return;
+        }
+
+        if (player.isOnCooldown()) {
+            player.stopMoving();
+            return;
+        }
+
+        if ((directions & INPUT_UP) != 0) {
+            player.moveUp();
+        } else if ((directions & INPUT_DOWN) != 0) {
+            player.moveDown();
+        } else if ((directions & INPUT_LEFT) != 0) {
+            player.moveLeft();
+        } else if ((directions & INPUT_RIGHT) != 0) {
+            player.moveRight();
+        } else {
+            player.stopMoving();
+        }
+    }
+
+    /**
+     * Accion de hielo: rompe el hielo de enfrente o, si no hay, crea una linea nueva
+     */
+    private void performIceAction(IceCreamPlayer player) {
+        if (!player.canPerformAction() || player.isPerformingAction()) {
+            return;
+        }
+
+        GridSystem grid = gameMap.getGrid();
+        Player.Direction dir = player.getDirection();
+        int nextX = grid.pixelToGridX(player.getX()) + grid.getDeltaX(dir);
+        int nextY = grid.pixelToGridY(player.getY()) + grid.getDeltaY(dir);
+
+        Block nextBlock = gameMap.getBlockAtGrid(nextX, nextY);
+        boolean hasIceInDirection = nextBlock != null && nextBlock.getType() == Block.BlockType.ICE;
+
+        boolean animationStarted = hasIceInDirection
+                ? player.startBreakIceAnimation()
+                : player.startPutIceAnimation();
+
+        if (animationStarted) {
+            player.performAction();
+        }
+    }
+
+    /**
+     * Pausa o reanuda la simulacion junto con el tiempo limite
+     */
+    private void setPaused(boolean paused) {
+        if (this.paused == paused) return;
+
+        this.paused = paused;
+        if (paused) {
+            timeLimit.pause();
+        } else {
+            timeLimit.resume();
+        }
+    }
+
+    /**
+     * Empieza a grabar la entrada de cada tick para poder reproducir la partida
+     */
+    public InputLog startRecording(String playerSpritePath) {
+        recorder = new InputLog(seed, level != null ? level.getId() : LevelLoader.DEFAULT_LEVEL, playerSpritePath,
+                player2SpritePath);
+        return recorder;
+    }
+
+    /**
+     * Cierra la grabacion en curso con el tick y el hash del estado actuales
+     * @return la grabacion, o null si no se estaba grabando
+     */
+    public InputLog finishRecording() {
+        InputLog log = recorder;
+        if (log != null) {
+            log.finish(tickCount, computeStateHash());
+            recorder = null;
+        }
+        return log;
+    }
+
+    /**
+     * Hash del estado observable de la partida, para comparar reproducciones
+     */
+    public long computeStateHash() {
+        long hash = tickCount;
+        hash = hash * 31 + player.getX();
+        hash = hash * 31 + player.getY();
+        hash = hash * 31 + fruitManager.getScore();
+        hash = hash * 31 + fruitManager.getCollectedCount();
+        hash = hash * 31 + (playerDead ? 1 : 0) + (levelComplete ? 2 : 0);
+        if (player2 != null) {
+            hash = hash * 31 + player2.getX();
+            hash = hash * 31 + player2.getY();
+            hash = hash * 31 + player2Score + (player2Dead ? 1 : 0);
+        }
+        for (Block block : gameMap.getBlocks()) {
+            hash = hash * 31 + block.getX();
+            hash = hash * 31 + block.getY();
+            hash = hash * 31 + (block.isSolid() ? 1 : 0);
+        }
+        for (Enemy enemy : enemyManager.getEnemies()) {
+            hash = hash * 31 + enemy.getX();
+            hash = hash * 31 + enemy.getY();
+            hash = hash * 31 + (enemy.isActive() ? 1 : 0);
+        }
+        return hash;
+    }
+
+    /**
+     * Tiempo de la simulacion en milisegundos, derivado del numero de tick
+     */
+    public long getSimulationTimeMs() {
+        return tickCount * TICK_MILLIS;
+    }
+
+    /**
+     * Nivel en juego (null si todavia no se inicio ninguno)
+     */
+    public LevelTemplate getLevel() {
+        return level;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Aleatoriedad de la partida; usar siempre esta para no romper las reproducciones
+     */
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * Construye los datos de guardado del estado actual
+     */
+    public GameSaveData createSaveData(String playerName, String playerFlavor) {
+        GameSaveData saveData = new GameSaveData();
+        GridSystem grid = gameMap.getGrid();
+
+        // Datos del jugador
+        saveData.setPlayerName(playerName);
+        saveData.setPlayerFlavor(playerFlavor);
+        if (level != null) {
+            saveData.setLevelId(level.getId());
+        }
+        saveData.setPlayerX(player.getX());
+        saveData.setPlayerY(player.getY());
+        saveData.setScore(fruitManager.getScore());
+
+        // Datos del nivel
+        saveData.setCollectedFruits(fruitManager.getCollectedCount());
+        saveData.setTotalFruits(fruitManager.getTotalCount());
+        saveData.setRemainingTime(timeLimit.getRemainingTimeMs());
+
+        for (Fruit fruit : fruitManager.getFruits()) {
+            saveData.addFruit(
+                    grid.pixelToGridX(fruit.getX()),
+                    grid.pixelToGridY(fruit.getY()),
+                    fruit.isCollected(),
+                    fruit.getType()
+            );
+        }
+
+        for (Enemy enemy : enemyManager.getEnemies()) {
+            Point gridPos = enemy.getGridPosition();
+            saveData.addEnemy(
+                    gridPos.x,
+                    gridPos.y,
+                    enemy.isActive(),
+                    enemy.getType(),
+                    Player.Direction.DOWN,  // Direccion por defecto
+                    enemy.isChasing()
+            );
+        }
+
+        for (Block block : gameMap.getBlocks()) {
+            saveData.addIceBlock(
+                    grid.pixelToGridX(block.getX()),
+                    grid.pixelToGridY(block.getY()),
+                    block.getType()
+            );
+        }
+
+        return saveData;
+    }
+
+    /**
+     * La partida sigue en curso (ni muerto, ni nivel completo, ni en pausa)
+     */
+    public boolean isPlaying() {
+        return !playerDead && !levelComplete && !paused;
+    }
+
+    public boolean isPlayerDead() {
+        return playerDead;
+    }
+
+    public boolean isLevelComplete() {
+        return levelComplete;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * La animacion de muerte termino y se puede mostrar la pantalla de muerte
+     */
+    public boolean isDeathAnimationComplete() {
+        return playerDead && player.isDeathAnimationComplete();
+    }
+
+    /**
+     * La animacion de victoria termino y se puede mostrar la pantalla de victoria
+     */
+    public boolean isVictoryReady() {
+        return levelComplete && winAnimationCounter >= WIN_ANIMATION_DURATION;
+    }
+
+    /**
+     * Tiempos por fase de los ultimos ticks
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getScore() {
+        return fruitManager.getScore();
+    }
+
+    public GameMap getGameMap() {
+        return gameMap;
+    }
+
+    public CollisionDetector getCollisionDetector() {
+        return collisionDetector;
+    }
+
+    public FruitManager getFruitManager() {
+        return fruitManager;
+    }
+
+    public EnemyManager getEnemyManager() {
+        return enemyManager;
+    }
+
+    public GameTimer getTimeLimit() {
+        return timeLimit;
+    }
+
+    public IceCreamPlayer getPlayer() {
+        return player;
+    }
+
+    /**
+     * Segundo helado, o null en una partida de un jugador
+     */
+    public IceCreamPlayer getPlayer2() {
+        return player2;
+    }
+
+    /**
+     * Puntos de las frutas que junto el jugador 2 (ya incluidos en getScore)
+     */
+    public int getPlayer2Score() {
+        return player2Score;
+    }
+
+    public boolean isPlayer2Dead() {
+        return player2Dead;
+    }
+}
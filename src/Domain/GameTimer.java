@@ -1,24 +1,27 @@
 package Domain;
 
-import javax.swing.ImageIcon;
 import java.awt.Image;
 import java.awt.Graphics;
 import java.awt.Font;
 import java.awt.Color;
 import java.awt.FontMetrics;
+import java.util.function.LongSupplier;
 
 /**
  * Temporizador del juego con animacion de reloj
- * Cuenta regresiva desde 3 minutos (180 segundos)
+ * Cuenta regresiva desde el limite del nivel (3 minutos por defecto)
  * Muestra sprites animados del reloj
  */
 public class GameTimer {
+    // Reloj en milisegundos: el de pared o el de la simulacion (ticks)
+    private final LongSupplier clock;
     private long startTime;
     private long pausedTime;
     private boolean paused;
     private boolean timeUp;
 
-    private static final long GAME_DURATION_MS = 180000; // 3 minutos en milisegundos
+    private static final long DEFAULT_DURATION_MS = 180000; // 3 minutos en milisegundos
+    private long durationMs = DEFAULT_DURATION_MS;
 
     // Animacion del reloj
     private Image[] clockSprites;
@@ -33,7 +36,15 @@ public class GameTimer {
     private static final int CLOCK_SIZE = 40;
 
     public GameTimer(int screenWidth) {
-        this.startTime = System.currentTimeMillis();
+        this(screenWidth, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock fuente de tiempo en milisegundos; con un reloj de ticks el temporizador es determinista
+     */
+    public GameTimer(int screenWidth, LongSupplier clock) {
+        this.clock = clock;
+        this.startTime = clock.getAsLong();
         this.pausedTime = 0;
         this.paused = false;
         this.timeUp = false;
@@ -48,23 +59,7 @@ public class GameTimer {
     }
 
     private void loadClockSprites() {
-        clockSprites = new Image[TOTAL_FRAMES];
-
-        for (int i = 0; i < TOTAL_FRAMES; i++) {
-            String path = "Images/Resources/Clocks/" + (i + 1) + ".png";
-            try {
-                ImageIcon icon = new ImageIcon(path);
-                if (icon.getIconWidth() > 0) {
-                    clockSprites[i] = icon.getImage();
-                } else {
-                    System.out.println("Advertencia: No se pudo cargar " + path);
-                }
-            } catch (Exception e) {
-                System.out.println("Error cargando sprite de reloj: " + path);
-            }
-        }
-
-        System.out.println("Sprites de reloj cargados: " + TOTAL_FRAMES + " frames");
+        clockSprites = SpriteCache.getFrames("Images/Resources/Clocks", TOTAL_FRAMES);
     }
 
     /**
@@ -99,7 +94,7 @@ public class GameTimer {
     public void pause() {
         if (!paused) {
             paused = true;
-            pausedTime = System.currentTimeMillis();
+            pausedTime = clock.getAsLong();
         }
     }
 
@@ -108,12 +103,19 @@ public class GameTimer {
      */
     public void resume() {
         if (paused) {
-            long pauseDuration = System.currentTimeMillis() - pausedTime;
+            long pauseDuration = clock.getAsLong() - pausedTime;
             startTime += pauseDuration;
             paused = false;
         }
     }
 
+    /**
+     * Cambia el limite de tiempo (lo define cada nivel)
+     */
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
     /**
      * Obtiene el tiempo restante en milisegundos
      */
@@ -122,9 +124,9 @@ public class GameTimer {
             return 0;
         }
 
-        long currentTime = paused ? pausedTime : System.currentTimeMillis();
+        long currentTime = paused ? pausedTime : clock.getAsLong();
         long elapsed = currentTime - startTime;
-        long remaining = GAME_DURATION_MS - elapsed;
+        long remaining = durationMs - elapsed;
 
         return Math.max(0, remaining);
     }
@@ -156,14 +158,29 @@ public class GameTimer {
      * Dibuja el reloj y el tiempo en pantalla
      */
     public void draw(Graphics g) {
+        draw(g, currentFrame, getRemainingTimeMs());
+    }
+
+    /**
+     * Frame actual de la animacion del reloj
+     */
+    public int getCurrentFrame() {
+        return currentFrame;
+    }
+
+    /**
+     * Dibuja el reloj con un frame y un tiempo leidos antes (por ejemplo con el candado
+     * de la simulacion, para dibujar despues sin el)
+     */
+    public void draw(Graphics g, int frame, long remainingMs) {
         // Dibujar sprite del reloj
-        if (clockSprites != null && clockSprites[currentFrame] != null) {
-            g.drawImage(clockSprites[currentFrame], x, y, CLOCK_SIZE, CLOCK_SIZE, null);
+        if (clockSprites != null && clockSprites[frame] != null) {
+            g.drawImage(clockSprites[frame], x, y, CLOCK_SIZE, CLOCK_SIZE, null);
         }
 
         // Dibujar tiempo
-        int minutes = getRemainingMinutes();
-        int seconds = getRemainingSeconds();
+        int minutes = (int) (remainingMs / 60000);
+        int seconds = (int) ((remainingMs % 60000) / 1000);
         String timeText = String.format("%d:%02d", minutes, seconds);
 
         // Fuente y color
@@ -179,7 +196,6 @@ public class GameTimer {
         g.drawString(timeText, textX + 1, textY + 1);
 
         // Texto principal (cambiar a rojo si queda menos de 30 segundos)
-        long remainingMs = getRemainingTimeMs();
         if (remainingMs <= 30000) {
             g.setColor(Color.RED);
         } else {
@@ -192,7 +208,7 @@ public class GameTimer {
      * Reinicia el temporizador
      */
     public void reset() {
-        this.startTime = System.currentTimeMillis();
+        this.startTime = clock.getAsLong();
         this.pausedTime = 0;
         this.paused = false;
         this.timeUp = false;
@@ -42,4 +42,35 @@ public interface GridSystem {
      * Calcula la siguiente posicion en la cuadricula dada una direccion
      */
     Point getNextGridPosition(int currentGridX, int currentGridY, Player.Direction direction);
+
+    // Variantes con tipos primitivos (sin crear objetos) para los caminos que se ejecutan cada tick
+
+    /**
+     * Convierte una coordenada X/Y de pixeles a cuadricula
+     */
+    int pixelToGridX(int pixelX);
+    int pixelToGridY(int pixelY);
+
+    /**
+     * Convierte una coordenada X/Y de cuadricula a pixeles
+     */
+    int gridToPixelX(int gridX);
+    int gridToPixelY(int gridY);
+
+    /**
+     * Empaqueta una celda en un indice entero (gridY * gridWidth + gridX)
+     */
+    int toCellIndex(int gridX, int gridY);
+
+    /**
+     * Obtiene la columna / fila de un indice de celda
+     */
+    int cellX(int cellIndex);
+    int cellY(int cellIndex);
+
+    /**
+     * Desplazamiento en X / Y de una direccion (0 para las direcciones idle)
+     */
+    int getDeltaX(Player.Direction direction);
+    int getDeltaY(Player.Direction direction);
 }
\ No newline at end of file
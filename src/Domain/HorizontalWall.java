@@ -1,6 +1,5 @@
 package Domain;
 
-import javax.swing.ImageIcon;
 import java.awt.Image;
 import java.awt.Point;
 
@@ -22,21 +21,7 @@ public class HorizontalWall implements Wall {
         this.x = pixelPos.x;
         this.y = pixelPos.y;
 
-        this.sprite = loadSprite(imagePath);
-    }
-
-    private Image loadSprite(String path) {
-        try {
-            ImageIcon icon = new ImageIcon(path);
-            if (icon.getIconWidth() > 0) {
-                return icon.getImage();
-            } else {
-                System.out.println("Advertencia: No se pudo cargar muro horizontal: " + path);
-            }
-        } catch (Exception e) {
-            System.out.println("Error cargando muro horizontal: " + path);
-        }
-        return null;
+        this.sprite = SpriteCache.getImage(imagePath);
     }
 
     @Override
@@ -1,7 +1,5 @@
 package Domain;
 
-import javax.swing.ImageIcon;
-import java.awt.Image;
 
 /**
  * Implementacion del bloque de hielo con animacion de creacion y destruccion
@@ -16,9 +14,9 @@ public class IceBlock implements Block {
     private final int CREATE_FRAMES = 7;
     private final int DESTROY_FRAMES = 9; // Sprites 1-9 para destruccion
 
-    private Image[] createSprites;
-    private Image[] destroySprites;
-    private Image finalSprite;
+    private SpriteFrame[] createSprites;
+    private SpriteFrame[] destroySprites;
+    private SpriteFrame finalSprite;
 
     // Dimensiones de sprites de creacion (1-6)
     private static final int CREATE_SPRITE_WIDTH = 42;
@@ -42,48 +40,30 @@ public class IceBlock implements Block {
     }
 
     public IceBlock(int x, int y) {
+        loadSprites();
+        reset(x, y);
+    }
+
+    /**
+     * Vuelve a empezar la animacion de creacion en otra posicion (para reutilizar el bloque)
+     */
+    public void reset(int x, int y) {
         this.x = x;
         this.y = y;
         this.state = BlockState.CREATING;
         this.animationFrame = 0;
         this.animationCounter = 0;
-
-        loadSprites();
     }
 
     private void loadSprites() {
-        // Sprites de creacion (1-7)
-        createSprites = new Image[CREATE_FRAMES];
-        for (int i = 0; i < CREATE_FRAMES; i++) {
-            String path = "Images/Ice/Create/Right/" + (i + 1) + ".png";
-            try {
-                ImageIcon icon = new ImageIcon(path);
-                if (icon.getIconWidth() > 0) {
-                    createSprites[i] = icon.getImage();
-                }
-            } catch (Exception e) {
-                System.out.println("Error cargando sprite de creacion: " + path);
-            }
-        }
+        // Sprites de creacion (1-7), compartidos entre todos los bloques
+        createSprites = SpriteAtlas.getFrames("Images/Ice/Create/Right", CREATE_FRAMES);
 
         // El sprite 7 es el bloque solido final
-        if (createSprites[CREATE_FRAMES - 1] != null) {
-            finalSprite = createSprites[CREATE_FRAMES - 1];
-        }
+        finalSprite = createSprites[CREATE_FRAMES - 1];
 
         // Sprites de destruccion (1-9)
-        destroySprites = new Image[DESTROY_FRAMES];
-        for (int i = 0; i < DESTROY_FRAMES; i++) {
-            String path = "Images/Ice/Destroy/" + (i + 1) + ".png"; // 1.png hasta 9.png
-            try {
-                ImageIcon icon = new ImageIcon(path);
-                if (icon.getIconWidth() > 0) {
-                    destroySprites[i] = icon.getImage();
-                }
-            } catch (Exception e) {
-                System.out.println("Error cargando sprite de destruccion: " + path);
-            }
-        }
+        destroySprites = SpriteAtlas.getFrames("Images/Ice/Destroy", DESTROY_FRAMES);
     }
 
     @Override
@@ -131,7 +111,7 @@ public class IceBlock implements Block {
     }
 
     @Override
-    public Image getCurrentSprite() {
+    public SpriteFrame getCurrentSprite() {
         switch (state) {
             case CREATING:
                 if (animationFrame < CREATE_FRAMES) {
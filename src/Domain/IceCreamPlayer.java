@@ -1,10 +1,9 @@
 package Domain;
 
-import javax.swing.ImageIcon;
-import java.awt.Image;
 import java.awt.Point;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 /**
  * Implementacion concreta del helado jugador con movimiento basado en cuadriculas.
@@ -27,6 +26,8 @@ public class IceCreamPlayer implements Player {
 
     // Cooldown para acciones (crear/destruir hielo)
     private long lastActionTime;
+    // Reloj en milisegundos para el enfriamiento de acciones
+    private LongSupplier clock = System::currentTimeMillis;
     private static final long ACTION_COOLDOWN = 1000;
 
     // Animacion de caminar
@@ -65,11 +66,11 @@ public class IceCreamPlayer implements Player {
     private final int WIN_ANIMATION_SPEED = 8;
     private static final int WIN_FRAMES = 6;
 
-    private Map<Player.Direction, Image[]> sprites;
-    private Map<Player.Direction, Image[]> putIceSprites;
-    private Image[] breakIceSprites;
-    private Image[] deathSprites;
-    private Image[] winSprites;
+    private Map<Player.Direction, SpriteFrame[]> sprites;
+    private Map<Player.Direction, SpriteFrame[]> putIceSprites;
+    private SpriteFrame[] breakIceSprites;
+    private SpriteFrame[] deathSprites;
+    private SpriteFrame[] winSprites;
 
     // Dimensiones de sprites
     private static final int WALK_SPRITE_WIDTH = 50;
@@ -138,13 +139,21 @@ public class IceCreamPlayer implements Player {
         this.targetY = this.y;
     }
 
+    /**
+     * Cambia la fuente de tiempo del enfriamiento (por ejemplo, el reloj de ticks de la simulacion)
+     */
+    public void setClock(LongSupplier clock) {
+        this.clock = clock;
+        this.lastActionTime = clock.getAsLong() - ACTION_COOLDOWN;
+    }
+
     public boolean canPerformAction() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getAsLong();
         return (currentTime - lastActionTime) >= ACTION_COOLDOWN;
     }
 
     public void performAction() {
-        lastActionTime = System.currentTimeMillis();
+        lastActionTime = clock.getAsLong();
     }
 
     public boolean isOnCooldown() {
@@ -152,7 +161,7 @@ public class IceCreamPlayer implements Player {
     }
 
     public long getRemainingCooldown() {
-        long currentTime = System.currentTimeMillis();
+        long currentTime = clock.getAsLong();
         long timeSinceAction = currentTime - lastActionTime;
         long remaining = ACTION_COOLDOWN - timeSinceAction;
         return remaining > 0 ? remaining : 0;
@@ -223,30 +232,30 @@ public class IceCreamPlayer implements Player {
     private void loadSprites(String basePath) {
         sprites = new HashMap<>();
 
-        Image[] downSprites = loadSpritesFromFolder(basePath + "/Walk/Down", 8);
-        Image[] upSprites = loadSpritesFromFolder(basePath + "/Walk/Up", 8);
-        Image[] leftSprites = loadSpritesFromFolder(basePath + "/Walk/Left", 8);
-        Image[] rightSprites = loadSpritesFromFolder(basePath + "/Walk/Right", 8);
+        SpriteFrame[] downSprites = loadSpritesFromFolder(basePath + "/Walk/Down", 8);
+        SpriteFrame[] upSprites = loadSpritesFromFolder(basePath + "/Walk/Up", 8);
+        SpriteFrame[] leftSprites = loadSpritesFromFolder(basePath + "/Walk/Left", 8);
+        SpriteFrame[] rightSprites = loadSpritesFromFolder(basePath + "/Walk/Right", 8);
 
         sprites.put(Player.Direction.DOWN, downSprites);
         sprites.put(Player.Direction.UP, upSprites);
         sprites.put(Player.Direction.LEFT, leftSprites);
         sprites.put(Player.Direction.RIGHT, rightSprites);
 
-        sprites.put(Player.Direction.IDLE_DOWN, new Image[]{downSprites[0]});
-        sprites.put(Player.Direction.IDLE_UP, new Image[]{upSprites[0]});
-        sprites.put(Player.Direction.IDLE_LEFT, new Image[]{leftSprites[0]});
-        sprites.put(Player.Direction.IDLE_RIGHT, new Image[]{rightSprites[0]});
+        sprites.put(Player.Direction.IDLE_DOWN, new SpriteFrame[]{downSprites[0]});
+        sprites.put(Player.Direction.IDLE_UP, new SpriteFrame[]{upSprites[0]});
+        sprites.put(Player.Direction.IDLE_LEFT, new SpriteFrame[]{leftSprites[0]});
+        sprites.put(Player.Direction.IDLE_RIGHT, new SpriteFrame[]{rightSprites[0]});
 
         System.out.println("Sprites del helado cargados correctamente");
     }
 
     private void loadPutIceSprites(String basePath) {
         putIceSprites = new HashMap<>();
-        Image[] backSprites = loadSpritesFromFolder(basePath + "/Put Ice/Back", 10);
-        Image[] frontSprites = loadSpritesFromFolder(basePath + "/Put Ice/Front", 10);
-        Image[] leftSprites = loadSpritesFromFolder(basePath + "/Put Ice/Left", 8);
-        Image[] rightSprites = loadSpritesFromFolder(basePath + "/Put Ice/Right", 8);
+        SpriteFrame[] backSprites = loadSpritesFromFolder(basePath + "/Put Ice/Back", 10);
+        SpriteFrame[] frontSprites = loadSpritesFromFolder(basePath + "/Put Ice/Front", 10);
+        SpriteFrame[] leftSprites = loadSpritesFromFolder(basePath + "/Put Ice/Left", 8);
+        SpriteFrame[] rightSprites = loadSpritesFromFolder(basePath + "/Put Ice/Right", 8);
         putIceSprites.put(Player.Direction.UP, backSprites);
         putIceSprites.put(Player.Direction.DOWN, frontSprites);
         putIceSprites.put(Player.Direction.LEFT, leftSprites);
@@ -269,28 +278,11 @@ public class IceCreamPlayer implements Player {
         System.out.println("Sprites de victoria cargados correctamente");
     }
 
-    private Image[] loadSpritesFromFolder(String folderPath, int frameCount) {
-        Image[] frameSprites = new Image[frameCount];
-        for (int i = 0; i < frameCount; i++) {
-            String path = folderPath + "/" + (i + 1) + ".png";
-            try {
-                ImageIcon icon = new ImageIcon(path);
-                if (icon.getIconWidth() > 0) {
-                    frameSprites[i] = icon.getImage();
-                } else {
-                    System.out.println("Advertencia: No se pudo cargar " + path);
-                    frameSprites[i] = createPlaceholderImage();
-                }
-            } catch (Exception e) {
-                System.out.println("Error cargando sprite: " + path);
-                frameSprites[i] = createPlaceholderImage();
-            }
-        }
-        return frameSprites;
-    }
-
-    private Image createPlaceholderImage() {
-        return new ImageIcon().getImage();
+    /**
+     * Los frames que falten quedan en null y simplemente no se dibujan
+     */
+    private SpriteFrame[] loadSpritesFromFolder(String folderPath, int frameCount) {
+        return SpriteAtlas.getFrames(folderPath, frameCount);
     }
 
     @Override
@@ -430,10 +422,8 @@ public class IceCreamPlayer implements Player {
         currentDirection = direction;
         moving = true;
         transitioning = true;
-        Point nextGrid = grid.getNextGridPosition(gridX, gridY, direction);
-        Point nextPixel = grid.gridToPixel(nextGrid.x, nextGrid.y);
-        targetX = nextPixel.x;
-        targetY = nextPixel.y;
+        targetX = grid.gridToPixelX(gridX + grid.getDeltaX(direction));
+        targetY = grid.gridToPixelY(gridY + grid.getDeltaY(direction));
     }
 
     @Override
@@ -494,7 +484,7 @@ public class IceCreamPlayer implements Player {
                 shouldCreateIceFlag = true;
                 System.out.println("Momento de crear hielo!");
             }
-            Image[] currentPutIceSprites = putIceSprites.get(putIceDirection);
+            SpriteFrame[] currentPutIceSprites = putIceSprites.get(putIceDirection);
             if (putIceFrame >= currentPutIceSprites.length) {
                 performingPutIceAction = false;
                 putIceFrame = 0;
@@ -542,9 +532,8 @@ public class IceCreamPlayer implements Player {
         }
         updateAnimation();
         if (reachedTarget) {
-            Point gridPos = grid.pixelToGrid(x, y);
-            gridX = gridPos.x;
-            gridY = gridPos.y;
+            gridX = grid.pixelToGridX(x);
+            gridY = grid.pixelToGridY(y);
             transitioning = false;
             if (pendingDirection != null) {
                 Player.Direction nextDir = pendingDirection;
@@ -561,7 +550,7 @@ public class IceCreamPlayer implements Player {
         if (animationCounter >= ANIMATION_SPEED) {
             animationCounter = 0;
             animationFrame++;
-            Image[] currentSprites = sprites.get(currentDirection);
+            SpriteFrame[] currentSprites = sprites.get(currentDirection);
             if (animationFrame >= currentSprites.length) {
                 animationFrame = 0;
             }
@@ -569,7 +558,7 @@ public class IceCreamPlayer implements Player {
     }
 
     @Override
-    public Image getCurrentSprite() {
+    public SpriteFrame getCurrentSprite() {
         if (performingDeathAnimation) {
             if (deathFrame < deathSprites.length) {
                 return deathSprites[deathFrame];
@@ -589,21 +578,21 @@ public class IceCreamPlayer implements Player {
         }
 
         if (performingPutIceAction) {
-            Image[] currentPutIceSprites = putIceSprites.get(putIceDirection);
+            SpriteFrame[] currentPutIceSprites = putIceSprites.get(putIceDirection);
             if (currentPutIceSprites != null && putIceFrame < currentPutIceSprites.length) {
                 return currentPutIceSprites[putIceFrame];
             }
         }
 
         if (transitioning) {
-            Image[] currentSprites = sprites.get(currentDirection);
+            SpriteFrame[] currentSprites = sprites.get(currentDirection);
             if (currentSprites != null && currentSprites.length > 0) {
                 return currentSprites[animationFrame % currentSprites.length];
             }
         }
 
         Player.Direction idleDirection = getIdleDirection(facingDirection);
-        Image[] idleSprites = sprites.get(idleDirection);
+        SpriteFrame[] idleSprites = sprites.get(idleDirection);
         if (idleSprites != null && idleSprites.length > 0) {
             return idleSprites[0];
         }
@@ -632,6 +621,11 @@ public class IceCreamPlayer implements Player {
     @Override
     public int getY() { return y; }
 
+    // Posicion a la que se dirige (igual a la actual si esta quieto)
+    public int getTargetX() { return targetX; }
+
+    public int getTargetY() { return targetY; }
+
     @Override
     public int getWidth() {
         if (performingDeathAnimation) return DEATH_SPRITE_WIDTH;
@@ -0,0 +1,195 @@
+package Domain;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Grabacion de las entradas de una partida para poder reproducirla exactamente.
+ * Guarda la semilla, el nivel, el sabor y, por cada tick en que cambia, la mascara de entrada
+ * (direcciones, accion de hielo y pausa, y las del segundo helado si lo hay). Al terminar guarda el ultimo tick y un hash
+ * del estado final para comparar reproducciones.
+ *
+ * Formato: int magic ("BIRP"), short version, long semilla, UTF nivel (desde la version 2), UTF sprites,
+ *          UTF sprites del jugador 2, vacio si no hay (desde la version 3),
+ *          int entradas { int tick, byte mascara (short desde la version 3) }, long ultimo tick, long hash final
+ */
+public class InputLog {
+    private static final int MAGIC = 0x42495250;
+    public static final int FORMAT_VERSION = 3;
+
+    private final long seed;
+    private final String levelId;
+    private final String playerSpritePath;
+    private final String player2SpritePath;
+
+    private int count;
+    private int[] ticks = new int[256];
+    private short[] masks = new short[256];
+    private int lastMask;
+
+    private long finalTick;
+    private long finalStateHash;
+
+    public InputLog(long seed, String levelId, String playerSpritePath) {
+        this(seed, levelId, playerSpritePath, null);
+    }
+
+    /**
+     * @param player2SpritePath sprites del segundo helado, o null si la partida es de un jugador
+     */
+    public InputLog(long seed, String levelId, String playerSpritePath, String player2SpritePath) {
+        this.seed = seed;
+        this.levelId = levelId;
+        this.playerSpritePath = playerSpritePath;
+        this.player2SpritePath = player2SpritePath;
+    }
+
+    /**
+     * Registra la entrada aplicada en un tick; solo se guarda si cambio
+     */
+    public void record(long tick, int mask) {
+        if (mask == lastMask) {
+            return;
+        }
+        if (count == ticks.length) {
+            ticks = Arrays.copyOf(ticks, count * 2);
+            masks = Arrays.copyOf(masks, count * 2);
+        }
+        ticks[count] = (int) tick;
+        masks[count] = (short) mask;
+        count++;
+        lastMask = mask;
+    }
+
+    /**
+     * Cierra la grabacion con el ultimo tick y el hash del estado en ese momento
+     */
+    public void finish(long finalTick, long finalStateHash) {
+        this.finalTick = finalTick;
+        this.finalStateHash = finalStateHash;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getLevelId() {
+        return levelId;
+    }
+
+    public String getPlayerSpritePath() {
+        return playerSpritePath;
+    }
+
+    /**
+     * Sprites del segundo helado, o null si la partida era de un jugador
+     */
+    public String getPlayer2SpritePath() {
+        return player2SpritePath;
+    }
+
+    public int getEntryCount() {
+        return count;
+    }
+
+    public long getFinalTick() {
+        return finalTick;
+    }
+
+    public long getFinalStateHash() {
+        return finalStateHash;
+    }
+
+    /**
+     * Recorre la grabacion tick a tick devolviendo la mascara vigente
+     */
+    public Playback playback() {
+        return new Playback();
+    }
+
+    public class Playback {
+        private int next;
+        private int mask;
+
+        /**
+         * Mascara de entrada del tick indicado. Los ticks deben pedirse en orden creciente.
+         */
+        public int inputAt(long tick) {
+            while (next < count && ticks[next] <= tick) {
+                mask = masks[next];
+                next++;
+            }
+            return mask;
+        }
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeLong(seed);
+        out.writeUTF(levelId);
+        out.writeUTF(playerSpritePath);
+        out.writeUTF(player2SpritePath != null ? player2SpritePath : "");
+        out.writeInt(count);
+        for (int i = 0; i < count; i++) {
+            out.writeInt(ticks[i]);
+            out.writeShort(masks[i]);
+        }
+        out.writeLong(finalTick);
+        out.writeLong(finalStateHash);
+    }
+
+    public static InputLog readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("No es una grabacion de partida");
+        }
+        int version = in.readUnsignedShort();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Version de grabacion no soportada: " + version);
+        }
+
+        long seed = in.readLong();
+        String levelId = version >= 2 ? in.readUTF() : LevelLoader.DEFAULT_LEVEL;
+        String playerSpritePath = in.readUTF();
+        String player2SpritePath = version >= 3 ? in.readUTF() : "";
+        InputLog log = new InputLog(seed, levelId, playerSpritePath,
+                player2SpritePath.isEmpty() ? null : player2SpritePath);
+        int entries = in.readInt();
+        if (entries < 0) {
+            throw new IOException("Cantidad invalida en la grabacion: " + entries);
+        }
+        for (int i = 0; i < entries; i++) {
+            int tick = in.readInt();
+            log.record(tick, version >= 3 ? in.readUnsignedShort() : in.readByte());
+        }
+        log.finish(in.readLong(), in.readLong());
+        return log;
+    }
+
+    public boolean saveToFile(String filepath) {
+        try {
+            Path target = Paths.get(filepath).toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(target)))) {
+                writeTo(out);
+            }
+            System.out.println("Grabacion guardada en: " + target + " (" + count + " entradas, "
+                    + finalTick + " ticks)");
+            return true;
+        } catch (IOException e) {
+            System.out.println("Error al guardar la grabacion: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public static InputLog loadFromFile(String filepath) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(Paths.get(filepath))))) {
+            return readFrom(in);
+        }
+    }
+}
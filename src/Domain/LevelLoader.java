@@ -0,0 +1,364 @@
+package Domain;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lee los niveles de la carpeta Levels/ y los guarda ya interpretados en memoria.
+ * Cada archivo se lee una sola vez; empezar o reiniciar un nivel reutiliza la misma
+ * plantilla inmutable.
+ *
+ * Formato (una directiva por linea, # para comentarios):
+ *   nombre Nivel 1
+ *   tiempo 180                  limite en segundos
+ *   jugador 7 7                 celda inicial del jugador
+ *   enemigo TROLL 8 7           un enemigo por linea, en orden de creacion
+ *   enemigo TROLL 8 7 persigue  enemigo que persigue al jugador en lugar de seguir su patron
+ *   oleada                      empieza una oleada de frutas
+ *   fruta BANANA 3,4 4,4 ...    frutas de la oleada actual
+ *   mapa                        seguido de una fila de texto por fila de la cuadricula:
+ *                               '#' muro, 'H' hielo solido, '.' vacio
+ * El marco del mapa (borde y esquinas de 2x2) debe ser de muros; el resto de '#' son muros interiores.
+ */
+public class LevelLoader {
+    public static final String LEVELS_DIR = "Levels";
+    public static final String DEFAULT_LEVEL = "nivel1";
+
+    private static final Map<String, LevelTemplate> cache = new ConcurrentHashMap<>();
+
+    private LevelLoader() {
+    }
+
+    /**
+     * Devuelve la plantilla del nivel, leyendo el archivo solo la primera vez
+     * @param levelId nombre del archivo sin extension (por ejemplo "nivel2")
+     * @throws IOException si el archivo no existe o tiene errores
+     */
+    public static LevelTemplate load(String levelId) throws IOException {
+        LevelTemplate template = cache.get(levelId);
+        if (template == null) {
+            template = parse(levelId);
+            LevelTemplate previous = cache.putIfAbsent(levelId, template);
+            if (previous != null) {
+                template = previous;
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Nivel por defecto; si no se puede leer es un error de instalacion
+     */
+    public static LevelTemplate loadDefault() {
+        try {
+            return load(DEFAULT_LEVEL);
+        } catch (IOException e) {
+            throw new IllegalStateException("No se pudo cargar el nivel por defecto: " + e.getMessage(), e);
+        }
+    }
+
+    private static LevelTemplate parse(String levelId) throws IOException {
+        if (levelId == null || !levelId.matches("[A-Za-z0-9_-]+")) {
+            throw new IOException("Nombre de nivel invalido: " + levelId);
+        }
+
+        Path path = Paths.get(LEVELS_DIR, levelId + ".txt");
+        Parser parser = new Parser(path.toString());
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parser.accept(line);
+            }
+        }
+
+        LevelTemplate template = parser.build(levelId);
+        System.out.println("Nivel cargado: " + template);
+        return template;
+    }
+
+    /**
+     * Interpreta el archivo linea por linea
+     */
+    private static class Parser {
+        private final String source;
+        private int lineNumber;
+
+        private String name;
+        private long timeLimitMs = -1;
+        private int playerX = -1;
+        private int playerY = -1;
+
+        private final IntList enemyX = new IntList();
+        private final IntList enemyY = new IntList();
+        private final List<Enemy.EnemyType> enemyTypes = new ArrayList<>();
+        private final List<Boolean> enemyChasing = new ArrayList<>();
+
+        private final List<LevelTemplate.FruitWave> waves = new ArrayList<>();
+        private IntList waveX;
+        private IntList waveY;
+        private List<Fruit.FruitType> waveTypes;
+
+        private boolean readingMap;
+        private final List<String> rows = new ArrayList<>();
+
+        Parser(String source) {
+            this.source = source;
+        }
+
+        void accept(String rawLine) throws IOException {
+            lineNumber++;
+            String line = rawLine.trim();
+
+            if (readingMap) {
+                if (!line.isEmpty()) {
+                    rows.add(line);
+                }
+                return;
+            }
+
+            if (line.isEmpty() || line.startsWith("#")) {
+                return;
+            }
+
+            String[] parts = line.split("\\s+");
+            switch (parts[0]) {
+                case "nombre":
+                    name = line.substring(parts[0].length()).trim();
+                    break;
+                case "tiempo":
+                    expectArgs(parts, 1);
+                    timeLimitMs = parseInt(parts[1]) * 1000L;
+                    if (timeLimitMs <= 0) {
+                        throw error("El tiempo debe ser positivo");
+                    }
+                    break;
+                case "jugador":
+                    expectArgs(parts, 2);
+                    playerX = parseInt(parts[1]);
+                    playerY = parseInt(parts[2]);
+                    break;
+                case "enemigo":
+                    if (parts.length == 5 && !parts[4].equals("persigue")) {
+                        throw error("Opcion de enemigo desconocida: " + parts[4]);
+                    }
+                    if (parts.length != 5) {
+                        expectArgs(parts, 3);
+                    }
+                    enemyTypes.add(parseEnum(Enemy.EnemyType.class, parts[1]));
+                    enemyX.add(parseInt(parts[2]));
+                    enemyY.add(parseInt(parts[3]));
+                    enemyChasing.add(parts.length == 5);
+                    break;
+                case "oleada":
+                    closeWave();
+                    waveX = new IntList();
+                    waveY = new IntList();
+                    waveTypes = new ArrayList<>();
+                    break;
+                case "fruta":
+                    if (waveX == null) {
+                        throw error("'fruta' antes de la primera 'oleada'");
+                    }
+                    if (parts.length < 3) {
+                        throw error("'fruta' necesita un tipo y al menos una celda x,y");
+                    }
+                    Fruit.FruitType type = parseEnum(Fruit.FruitType.class, parts[1]);
+                    for (int i = 2; i < parts.length; i++) {
+                        String[] cell = parts[i].split(",");
+                        if (cell.length != 2) {
+                            throw error("Celda invalida: " + parts[i]);
+                        }
+                        waveX.add(parseInt(cell[0]));
+                        waveY.add(parseInt(cell[1]));
+                        waveTypes.add(type);
+                    }
+                    break;
+                case "mapa":
+                    readingMap = true;
+                    break;
+                default:
+                    throw error("Directiva desconocida: " + parts[0]);
+            }
+        }
+
+        LevelTemplate build(String levelId) throws IOException {
+            closeWave();
+            lineNumber = 0;
+
+            if (rows.isEmpty()) {
+                throw error("Falta la seccion 'mapa'");
+            }
+            if (timeLimitMs < 0) {
+                throw error("Falta la directiva 'tiempo'");
+            }
+            if (waves.isEmpty()) {
+                throw error("El nivel necesita al menos una oleada de frutas");
+            }
+
+            int width = rows.get(0).length();
+            int height = rows.size();
+            if (width < 5 || height < 5) {
+                throw error("El mapa debe tener al menos 5x5 celdas");
+            }
+
+            IntList iceX = new IntList();
+            IntList iceY = new IntList();
+            IntList wallX = new IntList();
+            IntList wallY = new IntList();
+            boolean[] blocked = new boolean[width * height];
+            boolean[] frozen = new boolean[width * height];
+
+            for (int y = 0; y < height; y++) {
+                String row = rows.get(y);
+                if (row.length() != width) {
+                    throw error("La fila " + y + " del mapa mide " + row.length() + " y no " + width);
+                }
+                for (int x = 0; x < width; x++) {
+                    char c = row.charAt(x);
+                    boolean frame = isFrameCell(x, y, width, height);
+                    if (frame && c != '#') {
+                        throw error("El borde del mapa debe ser de muros (celda " + x + "," + y + ")");
+                    }
+
+                    switch (c) {
+                        case '#':
+                            blocked[y * width + x] = true;
+                            if (!frame) {
+                                wallX.add(x);
+                                wallY.add(y);
+                            }
+                            break;
+                        case 'H':
+                            frozen[y * width + x] = true;
+                            iceX.add(x);
+                            iceY.add(y);
+                            break;
+                        case '.':
+                            break;
+                        default:
+                            throw error("Caracter desconocido en el mapa: '" + c + "' (celda " + x + "," + y + ")");
+                    }
+                }
+            }
+
+            // Las frutas y los enemigos pueden empezar dentro del hielo; el jugador no
+            checkOpenCell("jugador", playerX, playerY, width, height, blocked, frozen);
+            for (int i = 0; i < enemyX.size(); i++) {
+                checkOpenCell("enemigo", enemyX.get(i), enemyY.get(i), width, height, blocked, null);
+            }
+            for (LevelTemplate.FruitWave wave : waves) {
+                for (int i = 0; i < wave.getCount(); i++) {
+                    checkOpenCell("fruta", wave.getX(i), wave.getY(i), width, height, blocked, null);
+                }
+            }
+
+            boolean[] chasing = new boolean[enemyChasing.size()];
+            for (int i = 0; i < chasing.length; i++) {
+                chasing[i] = enemyChasing.get(i);
+            }
+
+            return new LevelTemplate(levelId, name != null ? name : levelId, width, height, timeLimitMs,
+                    playerX, playerY, iceX.toArray(), iceY.toArray(), wallX.toArray(), wallY.toArray(),
+                    enemyX.toArray(), enemyY.toArray(), enemyTypes.toArray(new Enemy.EnemyType[0]), chasing,
+                    waves.toArray(new LevelTemplate.FruitWave[0]));
+        }
+
+        /**
+         * Celdas del marco que GameMap cubre con muros: el borde y las esquinas de 2x2
+         */
+        private static boolean isFrameCell(int x, int y, int width, int height) {
+            boolean edge = x == 0 || y == 0 || x == width - 1 || y == height - 1;
+            boolean corner = (x <= 1 || x >= width - 2) && (y <= 1 || y >= height - 2);
+            return edge || corner;
+        }
+
+        private void closeWave() throws IOException {
+            if (waveX == null) {
+                return;
+            }
+            if (waveX.size() == 0) {
+                throw error("Oleada " + (waves.size() + 1) + " sin frutas");
+            }
+            waves.add(new LevelTemplate.FruitWave(waveX.toArray(), waveY.toArray(),
+                    waveTypes.toArray(new Fruit.FruitType[0])));
+            waveX = null;
+            waveY = null;
+            waveTypes = null;
+        }
+
+        private void checkOpenCell(String what, int x, int y, int width, int height,
+                                   boolean[] blocked, boolean[] frozen) throws IOException {
+            if (x < 0 || y < 0 || x >= width || y >= height) {
+                throw error("Posicion de " + what + " fuera del mapa: " + x + "," + y);
+            }
+            if (blocked[y * width + x]) {
+                throw error("Posicion de " + what + " sobre un muro: " + x + "," + y);
+            }
+            if (frozen != null && frozen[y * width + x]) {
+                throw error("Posicion de " + what + " dentro del hielo: " + x + "," + y);
+            }
+        }
+
+        private void expectArgs(String[] parts, int count) throws IOException {
+            if (parts.length != count + 1) {
+                throw error("'" + parts[0] + "' necesita " + count + " valores");
+            }
+        }
+
+        private int parseInt(String value) throws IOException {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw error("Numero invalido: " + value);
+            }
+        }
+
+        private <E extends Enum<E>> E parseEnum(Class<E> type, String value) throws IOException {
+            try {
+                return Enum.valueOf(type, value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw error("Tipo desconocido: " + value);
+            }
+        }
+
+        private IOException error(String message) {
+            return new IOException(source + (lineNumber > 0 ? ":" + lineNumber : "") + ": " + message);
+        }
+    }
+
+    /**
+     * Lista de enteros sin cajas, solo para armar la plantilla
+     */
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
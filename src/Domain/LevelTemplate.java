@@ -0,0 +1,122 @@
+package Domain;
+
+import java.util.Arrays;
+
+/**
+ * Descripcion inmutable de un nivel, tal como sale del archivo de nivel.
+ * Las posiciones se guardan en arreglos primitivos en coordenadas de cuadricula,
+ * asi que instanciar el nivel (al empezar o reiniciar) solo recorre arreglos
+ * sin volver a leer ni interpretar el archivo.
+ */
+public final class LevelTemplate {
+    private final String id;
+    private final String name;
+    private final int gridWidth;
+    private final int gridHeight;
+    private final long timeLimitMs;
+    private final int playerX;
+    private final int playerY;
+
+    // Hielos en orden de dibujo (de arriba hacia abajo, de izquierda a derecha)
+    private final int[] iceX;
+    private final int[] iceY;
+
+    // Muros interiores; el marco del borde lo pone siempre GameMap
+    private final int[] wallX;
+    private final int[] wallY;
+
+    private final int[] enemyX;
+    private final int[] enemyY;
+    private final Enemy.EnemyType[] enemyTypes;
+    private final boolean[] enemyChasing;
+
+    private final FruitWave[] waves;
+
+    LevelTemplate(String id, String name, int gridWidth, int gridHeight, long timeLimitMs,
+                  int playerX, int playerY, int[] iceX, int[] iceY, int[] wallX, int[] wallY,
+                  int[] enemyX, int[] enemyY, Enemy.EnemyType[] enemyTypes, boolean[] enemyChasing,
+                  FruitWave[] waves) {
+        this.id = id;
+        this.name = name;
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        this.timeLimitMs = timeLimitMs;
+        this.playerX = playerX;
+        this.playerY = playerY;
+        this.iceX = iceX;
+        this.iceY = iceY;
+        this.wallX = wallX;
+        this.wallY = wallY;
+        this.enemyX = enemyX;
+        this.enemyY = enemyY;
+        this.enemyTypes = enemyTypes;
+        this.enemyChasing = enemyChasing;
+        this.waves = waves;
+    }
+
+    public String getId() { return id; }
+    public String getName() { return name; }
+    public int getGridWidth() { return gridWidth; }
+    public int getGridHeight() { return gridHeight; }
+    public long getTimeLimitMs() { return timeLimitMs; }
+    public int getPlayerX() { return playerX; }
+    public int getPlayerY() { return playerY; }
+
+    public int getIceCount() { return iceX.length; }
+    public int getIceX(int i) { return iceX[i]; }
+    public int getIceY(int i) { return iceY[i]; }
+
+    public int getWallCount() { return wallX.length; }
+    public int getWallX(int i) { return wallX[i]; }
+    public int getWallY(int i) { return wallY[i]; }
+
+    public int getEnemyCount() { return enemyX.length; }
+    public int getEnemyX(int i) { return enemyX[i]; }
+    public int getEnemyY(int i) { return enemyY[i]; }
+    public Enemy.EnemyType getEnemyType(int i) { return enemyTypes[i]; }
+    public boolean isEnemyChasing(int i) { return enemyChasing[i]; }
+
+    public int getWaveCount() { return waves.length; }
+    public FruitWave getWave(int i) { return waves[i]; }
+
+    /**
+     * Cantidad de oleadas que ya habian aparecido cuando habia fruitCount frutas en juego.
+     * Sirve para retomar las oleadas de una partida guardada.
+     */
+    public int getSpawnedWaves(int fruitCount) {
+        int total = 0;
+        int spawned = 0;
+        while (spawned < waves.length && total + waves[spawned].getCount() <= fruitCount) {
+            total += waves[spawned].getCount();
+            spawned++;
+        }
+        return spawned;
+    }
+
+    /**
+     * Grupo de frutas que aparece junto; la siguiente oleada aparece al recolectar todas las anteriores
+     */
+    public static final class FruitWave {
+        private final int[] x;
+        private final int[] y;
+        private final Fruit.FruitType[] types;
+
+        FruitWave(int[] x, int[] y, Fruit.FruitType[] types) {
+            this.x = x;
+            this.y = y;
+            this.types = types;
+        }
+
+        public int getCount() { return x.length; }
+        public int getX(int i) { return x[i]; }
+        public int getY(int i) { return y[i]; }
+        public Fruit.FruitType getType(int i) { return types[i]; }
+    }
+
+    @Override
+    public String toString() {
+        return id + " (" + name + ", " + gridWidth + "x" + gridHeight + ", " + iceX.length + " hielos, "
+                + Arrays.stream(waves).mapToInt(FruitWave::getCount).sum() + " frutas en "
+                + waves.length + " oleadas, " + enemyX.length + " enemigos)";
+    }
+}
@@ -1,6 +1,5 @@
 package Domain;
 
-import javax.swing.ImageIcon;
 import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.Point;
@@ -34,8 +33,8 @@ public class PauseButton {
     private void loadImages() {
         try {
             String normalPath = "Images/Resources/Pause/PauseNormal.png";
-            normalImage = new ImageIcon(normalPath).getImage();
-            if (normalImage.getWidth(null) > 0) {
+            normalImage = SpriteCache.getImage(normalPath);
+            if (normalImage != null) {
                 System.out.println("Boton de pausa normal cargado");
             }
         } catch (Exception e) {
@@ -44,8 +43,8 @@ public class PauseButton {
 
         try {
             String hoverPath = "Images/Resources/Pause/PauseSelec.png";
-            hoverImage = new ImageIcon(hoverPath).getImage();
-            if (hoverImage.getWidth(null) > 0) {
+            hoverImage = SpriteCache.getImage(hoverPath);
+            if (hoverImage != null) {
                 System.out.println("Boton de pausa hover cargado");
             }
         } catch (Exception e) {
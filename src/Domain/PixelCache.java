@@ -0,0 +1,485 @@
+package Domain;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Cache en disco de los pixeles ya decodificados de los PNG de Images/.
+ * Todos los frames se guardan como ARGB en un solo archivo (cache/pixels.bin) que se
+ * abre con FileChannel.map: al arrancar, cada imagen se copia desde la memoria mapeada
+ * sin volver a decodificar el PNG.
+ *
+ * Cada entrada recuerda el tamano, la fecha y el CRC32 del PNG de origen; si el PNG cambia,
+ * la entrada se descarta y se decodifica de nuevo. Las imagenes nuevas se agregan al archivo
+ * con flushAsync (o todas de una vez con el main, como paso de build); hasta entonces sus
+ * pixeles estan en memoria, y al escribirse pasan a leerse del archivo nuevo mapeado.
+ *
+ * Formato: int magic ("BIPX"), short version, int bytes del indice,
+ *          indice { int entradas, { UTF ruta, long tamano, long fecha, long crc, int ancho, int alto, long offset } },
+ *          pixeles en int little-endian (offset en ints desde el inicio de esta seccion)
+ */
+public final class PixelCache {
+    public static final String CACHE_PATH = "cache/pixels.bin";
+    private static final int MAGIC = 0x42495058;
+    private static final int FORMAT_VERSION = 1;
+
+    // Varios PNG miden miles de pixeles y se dibujan a menos de 756 (el panel completo);
+    // se guardan reducidos a este lado maximo para no mapear cientos de MB inutiles
+    static final int MAX_SIDE = 1024;
+
+    // -Dbadicecream.pixelCache=false decodifica siempre los PNG
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("badicecream.pixelCache", "true"));
+
+    // Entradas del archivo mapeado y entradas decodificadas en esta ejecucion; protegido por la clase
+    private static final Map<String, Entry> entries = new HashMap<>();
+    private static IntBuffer mappedPixels;
+    private static boolean opened;
+    private static boolean dirty;
+    private static boolean flushScheduled;
+
+    private static long hits;
+    private static long misses;
+    private static long stale;
+
+    private PixelCache() {
+    }
+
+    /**
+     * Carga un PNG como imagen ARGB, desde el cache si esta al dia
+     * @return la imagen, o null si el archivo no existe o no se pudo decodificar
+     */
+    public static BufferedImage load(String path) {
+        File source = new File(path);
+        if (!source.isFile()) {
+            return null;
+        }
+        if (!ENABLED) {
+            return decode(source);
+        }
+
+        synchronized (PixelCache.class) {
+            open();
+            Entry entry = entries.get(path);
+            if (entry != null && entry.isCurrent(source)) {
+                hits++;
+                return entry.toImage();
+            }
+            if (entry != null) {
+                stale++;
+            }
+        }
+
+        // Decodificar fuera del candado: es la parte lenta
+        BufferedImage image = decode(source);
+        if (image == null) {
+            return null;
+        }
+
+        Entry fresh = Entry.fromImage(path, source, image);
+        synchronized (PixelCache.class) {
+            misses++;
+            if (fresh != null) {
+                entries.put(path, fresh);
+                dirty = true;
+            }
+        }
+        return image;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Escribe en segundo plano las imagenes nuevas o cambiadas desde la ultima escritura
+     */
+    public static void flushAsync() {
+        synchronized (PixelCache.class) {
+            if (!ENABLED || !dirty || flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+        }
+
+        Thread writer = new Thread(() -> {
+            synchronized (PixelCache.class) {
+                flushScheduled = false;
+            }
+            flush();
+        }, "pixel-cache-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Escribe el archivo de cache con todas las entradas vigentes
+     * @return true si se escribio
+     */
+    public static boolean flush() {
+        List<Entry> snapshot;
+        IntBuffer pixels;
+        synchronized (PixelCache.class) {
+            if (!dirty) {
+                return false;
+            }
+            snapshot = new ArrayList<>(entries.values());
+            pixels = mappedPixels;
+            dirty = false;
+        }
+
+        // Solo se guardan las entradas cuyo PNG sigue existiendo
+        snapshot.removeIf(entry -> !new File(entry.path).isFile());
+        snapshot.sort(Comparator.comparing(entry -> entry.path));
+
+        Path target = Paths.get(CACHE_PATH).toAbsolutePath();
+        Path pending = target.resolveSibling(target.getFileName() + ".new");
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long dataStart;
+        try {
+            Files.createDirectories(target.getParent());
+            dataStart = write(temp, snapshot, pixels);
+            Files.move(temp, pending, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.out.println("Error al escribir el cache de pixeles: " + e.getMessage());
+            synchronized (PixelCache.class) {
+                dirty = true;
+            }
+            return false;
+        }
+
+        // En Windows no se puede reemplazar un archivo mapeado: queda como .new para el proximo arranque
+        promotePending(target, pending);
+        adoptWritten(Files.isRegularFile(pending) ? pending : target, dataStart, snapshot);
+        System.out.println("Cache de pixeles guardado: " + snapshot.size() + " imagenes");
+        return true;
+    }
+
+    /**
+     * Mapea el archivo recien escrito y cambia las entradas escritas por entradas que leen de el,
+     * para que los pixeles decodificados en esta ejecucion no queden copiados en memoria
+     */
+    private static void adoptWritten(Path file, long dataStart, List<Entry> snapshot) {
+        IntBuffer written;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            written = channel.map(FileChannel.MapMode.READ_ONLY, dataStart, channel.size() - dataStart)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        } catch (IOException | RuntimeException e) {
+            // Las entradas siguen como estaban; se mapean en el proximo arranque
+            System.out.println("No se pudo mapear el cache de pixeles nuevo: " + e.getMessage());
+            return;
+        }
+
+        synchronized (PixelCache.class) {
+            Set<String> writtenPaths = new HashSet<>();
+            long offset = 0;
+            for (Entry entry : snapshot) {
+                // Si se decodifico de nuevo mientras se escribia, queda la entrada nueva
+                if (entries.get(entry.path) == entry) {
+                    entries.put(entry.path, new Entry(entry.path, entry.sourceLength, entry.sourceModified,
+                            entry.sourceCrc, entry.width, entry.height, offset, null));
+                }
+                writtenPaths.add(entry.path);
+                offset += (long) entry.width * entry.height;
+            }
+            // Las entradas del mapeo anterior que no se escribieron (su PNG ya no existe) quedan sin archivo
+            entries.values().removeIf(entry -> entry.pixels == null && !writtenPaths.contains(entry.path));
+            mappedPixels = written;
+        }
+    }
+
+    /**
+     * @return posicion en el archivo donde empiezan los pixeles
+     */
+    private static long write(Path file, List<Entry> snapshot, IntBuffer mapped) throws IOException {
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexBytes);
+        index.writeInt(snapshot.size());
+        long offset = 0;
+        for (Entry entry : snapshot) {
+            index.writeUTF(entry.path);
+            index.writeLong(entry.sourceLength);
+            index.writeLong(entry.sourceModified);
+            index.writeLong(entry.sourceCrc);
+            index.writeInt(entry.width);
+            index.writeInt(entry.height);
+            index.writeLong(offset);
+            offset += (long) entry.width * entry.height;
+        }
+        index.flush();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(10 + indexBytes.size());
+            header.putInt(MAGIC);
+            header.putShort((short) FORMAT_VERSION);
+            header.putInt(indexBytes.size());
+            header.put(indexBytes.toByteArray());
+            header.flip();
+            writeFully(channel, header);
+
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+            IntBuffer ints = buffer.asIntBuffer();
+            for (Entry entry : snapshot) {
+                IntBuffer source = entry.pixelSource(mapped);
+                while (source.hasRemaining()) {
+                    int count = Math.min(source.remaining(), ints.capacity());
+                    ints.clear();
+                    IntBuffer chunk = source.slice();
+                    chunk.limit(count);
+                    ints.put(chunk);
+                    source.position(source.position() + count);
+
+                    buffer.clear();
+                    buffer.limit(count * 4);
+                    writeFully(channel, buffer);
+                }
+            }
+        }
+        return 10L + indexBytes.size();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Mapea el archivo de cache la primera vez que se pide una imagen
+     */
+    private static void open() {
+        if (opened) {
+            return;
+        }
+        opened = true;
+
+        Path target = Paths.get(CACHE_PATH).toAbsolutePath();
+        promotePending(target, target.resolveSibling(target.getFileName() + ".new"));
+        if (!Files.isRegularFile(target)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(target)))) {
+            if (in.readInt() != MAGIC || in.readUnsignedShort() != FORMAT_VERSION) {
+                System.out.println("Cache de pixeles de otra version, se reconstruye");
+                return;
+            }
+            int indexSize = in.readInt();
+            long dataStart = 10L + indexSize;
+            long dataSize = channel.size() - dataStart;
+            if (indexSize < 4 || dataSize < 0 || dataSize > Integer.MAX_VALUE) {
+                throw new IOException("tamanos invalidos");
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, dataStart, dataSize);
+            IntBuffer pixels = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+            int count = in.readInt();
+            Map<String, Entry> read = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry(in.readUTF(), in.readLong(), in.readLong(), in.readLong(),
+                        in.readInt(), in.readInt(), in.readLong(), null);
+                if (entry.width <= 0 || entry.height <= 0
+                        || entry.offset + (long) entry.width * entry.height > pixels.capacity()) {
+                    throw new IOException("entrada fuera del archivo: " + entry.path);
+                }
+                read.put(entry.path, entry);
+            }
+
+            mappedPixels = pixels;
+            entries.putAll(read);
+            System.out.println("Cache de pixeles abierto: " + count + " imagenes, "
+                    + (dataSize / 1024) + " KB mapeados");
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Cache de pixeles invalido, se reconstruye: " + e.getMessage());
+        }
+    }
+
+    private static void promotePending(Path target, Path pending) {
+        if (!Files.isRegularFile(pending)) {
+            return;
+        }
+        try {
+            Files.move(pending, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            try {
+                Files.move(pending, target, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException ignored) {
+                // El archivo actual sigue mapeado; se reemplaza en el proximo arranque
+            }
+        }
+    }
+
+    private static BufferedImage decode(File source) {
+        try {
+            BufferedImage decoded = ImageIO.read(source);
+            if (decoded == null) {
+                return null;
+            }
+            if (Math.max(decoded.getWidth(), decoded.getHeight()) > MAX_SIDE) {
+                return shrink(decoded, MAX_SIDE);
+            }
+            if (decoded.getType() == BufferedImage.TYPE_INT_ARGB) {
+                return decoded;
+            }
+
+            int width = decoded.getWidth();
+            int height = decoded.getHeight();
+            BufferedImage argb = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            argb.getRaster().setDataElements(0, 0, width, height,
+                    decoded.getRGB(0, 0, width, height, null, 0, width));
+            return argb;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reduce una imagen para que su lado mayor mida maxSide, a la mitad las veces necesarias
+     * y luego al tamano final, para que el suavizado no pierda detalle en reducciones grandes
+     */
+    static BufferedImage shrink(BufferedImage image, int maxSide) {
+        double scale = (double) maxSide / Math.max(image.getWidth(), image.getHeight());
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = next.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, width, height, null);
+            g.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private static long crc(File source) {
+        try {
+            CRC32 crc = new CRC32();
+            crc.update(Files.readAllBytes(source.toPath()));
+            return crc.getValue();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    public static synchronized String getReport() {
+        return "Cache de pixeles: aciertos=" + hits + ", decodificados=" + misses + ", desactualizados=" + stale;
+    }
+
+    /**
+     * Paso de build: decodifica todos los PNG de Images/ y escribe el cache completo.
+     * Uso: java -Djava.awt.headless=true Domain.PixelCache [carpeta]
+     */
+    public static void main(String[] args) throws IOException {
+        String root = args.length > 0 ? args[0] : "Images";
+        long start = System.nanoTime();
+        int count = 0;
+        try (Stream<Path> files = Files.walk(Paths.get(root))) {
+            for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".png")).sorted()::iterator) {
+                if (load(file.toString().replace(File.separatorChar, '/')) != null) {
+                    count++;
+                }
+            }
+        }
+        flush();
+        System.out.println(count + " imagenes en " + (System.nanoTime() - start) / 1_000_000 + " ms. " + getReport());
+    }
+
+    /**
+     * Una imagen del cache: sus pixeles estan en el archivo mapeado o, si es nueva, en memoria
+     */
+    private static final class Entry {
+        final String path;
+        final long sourceLength;
+        long sourceModified;
+        final long sourceCrc;
+        final int width;
+        final int height;
+        final long offset;
+        final int[] pixels;
+
+        Entry(String path, long sourceLength, long sourceModified, long sourceCrc,
+              int width, int height, long offset, int[] pixels) {
+            this.path = path;
+            this.sourceLength = sourceLength;
+            this.sourceModified = sourceModified;
+            this.sourceCrc = sourceCrc;
+            this.width = width;
+            this.height = height;
+            this.offset = offset;
+            this.pixels = pixels;
+        }
+
+        static Entry fromImage(String path, File source, BufferedImage image) {
+            long crc = crc(source);
+            if (crc < 0) {
+                return null;
+            }
+            int width = image.getWidth();
+            int height = image.getHeight();
+            int[] pixels = (int[]) image.getRaster().getDataElements(0, 0, width, height, null);
+            return new Entry(path, source.length(), source.lastModified(), crc, width, height, -1, pixels);
+        }
+
+        /**
+         * Compara con el PNG actual; si solo cambio la fecha (por ejemplo tras un checkout)
+         * se confirma con el CRC
+         */
+        boolean isCurrent(File source) {
+            if (source.length() != sourceLength) {
+                return false;
+            }
+            long modified = source.lastModified();
+            if (modified == sourceModified) {
+                return true;
+            }
+            if (crc(source) != sourceCrc) {
+                return false;
+            }
+            sourceModified = modified;
+            dirty = true;
+            return true;
+        }
+
+        BufferedImage toImage() {
+            int[] argb = new int[width * height];
+            pixelSource(mappedPixels).get(argb);
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            image.getRaster().setDataElements(0, 0, width, height, argb);
+            return image;
+        }
+
+        IntBuffer pixelSource(IntBuffer mapped) {
+            if (pixels != null) {
+                return IntBuffer.wrap(pixels);
+            }
+            IntBuffer view = mapped.duplicate();
+            view.position((int) offset);
+            view.limit((int) offset + width * height);
+            return view.slice();
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package Domain;
 
-import java.awt.Image;
-
 /**
  * Interfaz que define el comportamiento de un jugador (polimorfismo)
  */
@@ -30,7 +28,7 @@ public interface Player {
 
     // Direccion y animacion
     Direction getDirection();
-    Image getCurrentSprite();
+    SpriteFrame getCurrentSprite();
 
     // Estado del jugador
     boolean isMoving();
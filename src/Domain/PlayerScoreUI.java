@@ -1,6 +1,5 @@
 package Domain;
 
-import javax.swing.ImageIcon;
 import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.Font;
@@ -13,23 +12,37 @@ public class PlayerScoreUI {
     private Image j1Icon;
     private String playerName;
     private String playerFlavor;
+    private final String iconPath;
 
-    private static final int ICON_X = 20;
     private static final int ICON_Y = 20;
     private static final int ICON_SIZE = 45;
 
-    private static final int SCORE_X = ICON_X + ICON_SIZE + 8;
     private static final int SCORE_Y = ICON_Y + 28;
-
-    private static final int NAME_X = ICON_X;
     private static final int NAME_Y = ICON_Y + ICON_SIZE + 18;
-
-    private static final int FLAVOR_X = ICON_X;
     private static final int FLAVOR_Y = NAME_Y + 20;
 
+    // Columna del jugador: el jugador 2 se dibuja a la derecha del 1
+    private final int iconX;
+    private final int scoreX;
+    private final int nameX;
+    private final int flavorX;
+
     public PlayerScoreUI(String playerName, String playerFlavor) {
+        this(playerName, playerFlavor, "Images/Resources/J1.png", 20);
+    }
+
+    /**
+     * @param iconPath icono del jugador (J1.png o J2.png)
+     * @param x columna izquierda del bloque
+     */
+    public PlayerScoreUI(String playerName, String playerFlavor, String iconPath, int x) {
         this.playerName = playerName;
         this.playerFlavor = getFlavorDisplayName(playerFlavor);
+        this.iconPath = iconPath;
+        this.iconX = x;
+        this.scoreX = iconX + ICON_SIZE + 8;
+        this.nameX = iconX;
+        this.flavorX = iconX;
         loadIcon();
     }
 
@@ -50,23 +63,22 @@ public class PlayerScoreUI {
 
     private void loadIcon() {
         try {
-            String path = "Images/Resources/J1.png";
-            ImageIcon icon = new ImageIcon(path);
-            if (icon.getIconWidth() > 0) {
-                j1Icon = icon.getImage();
-                System.out.println("Icono J1 cargado correctamente");
+            String path = iconPath;
+            j1Icon = SpriteCache.getImage(path);
+            if (j1Icon != null) {
+                System.out.println("Icono cargado correctamente: " + path);
             } else {
                 System.out.println("Advertencia: No se pudo cargar " + path);
             }
         } catch (Exception e) {
-            System.out.println("Error cargando icono J1: " + e.getMessage());
+            System.out.println("Error cargando icono " + iconPath + ": " + e.getMessage());
         }
     }
 
     public void draw(Graphics g, int score) {
-        // Dibujar icono J1
+        // Dibujar icono del jugador
         if (j1Icon != null) {
-            g.drawImage(j1Icon, ICON_X, ICON_Y, ICON_SIZE, ICON_SIZE, null);
+            g.drawImage(j1Icon, iconX, ICON_Y, ICON_SIZE, ICON_SIZE, null);
         }
 
         // Dibujar puntaje
@@ -87,11 +99,11 @@ public class PlayerScoreUI {
 
         // Sombra negra
         g.setColor(Color.BLACK);
-        g.drawString(scoreText, SCORE_X + 1, SCORE_Y + 11);
+        g.drawString(scoreText, scoreX + 1, SCORE_Y + 11);
 
         // Texto amarillo
         g.setColor(Color.YELLOW);
-        g.drawString(scoreText, SCORE_X, SCORE_Y + 10);
+        g.drawString(scoreText, scoreX, SCORE_Y + 10);
     }
 
     private void drawPlayerName(Graphics g) {
@@ -100,11 +112,11 @@ public class PlayerScoreUI {
 
         // Sombra negra
         g.setColor(Color.BLACK);
-        g.drawString(playerName, NAME_X + 1, NAME_Y + 1);
+        g.drawString(playerName, nameX + 1, NAME_Y + 1);
 
         // Texto blanco
         g.setColor(Color.WHITE);
-        g.drawString(playerName, NAME_X, NAME_Y);
+        g.drawString(playerName, nameX, NAME_Y);
     }
 
     private void drawPlayerFlavor(Graphics g) {
@@ -113,10 +125,10 @@ public class PlayerScoreUI {
 
         // Sombra negra
         g.setColor(Color.BLACK);
-        g.drawString(playerFlavor, FLAVOR_X + 1, FLAVOR_Y + 1);
+        g.drawString(playerFlavor, flavorX + 1, FLAVOR_Y + 1);
 
         // Texto cyan claro
         g.setColor(Color.WHITE);
-        g.drawString(playerFlavor, FLAVOR_X, FLAVOR_Y);
+        g.drawString(playerFlavor, flavorX, FLAVOR_Y);
     }
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package Domain;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reproduce grabaciones de partidas sin interfaz y tan rapido como se pueda.
+ * Reconstruye cada sesion con su semilla y su nivel, le pasa la mascara de entrada de cada tick
+ * y compara el hash del estado final con el grabado, para detectar cambios de
+ * comportamiento en la simulacion.
+ *
+ * Uso: java -Djava.awt.headless=true Domain.ReplayRunner [archivo.rpl | carpeta]...
+ * Sin argumentos reproduce la carpeta replays/.
+ */
+public class ReplayRunner {
+    private static final int GAME_SIZE = 756;
+    private static final int CELL_SIZE = 42;
+
+    public static void main(String[] args) {
+        List<File> files = new ArrayList<>();
+        for (String arg : args.length == 0 ? new String[] {"replays"} : args) {
+            collectReplays(new File(arg), files);
+        }
+
+        if (files.isEmpty()) {
+            System.out.println("No se encontraron grabaciones.");
+            return;
+        }
+
+        int failures = 0;
+        for (File file : files) {
+            if (!runReplay(file)) {
+                failures++;
+            }
+        }
+
+        System.out.println(files.size() + " grabaciones, " + failures + " con diferencias o errores");
+        if (failures > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void collectReplays(File file, List<File> files) {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles((dir, name) -> name.endsWith(".rpl"));
+            if (children != null) {
+                Arrays.sort(children);
+                files.addAll(Arrays.asList(children));
+            }
+        } else if (file.isFile()) {
+            files.add(file);
+        }
+    }
+
+    private static boolean runReplay(File file) {
+        InputLog log;
+        try {
+            log = InputLog.loadFromFile(file.getPath());
+        } catch (IOException e) {
+            System.out.println("ERROR " + file.getName() + ": " + e.getMessage());
+            return false;
+        }
+
+        // La primera carga de sprites es lenta; se mide aparte de la simulacion
+        long start = System.nanoTime();
+        GameSession session;
+        try {
+            session = createSession(log);
+        } catch (IOException e) {
+            System.out.println("ERROR " + file.getName() + ": " + e.getMessage());
+            return false;
+        }
+        long loaded = System.nanoTime();
+        long hash = replay(session, log);
+        long nanos = System.nanoTime() - loaded;
+
+        boolean ok = hash == log.getFinalStateHash();
+        double ticksPerSecond = log.getFinalTick() / Math.max(nanos / 1e9, 1e-9);
+        double speedup = ticksPerSecond * GameSession.TICK_MILLIS / 1000.0;
+        System.out.println(String.format("%-4s %s: %d ticks en %.1f ms (%.0f ticks/s, x%.0f tiempo real, carga %.1f ms)",
+                ok ? "OK" : "DIFF", file.getName(), log.getFinalTick(), nanos / 1e6, ticksPerSecond, speedup,
+                (loaded - start) / 1e6));
+        return ok;
+    }
+
+    /**
+     * Ejecuta una grabacion completa y devuelve el hash del estado final
+     */
+    public static long replay(InputLog log) throws IOException {
+        return replay(createSession(log), log);
+    }
+
+    private static GameSession createSession(InputLog log) throws IOException {
+        GameSession session = new GameSession(GAME_SIZE, GAME_SIZE, CELL_SIZE, log.getSeed());
+        session.startLevel(LevelLoader.load(log.getLevelId()), log.getPlayerSpritePath());
+        if (log.getPlayer2SpritePath() != null) {
+            session.addSecondPlayer(log.getPlayer2SpritePath());
+        }
+        return session;
+    }
+
+    private static long replay(GameSession session, InputLog log) {
+        InputLog.Playback playback = log.playback();
+        for (long tick = 1; tick <= log.getFinalTick(); tick++) {
+            session.tick(playback.inputAt(tick));
+        }
+        return session.computeStateHash();
+    }
+}
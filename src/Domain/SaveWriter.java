@@ -0,0 +1,96 @@
+package Domain;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Escribe guardados (y grabaciones) en disco desde un hilo propio, para que ni el bucle del juego
+ * ni el EDT esperen nunca por el disco.
+ * Si llegan varias solicitudes para el mismo archivo antes de que se escriba,
+ * solo se escribe la mas reciente.
+ */
+public class SaveWriter {
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "save-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Solicitudes pendientes por ruta; protegido por this
+    private final Map<String, PendingSave> pending = new LinkedHashMap<>();
+    private boolean drainScheduled;
+
+    /**
+     * Encola la escritura de un guardado. La instancia no debe modificarse despues.
+     * @param snapshot datos a escribir
+     * @param filepath ruta completa del archivo
+     * @param onDone se llama desde el hilo de escritura con el resultado (puede ser null)
+     */
+    public void submit(GameSaveData snapshot, String filepath, Consumer<Boolean> onDone) {
+        submit(filepath, snapshot::saveToFile, onDone);
+    }
+
+    /**
+     * Encola la escritura de una grabacion. La instancia no debe modificarse despues.
+     */
+    public void submit(InputLog replay, String filepath, Consumer<Boolean> onDone) {
+        submit(filepath, replay::saveToFile, onDone);
+    }
+
+    /**
+     * @param write escribe los datos en la ruta que recibe y devuelve si pudo
+     */
+    private void submit(String filepath, Predicate<String> write, Consumer<Boolean> onDone) {
+        synchronized (this) {
+            PendingSave replaced = pending.get(filepath);
+            if (replaced != null && replaced.onDone != null) {
+                // Quien esperaba la solicitud reemplazada recibe el resultado de la nueva
+                onDone = (onDone == null) ? replaced.onDone : replaced.onDone.andThen(onDone);
+            }
+            pending.put(filepath, new PendingSave(write, onDone));
+
+            if (!drainScheduled) {
+                drainScheduled = true;
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            String filepath;
+            PendingSave save;
+            synchronized (this) {
+                Iterator<Map.Entry<String, PendingSave>> it = pending.entrySet().iterator();
+                if (!it.hasNext()) {
+                    drainScheduled = false;
+                    return;
+                }
+                Map.Entry<String, PendingSave> next = it.next();
+                it.remove();
+                filepath = next.getKey();
+                save = next.getValue();
+            }
+
+            boolean ok = save.write.test(filepath);
+            if (save.onDone != null) {
+                save.onDone.accept(ok);
+            }
+        }
+    }
+
+    private static class PendingSave {
+        final Predicate<String> write;
+        final Consumer<Boolean> onDone;
+
+        PendingSave(Predicate<String> write, Consumer<Boolean> onDone) {
+            this.write = write;
+            this.onDone = onDone;
+        }
+    }
+}
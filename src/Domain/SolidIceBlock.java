@@ -1,7 +1,5 @@
 package Domain;
 
-import javax.swing.ImageIcon;
-import java.awt.Image;
 
 /**
  * Bloque de hielo que comienza directamente en estado solido
@@ -15,8 +13,8 @@ public class SolidIceBlock implements Block {
     private final int DESTROY_ANIMATION_SPEED = 8;
     private final int DESTROY_FRAMES = 9;
 
-    private Image solidSprite;
-    private Image[] destroySprites;
+    private SpriteFrame solidSprite;
+    private SpriteFrame[] destroySprites;
 
     private static final int SOLID_SPRITE_WIDTH = 42;
     private static final int SOLID_SPRITE_HEIGHT = 70;
@@ -31,40 +29,27 @@ public class SolidIceBlock implements Block {
     }
 
     public SolidIceBlock(int x, int y) {
+        loadSprites();
+        reset(x, y);
+    }
+
+    /**
+     * Deja el bloque solido en otra posicion (para reutilizarlo)
+     */
+    public void reset(int x, int y) {
         this.x = x;
         this.y = y;
         this.state = BlockState.SOLID;
         this.animationFrame = 0;
         this.animationCounter = 0;
-
-        loadSprites();
     }
 
     private void loadSprites() {
-        // Cargar sprite solido (7.png de la animacion de creacion)
-        String solidPath = "Images/Ice/Create/Right/7.png";
-        try {
-            ImageIcon icon = new ImageIcon(solidPath);
-            if (icon.getIconWidth() > 0) {
-                solidSprite = icon.getImage();
-            }
-        } catch (Exception e) {
-            System.out.println("Error cargando sprite solido: " + solidPath);
-        }
+        // Sprite solido (7.png de la animacion de creacion), compartido con IceBlock
+        solidSprite = SpriteAtlas.getFrames("Images/Ice/Create/Right", 7)[6];
 
         // Sprites de destruccion (1-9)
-        destroySprites = new Image[DESTROY_FRAMES];
-        for (int i = 0; i < DESTROY_FRAMES; i++) {
-            String path = "Images/Ice/Destroy/" + (i + 1) + ".png";
-            try {
-                ImageIcon icon = new ImageIcon(path);
-                if (icon.getIconWidth() > 0) {
-                    destroySprites[i] = icon.getImage();
-                }
-            } catch (Exception e) {
-                System.out.println("Error cargando sprite de destruccion: " + path);
-            }
-        }
+        destroySprites = SpriteAtlas.getFrames("Images/Ice/Destroy", DESTROY_FRAMES);
     }
 
     @Override
@@ -97,7 +82,7 @@ public class SolidIceBlock implements Block {
     }
 
     @Override
-    public Image getCurrentSprite() {
+    public SpriteFrame getCurrentSprite() {
         switch (state) {
             case SOLID:
                 return solidSprite;
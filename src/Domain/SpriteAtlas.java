@@ -0,0 +1,198 @@
+package Domain;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Hojas de sprites empaquetadas por familia de animaciones (un helado, un enemigo,
+ * una fruta, el hielo). La primera vez que se pide un frame de una familia se cargan
+ * todos sus PNG, se reducen al tamano de dibujo y se acomodan en pocas hojas grandes;
+ * cada frame queda como un rectangulo dentro de una hoja.
+ * Asi se dibujan todas las entidades desde unas pocas imagenes en memoria en lugar de
+ * cientos de imagenes sueltas de miles de pixeles.
+ *
+ * La familia de una carpeta son sus tres primeros componentes (Images/IceCreams/Vanilla,
+ * Images/Enemies/Troll, Images/Ice/Create, ...).
+ * Los arreglos devueltos son compartidos: nunca deben modificarse.
+ */
+public final class SpriteAtlas {
+    // El frame mas grande se dibuja a 68x92 (helado creando hielo); se guarda con algo de margen
+    static final int MAX_FRAME_SIDE = 128;
+    private static final int SHEET_SIZE = 1024;
+    private static final int PADDING = 1;
+    private static final int FAMILY_DEPTH = 3;
+
+    private static final Map<String, Map<String, SpriteFrame>> families = new ConcurrentHashMap<>();
+    private static final Map<String, SpriteFrame[]> clips = new ConcurrentHashMap<>();
+
+    // Estadisticas de las hojas armadas
+    private static final AtomicLong sheetCount = new AtomicLong();
+    private static final AtomicLong frameCount = new AtomicLong();
+    private static final AtomicLong sheetBytes = new AtomicLong();
+
+    private SpriteAtlas() {
+    }
+
+    /**
+     * Obtiene los frames de una animacion ubicada en una carpeta (1.png, 2.png, ...)
+     * Los frames que no existen quedan en null
+     * @param folderPath carpeta de la animacion
+     * @param frameCount cantidad de frames
+     * @return arreglo compartido con los frames
+     */
+    public static SpriteFrame[] getFrames(String folderPath, int frameCount) {
+        return clips.computeIfAbsent(folderPath + "#" + frameCount, key -> {
+            Map<String, SpriteFrame> family = getFamily(folderPath);
+            SpriteFrame[] frames = new SpriteFrame[frameCount];
+            for (int i = 0; i < frameCount; i++) {
+                String path = folderPath + "/" + (i + 1) + ".png";
+                frames[i] = family.get(path);
+                if (frames[i] == null) {
+                    System.out.println("Advertencia: No se pudo cargar " + path);
+                }
+            }
+            return frames;
+        });
+    }
+
+    /**
+     * Arma de antemano las hojas de la familia de la carpeta (por ejemplo desde la precarga)
+     */
+    public static void preload(String folderPath) {
+        getFamily(folderPath);
+    }
+
+    private static Map<String, SpriteFrame> getFamily(String folderPath) {
+        String[] parts = folderPath.split("/");
+        int depth = Math.min(FAMILY_DEPTH, parts.length);
+        String root = String.join("/", Arrays.copyOf(parts, depth));
+        return families.computeIfAbsent(root, SpriteAtlas::pack);
+    }
+
+    /**
+     * Carga todos los PNG de la familia y los acomoda en hojas por estantes:
+     * ordenados de mas alto a mas bajo, de izquierda a derecha, abriendo un estante
+     * nuevo cuando la fila se llena y una hoja nueva cuando no quedan estantes
+     */
+    private static Map<String, SpriteFrame> pack(String root) {
+        List<String> paths;
+        try (Stream<Path> files = Files.walk(Paths.get(root))) {
+            paths = files.filter(p -> p.toString().endsWith(".png"))
+                    .map(p -> p.toString().replace('\\', '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            System.out.println("Advertencia: No se pudo leer la carpeta " + root);
+            return new HashMap<>();
+        }
+
+        List<Placement> placements = new ArrayList<>();
+        for (String path : paths) {
+            BufferedImage image = PixelCache.load(path);
+            if (image == null) {
+                System.out.println("Advertencia: No se pudo cargar " + path);
+                continue;
+            }
+            if (Math.max(image.getWidth(), image.getHeight()) > MAX_FRAME_SIDE) {
+                image = PixelCache.shrink(image, MAX_FRAME_SIDE);
+            }
+            placements.add(new Placement(path, image));
+        }
+        placements.sort(Comparator.comparingInt((Placement p) -> p.image.getHeight()).reversed());
+
+        // Primero se ubican los frames para saber cuanto mide cada hoja
+        List<int[]> sheetSizes = new ArrayList<>();
+        int sheet = -1;
+        int shelfX = SHEET_SIZE;
+        int shelfY = 0;
+        int shelfHeight = 0;
+        for (Placement p : placements) {
+            int w = p.image.getWidth();
+            int h = p.image.getHeight();
+            if (shelfX + w > SHEET_SIZE) {
+                shelfY += shelfHeight + PADDING;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            if (sheet < 0 || shelfY + h > SHEET_SIZE) {
+                sheet++;
+                sheetSizes.add(new int[2]);
+                shelfX = 0;
+                shelfY = 0;
+                shelfHeight = 0;
+            }
+            p.sheet = sheet;
+            p.x = shelfX;
+            p.y = shelfY;
+            shelfX += w + PADDING;
+            shelfHeight = Math.max(shelfHeight, h);
+
+            int[] size = sheetSizes.get(sheet);
+            size[0] = Math.max(size[0], p.x + w);
+            size[1] = Math.max(size[1], p.y + h);
+        }
+
+        BufferedImage[] sheets = new BufferedImage[sheetSizes.size()];
+        Graphics2D[] graphics = new Graphics2D[sheets.length];
+        for (int i = 0; i < sheets.length; i++) {
+            sheets[i] = new BufferedImage(sheetSizes.get(i)[0], sheetSizes.get(i)[1], BufferedImage.TYPE_INT_ARGB);
+            graphics[i] = sheets[i].createGraphics();
+            graphics[i].setComposite(AlphaComposite.Src);
+            sheetBytes.addAndGet((long) sheets[i].getWidth() * sheets[i].getHeight() * 4);
+        }
+
+        Map<String, SpriteFrame> frames = new HashMap<>();
+        for (Placement p : placements) {
+            graphics[p.sheet].drawImage(p.image, p.x, p.y, null);
+            frames.put(p.path, new SpriteFrame(sheets[p.sheet], p.x, p.y,
+                    p.image.getWidth(), p.image.getHeight()));
+        }
+        for (Graphics2D g : graphics) {
+            g.dispose();
+        }
+
+        sheetCount.addAndGet(sheets.length);
+        frameCount.addAndGet(frames.size());
+        System.out.println("Atlas " + root + ": " + frames.size() + " frames en " + sheets.length + " hojas");
+        return frames;
+    }
+
+    /**
+     * Frame ya cargado esperando su lugar en una hoja
+     */
+    private static final class Placement {
+        final String path;
+        final BufferedImage image;
+        int sheet;
+        int x;
+        int y;
+
+        Placement(String path, BufferedImage image) {
+            this.path = path;
+            this.image = image;
+        }
+    }
+
+    /**
+     * Resumen de las hojas armadas (familias, hojas, frames y memoria)
+     */
+    public static String getReport() {
+        return "Atlas de sprites: " + families.size() + " familias, " + sheetCount.get() + " hojas, "
+                + frameCount.get() + " frames, " + (sheetBytes.get() / 1024) + " KB";
+    }
+}
@@ -0,0 +1,105 @@
+package Domain;
+
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache global de sprites compartido por todas las entidades, bloques y muros.
+ * Cada animacion (carpeta + cantidad de frames) se carga una sola vez por proceso
+ * y todas las instancias reciben el mismo arreglo de imagenes.
+ * Los pixeles salen de PixelCache, asi que entre ejecuciones los PNG no se vuelven a decodificar.
+ * Los arreglos devueltos son compartidos: nunca deben modificarse.
+ */
+public final class SpriteCache {
+    private static final Map<String, Image[]> clips = new ConcurrentHashMap<>();
+
+    // Estadisticas del cache
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong decodedBytes = new AtomicLong();
+
+    private SpriteCache() {
+    }
+
+    /**
+     * Obtiene los frames de una animacion ubicada en una carpeta (1.png, 2.png, ...)
+     * Los frames que no se pudieron cargar quedan en null
+     * @param folderPath carpeta de la animacion
+     * @param frameCount cantidad de frames
+     * @return arreglo compartido con los frames
+     */
+    public static Image[] getFrames(String folderPath, int frameCount) {
+        return lookup(folderPath + "#" + frameCount, folderPath, frameCount);
+    }
+
+    /**
+     * Obtiene una imagen individual
+     * @param path ruta de la imagen
+     * @return imagen compartida, o null si no se pudo cargar
+     */
+    public static Image getImage(String path) {
+        return lookup(path, path, 0)[0];
+    }
+
+    private static Image[] lookup(String key, String path, int frameCount) {
+        Image[] clip = clips.get(key);
+        if (clip != null) {
+            hits.incrementAndGet();
+            return clip;
+        }
+
+        return clips.computeIfAbsent(key, k -> {
+            misses.incrementAndGet();
+            if (frameCount == 0) {
+                return new Image[]{decode(path)};
+            }
+            return decodeFrames(path, frameCount);
+        });
+    }
+
+    private static Image[] decodeFrames(String folderPath, int frameCount) {
+        Image[] frames = new Image[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            frames[i] = decode(folderPath + "/" + (i + 1) + ".png");
+        }
+        return frames;
+    }
+
+    private static Image decode(String path) {
+        try {
+            BufferedImage image = PixelCache.load(path);
+            if (image != null) {
+                decodedBytes.addAndGet((long) image.getWidth() * image.getHeight() * 4);
+                return image;
+            }
+            System.out.println("Advertencia: No se pudo cargar " + path);
+        } catch (Exception e) {
+            System.out.println("Error cargando sprite: " + path);
+        }
+        return null;
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    public static long getDecodedBytes() {
+        return decodedBytes.get();
+    }
+
+    /**
+     * Resumen del estado del cache (aciertos, fallos y memoria decodificada)
+     */
+    public static String getReport() {
+        return "Cache de sprites: " + clips.size() + " entradas, aciertos=" + hits.get()
+                + ", fallos=" + misses.get()
+                + ", decodificado=" + (decodedBytes.get() / 1024) + " KB. " + PixelCache.getReport();
+    }
+}
@@ -0,0 +1,38 @@
+package Domain;
+
+import java.awt.Graphics;
+import java.awt.image.BufferedImage;
+
+/**
+ * Un frame de animacion dentro de una hoja de SpriteAtlas: la hoja compartida
+ * y el rectangulo que ocupa el frame en ella.
+ * Es inmutable; todas las entidades que muestran el mismo frame comparten la instancia.
+ */
+public final class SpriteFrame {
+    private final BufferedImage sheet;
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    SpriteFrame(BufferedImage sheet, int x, int y, int width, int height) {
+        this.sheet = sheet;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Dibuja el frame escalado al rectangulo destino copiando solo su parte de la hoja
+     */
+    public void draw(Graphics g, int dx, int dy, int dw, int dh) {
+        g.drawImage(sheet, dx, dy, dx + dw, dy + dh, x, y, x + width, y + height, null);
+    }
+
+    public BufferedImage getSheet() { return sheet; }
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
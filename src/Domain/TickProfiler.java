@@ -0,0 +1,89 @@
+package Domain;
+
+/**
+ * Mide cuanto tarda cada fase de un tick de simulacion.
+ * Guarda los ultimos ticks en una ventana deslizante para mostrar promedio y maximo.
+ * No es thread-safe: se escribe desde tick() y se lee con el mismo candado de la simulacion.
+ */
+public class TickProfiler {
+    /**
+     * Fases del tick. Una fase puede medirse en varios tramos del mismo tick.
+     */
+    public enum Phase {
+        PLAYER, MAP, FRUITS, ENEMIES, COLLISIONS
+    }
+
+    private static final int WINDOW_SIZE = 120;
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[][] phaseSamples = new long[PHASES.length][WINDOW_SIZE];
+    private final long[] tickSamples = new long[WINDOW_SIZE];
+    private final long[] current = new long[PHASES.length];
+    private long tickStart;
+    private long phaseStart;
+    private int index;
+    private int count;
+
+    public void beginTick() {
+        tickStart = System.nanoTime();
+        phaseStart = tickStart;
+    }
+
+    /**
+     * Cierra el tramo actual y lo suma a la fase indicada
+     */
+    public void endPhase(Phase phase) {
+        long now = System.nanoTime();
+        current[phase.ordinal()] += now - phaseStart;
+        phaseStart = now;
+    }
+
+    public void endTick() {
+        long now = System.nanoTime();
+        for (int p = 0; p < PHASES.length; p++) {
+            phaseSamples[p][index] = current[p];
+            current[p] = 0;
+        }
+        tickSamples[index] = now - tickStart;
+
+        index = (index + 1) % WINDOW_SIZE;
+        if (count < WINDOW_SIZE) {
+            count++;
+        }
+    }
+
+    public double getAverageMillis(Phase phase) {
+        return average(phaseSamples[phase.ordinal()]);
+    }
+
+    public double getMaxMillis(Phase phase) {
+        return max(phaseSamples[phase.ordinal()]);
+    }
+
+    public double getAverageTickMillis() {
+        return average(tickSamples);
+    }
+
+    public double getMaxTickMillis() {
+        return max(tickSamples);
+    }
+
+    private double average(long[] samples) {
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += samples[i];
+        }
+        return sum / (double) count / 1_000_000.0;
+    }
+
+    private double max(long[] samples) {
+        long max = 0;
+        for (int i = 0; i < count; i++) {
+            max = Math.max(max, samples[i]);
+        }
+        return max / 1_000_000.0;
+    }
+}
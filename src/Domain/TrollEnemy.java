@@ -1,45 +1,67 @@
 package Domain;
 
-import javax.swing.ImageIcon;
-import java.awt.Image;
 import java.awt.Point;
 
 /**
  * Implementacion del enemigo Troll
- * Se mueve en un patron cuadrado, girando a la derecha cuando encuentra un obstaculo
+ * Se mueve en un patron cuadrado, girando a la derecha cuando encuentra un obstaculo.
+ * Si tiene un campo de persecucion, en cada celda toma el paso que lo acerca al jugador
+ * y solo vuelve al patron cuando no hay camino.
+ * Con un indice de ocupacion reserva la celda a la que camina y no entra en celdas
+ * reservadas por otro enemigo, para que no se encimen.
  */
 public class TrollEnemy implements Enemy {
     private int x, y;
-    private Point gridPosition;
+    private int gridX, gridY;
     private boolean active;
     private GridSystem grid;
     private CollisionDetector collisionDetector;
+    private final FlowField chaseField;
+    private final EnemyOccupancy occupancy;
 
     // Movimiento
     private Player.Direction currentDirection;
     private boolean isMoving;
     private int targetX, targetY;
-    private static final int MOVE_SPEED = 1;
+    static final int MOVE_SPEED = 1;
 
     // Animacion
-    private Image[][] sprites; // [direccion][frame]
+    private SpriteFrame[][] sprites; // [direccion][frame]
     private int animationFrame;
     private int animationCounter;
-    private static final int ANIMATION_SPEED = 8;
-    private static final int TOTAL_FRAMES = 8;
+    static final int ANIMATION_SPEED = 8;
+    static final int TOTAL_FRAMES = 8;
 
-    private static final int ENEMY_WIDTH = 52;
-    private static final int ENEMY_HEIGHT = 62;
+    static final int ENEMY_WIDTH = 52;
+    static final int ENEMY_HEIGHT = 62;
 
     public TrollEnemy(int gridX, int gridY, GridSystem grid, CollisionDetector collisionDetector) {
-        this.gridPosition = new Point(gridX, gridY);
+        this(gridX, gridY, grid, collisionDetector, null);
+    }
+
+    /**
+     * @param chaseField campo compartido hacia el jugador, o null para seguir solo el patron
+     */
+    public TrollEnemy(int gridX, int gridY, GridSystem grid, CollisionDetector collisionDetector,
+                      FlowField chaseField) {
+        this(gridX, gridY, grid, collisionDetector, chaseField, null);
+    }
+
+    /**
+     * @param occupancy indice de celdas reservadas por los enemigos, o null para no separarlos
+     */
+    TrollEnemy(int gridX, int gridY, GridSystem grid, CollisionDetector collisionDetector,
+               FlowField chaseField, EnemyOccupancy occupancy) {
+        this.gridX = gridX;
+        this.gridY = gridY;
         this.grid = grid;
         this.collisionDetector = collisionDetector;
+        this.chaseField = chaseField;
+        this.occupancy = occupancy;
 
         // Convertir posicion de grid a pixeles
-        Point pixelPos = grid.gridToPixel(gridX, gridY);
-        this.x = pixelPos.x;
-        this.y = pixelPos.y;
+        this.x = grid.gridToPixelX(gridX);
+        this.y = grid.gridToPixelY(gridY);
         this.targetX = this.x;
         this.targetY = this.y;
 
@@ -50,31 +72,28 @@ public class TrollEnemy implements Enemy {
         this.animationCounter = 0;
 
         loadSprites();
+        if (occupancy != null) {
+            occupancy.claim(gridX, gridY);
+        }
         startNextMove();
     }
 
     private void loadSprites() {
-        sprites = new Image[4][TOTAL_FRAMES]; // DOWN, UP, LEFT, RIGHT
+        sprites = loadWalkSprites();
+    }
+
+    /**
+     * Frames de caminata por direccion: DOWN, UP, LEFT, RIGHT
+     */
+    static SpriteFrame[][] loadWalkSprites() {
+        SpriteFrame[][] walk = new SpriteFrame[4][];
 
         String[] directions = {"Down", "Up", "Left", "Right"};
 
         for (int dir = 0; dir < 4; dir++) {
-            for (int frame = 0; frame < TOTAL_FRAMES; frame++) {
-                String path = "Images/Enemies/Troll/Walk/" + directions[dir] + "/" + (frame + 1) + ".png";
-                try {
-                    ImageIcon icon = new ImageIcon(path);
-                    if (icon.getIconWidth() > 0) {
-                        sprites[dir][frame] = icon.getImage();
-                    } else {
-                        System.out.println("Advertencia: No se pudo cargar " + path);
-                    }
-                } catch (Exception e) {
-                    System.out.println("Error cargando sprite de troll: " + path);
-                }
-            }
+            walk[dir] = SpriteAtlas.getFrames("Images/Enemies/Troll/Walk/" + directions[dir], TOTAL_FRAMES);
         }
-
-        System.out.println("Sprites de troll cargados: " + directions.length + " direcciones, " + TOTAL_FRAMES + " frames");
+        return walk;
     }
 
     @Override
@@ -138,48 +157,64 @@ public class TrollEnemy implements Enemy {
 
         // Si llego al objetivo, actualizar posicion en grid
         if (reachedTarget) {
-            gridPosition = grid.pixelToGrid(x, y);
+            if (occupancy != null) {
+                occupancy.release(gridX, gridY);
+            }
+            gridX = grid.pixelToGridX(x);
+            gridY = grid.pixelToGridY(y);
             isMoving = false;
         }
     }
 
     private void startNextMove() {
+        // Persiguiendo: el campo indica el paso hacia el jugador
+        if (chaseField != null) {
+            Player.Direction step = chaseField.getNextDirection(gridX, gridY);
+            if (step != null && canStep(step)) {
+                currentDirection = step;
+            }
+        }
+
         // Intentar moverse en la direccion actual
-        Point nextPos = collisionDetector.getValidNextPosition(
-                gridPosition.x, gridPosition.y, currentDirection);
+        boolean canMove = canStep(currentDirection);
 
-        // Si no puede moverse en la direccion actual, girar a la derecha
-        if (nextPos.equals(gridPosition)) {
+        // Si no puede moverse en la direccion actual, girar a la derecha (hasta 3 veces)
+        for (int turns = 0; !canMove && turns < 3; turns++) {
             turnRight();
-            nextPos = collisionDetector.getValidNextPosition(
-                    gridPosition.x, gridPosition.y, currentDirection);
-
-            // Si aun no puede moverse, seguir girando
-            if (nextPos.equals(gridPosition)) {
-                turnRight();
-                nextPos = collisionDetector.getValidNextPosition(
-                        gridPosition.x, gridPosition.y, currentDirection);
-
-                // Un ultimo intento
-                if (nextPos.equals(gridPosition)) {
-                    turnRight();
-                    nextPos = collisionDetector.getValidNextPosition(
-                            gridPosition.x, gridPosition.y, currentDirection);
-                }
-            }
+            canMove = canStep(currentDirection);
+        }
+
+        int nextX = gridX;
+        int nextY = gridY;
+        if (canMove) {
+            nextX += grid.getDeltaX(currentDirection);
+            nextY += grid.getDeltaY(currentDirection);
         }
 
         // Establecer objetivo
-        Point targetPixel = grid.gridToPixel(nextPos.x, nextPos.y);
-        targetX = targetPixel.x;
-        targetY = targetPixel.y;
+        targetX = grid.gridToPixelX(nextX);
+        targetY = grid.gridToPixelY(nextY);
 
         // Si el objetivo es diferente a la posicion actual, empezar a moverse
         if (targetX != x || targetY != y) {
             isMoving = true;
+            if (occupancy != null) {
+                occupancy.claim(nextX, nextY);
+            }
         }
     }
 
+    /**
+     * Verdadero si la celda vecina en esa direccion esta libre y ningun otro enemigo la reservo
+     */
+    private boolean canStep(Player.Direction direction) {
+        if (!collisionDetector.canMove(gridX, gridY, direction)) {
+            return false;
+        }
+        return occupancy == null
+                || !occupancy.isClaimed(gridX + grid.getDeltaX(direction), gridY + grid.getDeltaY(direction));
+    }
+
     private void turnRight() {
         // Girar 90 grados a la derecha
         switch (currentDirection) {
@@ -220,7 +255,17 @@ public class TrollEnemy implements Enemy {
 
     @Override
     public Point getGridPosition() {
-        return gridPosition;
+        return new Point(gridX, gridY);
+    }
+
+    @Override
+    public int getGridX() {
+        return gridX;
+    }
+
+    @Override
+    public int getGridY() {
+        return gridY;
     }
 
     @Override
@@ -230,12 +275,18 @@ public class TrollEnemy implements Enemy {
 
     @Override
     public void deactivate() {
+        if (active && occupancy != null) {
+            occupancy.release(gridX, gridY);
+            if (isMoving) {
+                occupancy.release(grid.pixelToGridX(targetX), grid.pixelToGridY(targetY));
+            }
+        }
         active = false;
-        System.out.println("Troll desactivado en posicion: " + gridPosition);
+        System.out.println("Troll desactivado en posicion: (" + gridX + ", " + gridY + ")");
     }
 
     @Override
-    public Image getCurrentSprite() {
+    public SpriteFrame getCurrentSprite() {
         int dirIndex = getDirectionIndex();
         if (sprites != null && sprites[dirIndex] != null && sprites[dirIndex][animationFrame] != null) {
             return sprites[dirIndex][animationFrame];
@@ -264,16 +315,18 @@ public class TrollEnemy implements Enemy {
             return false;
         }
 
-        // Convertir posicion del jugador a coordenadas de grid
-        Point playerGridPos = grid.pixelToGrid(playerX, playerY);
-
         // Verificar si el jugador esta en la MISMA celda que el enemigo
-        return playerGridPos.x == gridPosition.x &&
-                playerGridPos.y == gridPosition.y;
+        return grid.pixelToGridX(playerX) == gridX &&
+                grid.pixelToGridY(playerY) == gridY;
     }
 
     @Override
     public EnemyType getType() {
         return EnemyType.TROLL;
     }
+
+    @Override
+    public boolean isChasing() {
+        return chaseField != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,312 @@
+package Domain;
+
+import java.awt.Point;
+import java.util.Arrays;
+
+/**
+ * Trolls guardados en arreglos paralelos (uno por campo) en lugar de un objeto por troll.
+ * Lo usa EnemyManager con -Dbadicecream.entityStore=true para mapas con miles de enemigos:
+ * update recorre los arreglos en un solo ciclo y los sprites se comparten entre todos.
+ *
+ * El movimiento es el mismo de TrollEnemy paso a paso (las grabaciones se reproducen igual
+ * con y sin el almacen). Hacia afuera cada troll se ve como un Enemy (View) que solo
+ * guarda su indice.
+ */
+class TrollStore {
+    private static final Player.Direction[] DIRECTIONS = Player.Direction.values();
+    // Giro a la derecha y fila de sprites (DOWN, UP, LEFT, RIGHT) por ordinal de direccion
+    private static final int[] TURN_RIGHT = new int[DIRECTIONS.length];
+    private static final int[] SPRITE_ROW = new int[DIRECTIONS.length];
+
+    static {
+        TURN_RIGHT[Player.Direction.UP.ordinal()] = Player.Direction.RIGHT.ordinal();
+        TURN_RIGHT[Player.Direction.RIGHT.ordinal()] = Player.Direction.DOWN.ordinal();
+        TURN_RIGHT[Player.Direction.DOWN.ordinal()] = Player.Direction.LEFT.ordinal();
+        TURN_RIGHT[Player.Direction.LEFT.ordinal()] = Player.Direction.UP.ordinal();
+        SPRITE_ROW[Player.Direction.UP.ordinal()] = 1;
+        SPRITE_ROW[Player.Direction.LEFT.ordinal()] = 2;
+        SPRITE_ROW[Player.Direction.RIGHT.ordinal()] = 3;
+    }
+
+    private final GridSystem grid;
+    private final CollisionDetector collisionDetector;
+    private final FlowField chaseField;
+    private final EnemyOccupancy occupancy;
+    private final SpriteFrame[][] sprites;
+
+    private int size;
+    private int[] x = new int[16];
+    private int[] y = new int[16];
+    private int[] gridX = new int[16];
+    private int[] gridY = new int[16];
+    private int[] targetX = new int[16];
+    private int[] targetY = new int[16];
+    private int[] direction = new int[16];
+    private int[] animationFrame = new int[16];
+    private int[] animationCounter = new int[16];
+    // Indice del troll en la lista de EnemyManager (el que usa el indice de ocupacion)
+    private int[] slot = new int[16];
+    private boolean[] active = new boolean[16];
+    private boolean[] moving = new boolean[16];
+    private boolean[] chasing = new boolean[16];
+
+    TrollStore(GridSystem grid, CollisionDetector collisionDetector, FlowField chaseField,
+               EnemyOccupancy occupancy) {
+        this.grid = grid;
+        this.collisionDetector = collisionDetector;
+        this.chaseField = chaseField;
+        this.occupancy = occupancy;
+        this.sprites = TrollEnemy.loadWalkSprites();
+    }
+
+    /**
+     * Agrega un troll como lo haria el constructor de TrollEnemy
+     * @param enemyIndex lugar que ocupara en la lista de EnemyManager
+     * @return la vista del troll
+     */
+    Enemy add(int gridX, int gridY, boolean chasing, int enemyIndex) {
+        if (size == x.length) {
+            grow(size * 2);
+        }
+        int i = size++;
+        this.gridX[i] = gridX;
+        this.gridY[i] = gridY;
+        x[i] = grid.gridToPixelX(gridX);
+        y[i] = grid.gridToPixelY(gridY);
+        targetX[i] = x[i];
+        targetY[i] = y[i];
+        direction[i] = Player.Direction.RIGHT.ordinal();
+        animationFrame[i] = 0;
+        animationCounter[i] = 0;
+        slot[i] = enemyIndex;
+        active[i] = true;
+        moving[i] = false;
+        this.chasing[i] = chasing && chaseField != null;
+
+        occupancy.claim(gridX, gridY);
+        startNextMove(i);
+        return new View(i);
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        gridX = Arrays.copyOf(gridX, capacity);
+        gridY = Arrays.copyOf(gridY, capacity);
+        targetX = Arrays.copyOf(targetX, capacity);
+        targetY = Arrays.copyOf(targetY, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+        animationFrame = Arrays.copyOf(animationFrame, capacity);
+        animationCounter = Arrays.copyOf(animationCounter, capacity);
+        slot = Arrays.copyOf(slot, capacity);
+        active = Arrays.copyOf(active, capacity);
+        moving = Arrays.copyOf(moving, capacity);
+        chasing = Arrays.copyOf(chasing, capacity);
+    }
+
+    /**
+     * Actualiza todos los trolls activos, en el orden en que se agregaron
+     */
+    void update() {
+        for (int i = 0; i < size; i++) {
+            if (!active[i]) {
+                continue;
+            }
+
+            if (++animationCounter[i] >= TrollEnemy.ANIMATION_SPEED) {
+                animationCounter[i] = 0;
+                if (++animationFrame[i] >= TrollEnemy.TOTAL_FRAMES) {
+                    animationFrame[i] = 0;
+                }
+            }
+
+            if (moving[i]) {
+                moveTowardsTarget(i);
+            } else {
+                startNextMove(i);
+            }
+        }
+    }
+
+    private void moveTowardsTarget(int i) {
+        boolean reachedTarget = false;
+
+        if (x[i] < targetX[i]) {
+            x[i] += TrollEnemy.MOVE_SPEED;
+            if (x[i] >= targetX[i]) {
+                x[i] = targetX[i];
+                reachedTarget = true;
+            }
+        } else if (x[i] > targetX[i]) {
+            x[i] -= TrollEnemy.MOVE_SPEED;
+            if (x[i] <= targetX[i]) {
+                x[i] = targetX[i];
+                reachedTarget = true;
+            }
+        }
+
+        if (y[i] < targetY[i]) {
+            y[i] += TrollEnemy.MOVE_SPEED;
+            if (y[i] >= targetY[i]) {
+                y[i] = targetY[i];
+                reachedTarget = true;
+            }
+        } else if (y[i] > targetY[i]) {
+            y[i] -= TrollEnemy.MOVE_SPEED;
+            if (y[i] <= targetY[i]) {
+                y[i] = targetY[i];
+                reachedTarget = true;
+            }
+        }
+
+        // Llego: suelta la celda de origen y pasa a la nueva en el indice
+        if (reachedTarget) {
+            occupancy.release(gridX[i], gridY[i]);
+            gridX[i] = grid.pixelToGridX(x[i]);
+            gridY[i] = grid.pixelToGridY(y[i]);
+            moving[i] = false;
+            occupancy.update(slot[i], gridX[i], gridY[i]);
+        }
+    }
+
+    private void startNextMove(int i) {
+        if (chasing[i]) {
+            Player.Direction step = chaseField.getNextDirection(gridX[i], gridY[i]);
+            if (step != null && canStep(i, step.ordinal())) {
+                direction[i] = step.ordinal();
+            }
+        }
+
+        boolean canMove = canStep(i, direction[i]);
+        for (int turns = 0; !canMove && turns < 3; turns++) {
+            direction[i] = TURN_RIGHT[direction[i]];
+            canMove = canStep(i, direction[i]);
+        }
+
+        int nextX = gridX[i];
+        int nextY = gridY[i];
+        if (canMove) {
+            nextX += grid.getDeltaX(DIRECTIONS[direction[i]]);
+            nextY += grid.getDeltaY(DIRECTIONS[direction[i]]);
+        }
+
+        targetX[i] = grid.gridToPixelX(nextX);
+        targetY[i] = grid.gridToPixelY(nextY);
+
+        if (targetX[i] != x[i] || targetY[i] != y[i]) {
+            moving[i] = true;
+            occupancy.claim(nextX, nextY);
+        }
+    }
+
+    private boolean canStep(int i, int dir) {
+        Player.Direction step = DIRECTIONS[dir];
+        if (!collisionDetector.canMove(gridX[i], gridY[i], step)) {
+            return false;
+        }
+        return !occupancy.isClaimed(gridX[i] + grid.getDeltaX(step), gridY[i] + grid.getDeltaY(step));
+    }
+
+    private void deactivate(int i) {
+        if (active[i]) {
+            occupancy.release(gridX[i], gridY[i]);
+            if (moving[i]) {
+                occupancy.release(grid.pixelToGridX(targetX[i]), grid.pixelToGridY(targetY[i]));
+            }
+        }
+        active[i] = false;
+        System.out.println("Troll desactivado en posicion: (" + gridX[i] + ", " + gridY[i] + ")");
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Un troll del almacen visto como Enemy (para dibujar, guardar y la IA)
+     */
+    final class View implements Enemy {
+        private final int index;
+
+        private View(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public void update() {
+            // Los trolls del almacen se actualizan todos juntos en TrollStore.update
+        }
+
+        @Override
+        public int getX() {
+            return x[index];
+        }
+
+        @Override
+        public int getY() {
+            return y[index];
+        }
+
+        @Override
+        public int getWidth() {
+            return TrollEnemy.ENEMY_WIDTH;
+        }
+
+        @Override
+        public int getHeight() {
+            return TrollEnemy.ENEMY_HEIGHT;
+        }
+
+        @Override
+        public Point getGridPosition() {
+            return new Point(gridX[index], gridY[index]);
+        }
+
+        @Override
+        public int getGridX() {
+            return gridX[index];
+        }
+
+        @Override
+        public int getGridY() {
+            return gridY[index];
+        }
+
+        @Override
+        public SpriteFrame getCurrentSprite() {
+            SpriteFrame[] row = sprites[SPRITE_ROW[direction[index]]];
+            return row != null ? row[animationFrame[index]] : null;
+        }
+
+        @Override
+        public boolean isActive() {
+            return active[index];
+        }
+
+        @Override
+        public void deactivate() {
+            TrollStore.this.deactivate(index);
+        }
+
+        @Override
+        public boolean collidesWith(int playerX, int playerY, int playerWidth, int playerHeight) {
+            return active[index]
+                    && grid.pixelToGridX(playerX) == gridX[index]
+                    && grid.pixelToGridY(playerY) == gridY[index];
+        }
+
+        @Override
+        public EnemyType getType() {
+            return EnemyType.TROLL;
+        }
+
+        @Override
+        public boolean isChasing() {
+            return chasing[index];
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package Presentation;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.Consumer;
+
+/**
+ * Superficie de renderizado activo.
+ * Dibuja con un BufferStrategy de dos buffers (page flipping cuando el sistema lo permite)
+ * directamente desde el hilo del GameLoop, sin pasar por la cola de repaint() de Swing.
+ */
+public class ActiveRenderCanvas extends Canvas {
+    private static final long serialVersionUID = 1L;
+
+    private final Consumer<Graphics> painter;
+    private final FrameStats frameStats;
+
+    public ActiveRenderCanvas(int width, int height, Consumer<Graphics> painter, FrameStats frameStats) {
+        this.painter = painter;
+        this.frameStats = frameStats;
+
+        setPreferredSize(new Dimension(width, height));
+        setBackground(Color.BLACK);
+        setFocusable(true);
+
+        // Swing/AWT no debe pintar este componente, lo hace el bucle del juego
+        setIgnoreRepaint(true);
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        createBufferStrategy(2);
+    }
+
+    /**
+     * Dibuja y presenta un frame completo
+     */
+    public void render() {
+        if (!isDisplayable()) {
+            return;
+        }
+
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null) {
+            return;
+        }
+
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    painter.accept(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+
+            strategy.show();
+        } while (strategy.contentsLost());
+
+        // Vaciar la cola de dibujo del sistema de ventanas para que el frame aparezca ya
+        Toolkit.getDefaultToolkit().sync();
+        frameStats.framePresented();
+    }
+}
@@ -0,0 +1,250 @@
+package Presentation;
+
+import Domain.PixelCache;
+import Domain.SpriteAtlas;
+
+import javax.swing.ImageIcon;
+import java.awt.Image;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Carga en paralelo, en hilos de fondo, los fondos de las pantallas y los sprites del juego.
+ * Cada recurso se pide una sola vez y queda como un CompletableFuture: las pantallas esperan
+ * el suyo con await, que normalmente ya esta listo cuando se construyen.
+ *
+ * Primero se cargan los fondos de las pantallas (lo que hace falta para mostrar el menu)
+ * y despues los sprites que usa cualquier partida (enemigos, frutas, hielo, recursos): cada PNG
+ * se decodifica en su propia tarea (queda en PixelCache) y cuando estan todos los de una familia
+ * se arma su hoja de SpriteAtlas. Los helados se cargan recien cuando se elige el sabor.
+ */
+public final class AssetPreloader {
+    private static final int THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    // Carpetas cuyas subcarpetas son familias de SpriteAtlas que usa cualquier nivel
+    private static final String[] ATLAS_CATEGORIES = {
+            "Images/Enemies", "Images/Fruits", "Images/Ice"
+    };
+    // Imagenes sueltas del juego que se cargan con SpriteCache (fondo, muros, reloj, overlays)
+    private static final String[] GAME_FOLDERS = {"Images/Resources"};
+    private static final String[] GAME_IMAGES = {
+            "Images/Nieve.png", "Images/PantallaPausa.png", "Images/PantallaMuerte.png", "Images/PantallaGanar.png"
+    };
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+    private static final ExecutorService workers = Executors.newFixedThreadPool(THREADS, task -> {
+        Thread thread = new Thread(task, "asset-preloader-" + threadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<String, CompletableFuture<?>> resources = new ConcurrentHashMap<>();
+    // Hoja de SpriteAtlas de cada familia, armada despues de decodificar sus frames
+    private static final Map<String, CompletableFuture<Void>> families = new ConcurrentHashMap<>();
+    private static CompletableFuture<Void> screenAssets;
+    private static CompletableFuture<Void> gameAssets;
+
+    // Progreso de todas las tareas encoladas
+    private static final AtomicInteger submitted = new AtomicInteger();
+    private static final AtomicInteger completed = new AtomicInteger();
+
+    private AssetPreloader() {
+    }
+
+    /**
+     * Encola todo: primero las pantallas y, cuando terminan, el juego, para que los sprites
+     * no le quiten hilos (o el unico procesador) al menu
+     */
+    public static void startAll() {
+        screenAssets().whenComplete((result, error) -> gameAssets());
+    }
+
+    /**
+     * Fondos de todas las pantallas de menu; listo cuando se puede construir el ScreenManager
+     */
+    public static synchronized CompletableFuture<Void> screenAssets() {
+        if (screenAssets == null) {
+            screenAssets = CompletableFuture.allOf(
+                    loadAnimatedBackground(MenuScreen.BACKGROUND_PATH, 756, 752),
+                    loadAnimatedBackground(OptionsScreen.BACKGROUND_PATH, 756, 752),
+                    loadAnimatedBackground(GameTypeScreen.BACKGROUND_PATH, 756, 752),
+                    loadAnimatedBackground(FlavorSelectionScreen.BACKGROUND_PATH, 756, 752),
+                    loadAnimatedBackground(TwoPlayerFlavorSelectionScreen.BACKGROUND_PATH, 756, 752),
+                    loadImage(LevelSelectionScreen.BACKGROUND_PATH),
+                    loadImage(TwoPlayerModeScreen.BACKGROUND_PATH));
+        }
+        return screenAssets;
+    }
+
+    /**
+     * Sprites que usa cualquier partida: PNG decodificados y hojas de SpriteAtlas armadas
+     */
+    public static synchronized CompletableFuture<Void> gameAssets() {
+        if (gameAssets == null) {
+            List<CompletableFuture<?>> tasks = new ArrayList<>();
+            if (PixelCache.isEnabled()) {
+                for (String folder : GAME_FOLDERS) {
+                    for (String path : listPngs(folder)) {
+                        tasks.add(decode(path));
+                    }
+                }
+                for (String path : GAME_IMAGES) {
+                    tasks.add(decode(path));
+                }
+            }
+            for (String category : ATLAS_CATEGORIES) {
+                for (String family : listFolders(category)) {
+                    tasks.add(familyAssets(family));
+                }
+            }
+            // Lo decodificado queda en disco para el proximo arranque
+            gameAssets = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                    .whenComplete((result, error) -> PixelCache.flushAsync());
+        }
+        return gameAssets;
+    }
+
+    /**
+     * Lo que necesita una partida: los sprites comunes mas las familias de los helados elegidos
+     * @param spritePaths carpetas de los helados (por ejemplo Images/IceCreams/Vanilla)
+     */
+    public static CompletableFuture<Void> gameAssets(String... spritePaths) {
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[spritePaths.length + 1];
+        tasks[0] = gameAssets();
+        for (int i = 0; i < spritePaths.length; i++) {
+            tasks[i + 1] = familyAssets(spritePaths[i]);
+        }
+        CompletableFuture<Void> ready = CompletableFuture.allOf(tasks);
+        if (!ready.isDone()) {
+            ready.whenComplete((result, error) -> PixelCache.flushAsync());
+        }
+        return ready;
+    }
+
+    /**
+     * Hoja de SpriteAtlas de una familia, con sus PNG decodificados antes si hay PixelCache
+     * (sin PixelCache lo decodificado no queda guardado: solo se arma la hoja)
+     */
+    private static CompletableFuture<Void> familyAssets(String family) {
+        return families.computeIfAbsent(family, f -> {
+            CompletableFuture<?>[] frames = PixelCache.isEnabled()
+                    ? listPngs(f).stream().map(AssetPreloader::decode).toArray(CompletableFuture<?>[]::new)
+                    : new CompletableFuture<?>[0];
+            return submitAfter(CompletableFuture.allOf(frames), () -> SpriteAtlas.preload(f));
+        });
+    }
+
+    /**
+     * GIF animado escalado al tamano de la pantalla
+     * @return el icono, o null si el archivo no se pudo cargar
+     */
+    public static CompletableFuture<ImageIcon> loadAnimatedBackground(String path, int width, int height) {
+        return resource("gif:" + path + "@" + width + "x" + height, () -> {
+            ImageIcon gifIcon = new ImageIcon(path);
+            if (gifIcon.getIconWidth() <= 0) {
+                return null;
+            }
+            // El ImageIcon del escalado espera a que el primer frame este listo
+            return new ImageIcon(gifIcon.getImage().getScaledInstance(width, height, Image.SCALE_DEFAULT));
+        });
+    }
+
+    /**
+     * Imagen completa cargada con Toolkit, como la usan las pantallas con fondo dibujado a mano
+     * @return la imagen, o null si el archivo no se pudo cargar
+     */
+    public static CompletableFuture<Image> loadImage(String path) {
+        return resource("img:" + path, () -> {
+            Image image = new ImageIcon(path).getImage();
+            return image.getWidth(null) > 0 ? image : null;
+        });
+    }
+
+    /**
+     * Espera un recurso; si su carga fallo devuelve null
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            System.out.println("Error precargando recurso: " + e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Fraccion de tareas terminadas, entre 0 y 1
+     */
+    public static double getProgress() {
+        int total = submitted.get();
+        return total == 0 ? 1.0 : (double) completed.get() / total;
+    }
+
+    public static String getReport() {
+        return "Precarga: " + completed.get() + "/" + submitted.get() + " tareas en " + THREADS + " hilos";
+    }
+
+    private static CompletableFuture<?> decode(String path) {
+        return resource("png:" + path, () -> PixelCache.load(path) != null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<T> resource(String key, Supplier<T> task) {
+        return (CompletableFuture<T>) resources.computeIfAbsent(key, k -> submit(task));
+    }
+
+    private static <T> CompletableFuture<T> submit(Supplier<T> task) {
+        submitted.incrementAndGet();
+        return CompletableFuture.supplyAsync(task, workers)
+                .whenComplete((result, error) -> completed.incrementAndGet());
+    }
+
+    /**
+     * Encola una tarea para cuando termine otra (por ejemplo armar una hoja cuando estan sus frames)
+     */
+    private static CompletableFuture<Void> submitAfter(CompletableFuture<?> dependency, Runnable task) {
+        submitted.incrementAndGet();
+        return dependency.handle((result, error) -> null)
+                .thenRunAsync(task, workers)
+                .whenComplete((result, error) -> completed.incrementAndGet());
+    }
+
+    private static List<String> listPngs(String folder) {
+        try (Stream<Path> files = Files.walk(Paths.get(folder))) {
+            return files.map(p -> p.toString().replace(File.separatorChar, '/'))
+                    .filter(p -> p.endsWith(".png"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            System.out.println("Advertencia: No se pudo leer la carpeta " + folder);
+            return new ArrayList<>();
+        }
+    }
+
+    private static List<String> listFolders(String folder) {
+        try (Stream<Path> children = Files.list(Paths.get(folder))) {
+            return children.filter(Files::isDirectory)
+                    .map(p -> p.toString().replace(File.separatorChar, '/'))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            System.out.println("Advertencia: No se pudo leer la carpeta " + folder);
+            return new ArrayList<>();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package Presentation;
 
+import Domain.SpriteCache;
+
 import javax.swing.*;
 import java.awt.*;
 
@@ -9,7 +11,8 @@ import java.awt.*;
  */
 public class DeathOverlay {
     private Image deathScreenImage;
-    private boolean visible;
+    // show se llama en el hilo del juego y draw en el EDT, sin el candado de la simulacion
+    private volatile boolean visible;
     private int finalScore;
 
     // Botones con areas clickeables
@@ -39,10 +42,9 @@ public class DeathOverlay {
     private void loadDeathScreen() {
         try {
             String path = "Images/PantallaMuerte.png";
-            ImageIcon icon = new ImageIcon(path);
+            deathScreenImage = SpriteCache.getImage(path);
 
-            if (icon.getIconWidth() > 0) {
-                deathScreenImage = icon.getImage();
+            if (deathScreenImage != null) {
 
                 // Dimensiones de la imagen
                 imageWidth = 480;
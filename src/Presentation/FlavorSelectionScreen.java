@@ -8,6 +8,8 @@ import java.awt.event.*;
  * Pantalla de seleccion de sabor de helado con campo para nombre de jugador
  */
 public class FlavorSelectionScreen implements Screen {
+    static final String BACKGROUND_PATH = "Images/seleccionHelado.gif";
+
     private JPanel panel;
     private JLabel backgroundLabel;
     private JTextField playerNameField;
@@ -32,20 +34,16 @@ public class FlavorSelectionScreen implements Screen {
 
     private void loadGifBackground() {
         try {
-            String[] paths = {"Images/seleccionHelado.gif"};
+            String[] paths = {BACKGROUND_PATH};
 
             for (String path : paths) {
                 try {
-                    ImageIcon gifIcon = new ImageIcon(path);
+                    ImageIcon scaledIcon = AssetPreloader.await(
+                            AssetPreloader.loadAnimatedBackground(path, 756, 752));
 
-                    if (gifIcon.getIconWidth() > 0) {
+                    if (scaledIcon != null) {
                         System.out.println("GIF de seleccion de helado cargado desde: " + path);
 
-                        Image scaledImage = gifIcon.getImage().getScaledInstance(
-                                756, 752, Image.SCALE_DEFAULT
-                        );
-                        ImageIcon scaledIcon = new ImageIcon(scaledImage);
-
                         backgroundLabel = new JLabel(scaledIcon);
                         backgroundLabel.setLayout(null);
                         backgroundLabel.setPreferredSize(new Dimension(756, 752));
@@ -227,10 +225,14 @@ public class FlavorSelectionScreen implements Screen {
         System.out.println("Mostrando pantalla de seleccion de sabor");
         // Solo resetear el sabor, mantener el nombre
         selectedFlavor = "";
+        screenManager.getSessionData().setGameMode(GameSessionData.SINGLE_PLAYER);
     }
 
     @Override
     public void onHide() {
         System.out.println("Ocultando pantalla de seleccion de sabor");
+
+        // Oculta no necesita animar el fondo
+        ScreenImages.stopAnimation(backgroundLabel);
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package Presentation;
+
+import java.util.Arrays;
+
+/**
+ * Estadisticas de los frames presentados en pantalla.
+ * Guarda el tiempo entre frames en una ventana deslizante y calcula FPS y varianza,
+ * para poder comparar el renderizado pasivo (repaint) con el activo (BufferStrategy).
+ */
+public class FrameStats {
+    private static final int WINDOW_SIZE = 120;
+    private static final long REPORT_INTERVAL_NANOS = 5_000_000_000L;
+
+    private final String label;
+    private final long[] frameTimes = new long[WINDOW_SIZE];
+    private int count;
+    private int index;
+    private long lastFrameNanos;
+    private long lastReportNanos;
+
+    public FrameStats(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Registra que se presento un frame. Cada cierto tiempo imprime un resumen.
+     */
+    public synchronized void framePresented() {
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) {
+            frameTimes[index] = now - lastFrameNanos;
+            index = (index + 1) % WINDOW_SIZE;
+            if (count < WINDOW_SIZE) {
+                count++;
+            }
+        } else {
+            lastReportNanos = now;
+        }
+        lastFrameNanos = now;
+
+        if (now - lastReportNanos >= REPORT_INTERVAL_NANOS) {
+            lastReportNanos = now;
+            System.out.println(getReport());
+        }
+    }
+
+    /**
+     * Tiempo medio entre frames en milisegundos
+     */
+    public synchronized double getMeanFrameMillis() {
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += frameTimes[i];
+        }
+        return sum / (double) count / 1_000_000.0;
+    }
+
+    /**
+     * Frames por segundo presentados segun la ventana actual
+     */
+    public synchronized double getFps() {
+        double mean = getMeanFrameMillis();
+        return mean > 0 ? 1000.0 / mean : 0;
+    }
+
+    /**
+     * Varianza del tiempo entre frames en milisegundos al cuadrado
+     */
+    public synchronized double getFrameTimeVariance() {
+        if (count < 2) {
+            return 0;
+        }
+        double mean = getMeanFrameMillis();
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            double diff = frameTimes[i] / 1_000_000.0 - mean;
+            sum += diff * diff;
+        }
+        return sum / (count - 1);
+    }
+
+    /**
+     * Cuenta los frames de la ventana por rangos de duracion.
+     * El ultimo rango acumula todos los frames mas lentos.
+     * @param buckets arreglo a llenar con las cuentas
+     * @param bucketMillis ancho de cada rango en milisegundos
+     */
+    public synchronized void fillHistogram(int[] buckets, double bucketMillis) {
+        Arrays.fill(buckets, 0);
+        for (int i = 0; i < count; i++) {
+            int bucket = (int) (frameTimes[i] / 1_000_000.0 / bucketMillis);
+            buckets[Math.min(bucket, buckets.length - 1)]++;
+        }
+    }
+
+    public synchronized String getReport() {
+        return String.format("Render %s: %.1f FPS, frame %.2f ms, desviacion %.2f ms",
+                label, getFps(), getMeanFrameMillis(), Math.sqrt(getFrameTimeVariance()));
+    }
+
+    public synchronized void reset() {
+        count = 0;
+        index = 0;
+        lastFrameNanos = 0;
+    }
+}
@@ -0,0 +1,96 @@
+package Presentation;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bucle de simulacion con paso de tiempo fijo en un hilo propio.
+ * Ejecuta la logica del juego a una frecuencia constante; si se atrasa
+ * (pausa del GC, pintado lento) ejecuta varios ticks seguidos para recuperar el tiempo.
+ * Cada tick se ejecuta con el candado de la simulacion tomado y, al terminar,
+ * se avisa al renderizador para que dibuje el estado resultante.
+ */
+public class GameLoop implements Runnable {
+    // Maximo de ticks seguidos para ponerse al dia antes de descartar el atraso
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final Runnable tick;
+    private final Runnable render;
+    private final Object lock;
+    private final long tickNanos;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * @param tick logica de un paso de simulacion
+     * @param render accion que entrega el estado al renderizador
+     * @param lock candado compartido con el hilo que dibuja y procesa la entrada
+     * @param tickMillis duracion fija de cada tick en milisegundos
+     */
+    public GameLoop(Runnable tick, Runnable render, Object lock, long tickMillis) {
+        this.tick = tick;
+        this.render = render;
+        this.lock = lock;
+        this.tickNanos = tickMillis * 1_000_000L;
+    }
+
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this, "game-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Detiene el bucle. Si se llama con el candado tomado, se garantiza que
+     * no se ejecutara ningun tick mas.
+     */
+    public void stop() {
+        running = false;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        long nextTick = System.nanoTime();
+
+        while (running) {
+            long now = System.nanoTime();
+            int ticks = 0;
+
+            while (now - nextTick >= 0 && ticks < MAX_CATCH_UP_TICKS) {
+                synchronized (lock) {
+                    if (!running) {
+                        return;
+                    }
+                    tick.run();
+                }
+                nextTick += tickNanos;
+                ticks++;
+            }
+
+            // Si el atraso es demasiado grande se descarta en lugar de acelerar el juego
+            if (now - nextTick >= 0) {
+                nextTick = now + tickNanos;
+            }
+
+            if (ticks > 0) {
+                render.run();
+            }
+
+            long wait = nextTick - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+}
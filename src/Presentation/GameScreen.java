@@ -4,9 +4,12 @@ import Domain.*;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Map;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Pantalla del juego con sistema de capas para renderizado correcto
@@ -16,26 +19,37 @@ public class GameScreen implements Screen {
     private JPanel panel;
     private GamePanel gamePanel;
     private final ScreenManager screenManager;
-    private IceCreamPlayer player;
-    private GameMap gameMap;
-    private CollisionDetector collisionDetector;
-    private FruitManager fruitManager;
-    private EnemyManager enemyManager;
+    private GameSession session;
     private PauseButton pauseButton;
     private PauseOverlay pauseOverlay;
     private DeathOverlay deathOverlay;
     private VictoryOverlay victoryOverlay;
     private PlayerScoreUI playerScoreUI;
-    private Timer gameTimer;
-    private GameTimer timeLimit;
+    private PlayerScoreUI player2ScoreUI;
+    private GameLoop gameLoop;
+    private AutoSaver autoSaver;
+    private final SaveWriter saveWriter = new SaveWriter();
+    // Sprites que se estan esperando con la pantalla de carga antes de empezar
+    private CompletableFuture<Void> pendingAssets;
+
+    // Candado compartido entre el hilo de simulacion y el EDT (pintado y entrada)
+    private final Object simulationLock = new Object();
+    private final FrameStats frameStats = new FrameStats(ACTIVE_RENDERING ? "activo" : "pasivo");
+    private final PerformanceHud performanceHud = new PerformanceHud(frameStats);
 
     private static final int CELL_SIZE = 42;
+    private static final Enemy.EnemyType[] ENEMY_TYPES = Enemy.EnemyType.values();
+    private static final long TICK_MILLIS = GameSession.TICK_MILLIS;
+    private static final long AUTOSAVE_INTERVAL_TICKS = 30_000 / TICK_MILLIS;
+    private static final String REPLAY_PATH = "replays/ultima_partida.rpl";
+    // Orden de dibujo de los bloques por fila, segun el centro de su sprite
+    private static final Comparator<Block> BY_ROW =
+            Comparator.comparingInt(block -> block.getY() + block.getHeight() / 2);
+
+    // Renderizado activo con BufferStrategy (-Dbadicecream.activeRendering=true)
+    private static final boolean ACTIVE_RENDERING = Boolean.getBoolean("badicecream.activeRendering");
     private static final int GAME_WIDTH = 756;
     private static final int GAME_HEIGHT = 756;
-    private boolean playerDead = false;
-    private boolean levelComplete = false;
-    private int winAnimationCounter = 0;
-    private static final int WIN_ANIMATION_DURATION = 120;
 
     public GameScreen(ScreenManager screenManager) {
         this.screenManager = screenManager;
@@ -53,12 +67,10 @@ public class GameScreen implements Screen {
     }
 
     private void startGame() {
-        playerDead = false;
-        levelComplete = false;
-        winAnimationCounter = 0;
-
         GameSessionData sessionData = screenManager.getSessionData();
 
+        gamePanel.loadBackgroundImage();
+
         // VERIFICAR SI HAY UN LOADER CON DATOS DE GUARDADO
         if (sessionData.hasGameLoader()) {
             loadGameFromSave(sessionData.getGameLoader());
@@ -70,90 +82,30 @@ public class GameScreen implements Screen {
         String playerName = sessionData.getPlayer1Name();
         String playerFlavor = sessionData.getPlayer1Flavor();
 
+        LevelTemplate level = loadLevel(sessionData.getLevelId());
+
         System.out.println("=== INICIANDO JUEGO ===");
         System.out.println("Jugador: " + playerName);
         System.out.println("Sabor: " + playerFlavor);
+        System.out.println("Nivel: " + level.getName());
         System.out.println("=======================");
 
-        playerScoreUI = new PlayerScoreUI(playerName, playerFlavor);
-        pauseButton = new PauseButton(GAME_WIDTH, GAME_HEIGHT);
-        pauseOverlay = new PauseOverlay(GAME_WIDTH, GAME_HEIGHT);
-        deathOverlay = new DeathOverlay(GAME_WIDTH, GAME_HEIGHT);
-        victoryOverlay = new VictoryOverlay(GAME_WIDTH, GAME_HEIGHT);
-        timeLimit = new GameTimer(GAME_WIDTH);
-
-        gameMap = new GameMap(GAME_WIDTH, GAME_HEIGHT, CELL_SIZE);
-        gameMap.initializeBorderWalls();
-        gameMap.createInitialIceLayout();
-
-        collisionDetector = new GameCollisionDetector(gameMap, gameMap.getGrid());
-
-        fruitManager = new FruitManager(gameMap.getGrid());
-        fruitManager.createLevelBananas();
-
-        enemyManager = new EnemyManager(gameMap.getGrid(), collisionDetector);
-        enemyManager.createTroll(8, 7);
-        enemyManager.createTroll(5, 5);
+        createOverlays(playerName, playerFlavor);
 
         // USAR EL SABOR PARA CARGAR LOS SPRITES CORRECTOS
-        String spritePath = getSpritePathForFlavor(playerFlavor);
-        player = new IceCreamPlayer(320, 300, spritePath);
-        player.setCollisionDetector(collisionDetector, gameMap.getGrid());
-
-        Point alignedPos = gameMap.snapToGrid(player.getX(), player.getY());
-        player.setPosition(alignedPos.x, alignedPos.y);
-
-        gameTimer = new Timer(16, e -> {
-            if (!playerDead && !levelComplete && !pauseButton.isPaused()) {
-                player.update();
-                gameMap.update();
-                fruitManager.update();
-                enemyManager.update();
-                timeLimit.update();
-
-                if (timeLimit.isTimeUp()) {
-                    handlePlayerDeath();
-                }
+        session = new GameSession(GAME_WIDTH, GAME_HEIGHT, CELL_SIZE);
+        session.startLevel(level, getSpritePathForFlavor(playerFlavor));
+        setUpAIPlayers(sessionData);
+        session.startRecording(getSpritePathForFlavor(playerFlavor));
+        autoSaver = new AutoSaver(saveWriter, playerName, playerFlavor, AUTOSAVE_INTERVAL_TICKS);
+        autoSaver.reset(session);
 
-                if (player.shouldCreateIce()) {
-                    Player.Direction dir = player.getDirection();
-                    gameMap.createIceInDirection(player.getX(), player.getY(), dir);
-                    player.resetIceCreation();
-                }
-
-                if (player.shouldDestroyIce()) {
-                    Player.Direction dir = player.getDirection();
-                    boolean destroyed = gameMap.destroyIceInDirection(
-                            player.getX(), player.getY(), dir);
-                    player.resetIceDestruction();
-                }
-
-                fruitManager.checkCollisions(player);
-
-                if (enemyManager.checkCollisionWithPlayer(player)) {
-                    handlePlayerDeath();
-                }
-
-                if (fruitManager.allFruitsCollected() && !levelComplete) {
-                    handleLevelComplete();
-                }
-            } else if (levelComplete && player != null) {
-                player.update();
-                winAnimationCounter++;
-
-                if (winAnimationCounter >= WIN_ANIMATION_DURATION) {
-                    final int finalScore = (fruitManager != null) ? fruitManager.getScore() : 0;
-                    victoryOverlay.show(finalScore);
-                }
-            } else if (playerDead && player != null) {
-                player.update();
-            }
-
-            gamePanel.repaint();
-        });
-        gameTimer.start();
+        startGameLoop();
 
         System.out.println("Juego iniciado con hielos iniciales.");
+        System.out.println(SpriteCache.getReport());
+        System.out.println(SpriteAtlas.getReport());
+        PixelCache.flushAsync();
     }
 
     private void loadGameFromSave(GameLoader loader) {
@@ -163,90 +115,111 @@ public class GameScreen implements Screen {
         System.out.println("Puntaje: " + loader.getScore());
         System.out.println("==================================");
 
-        playerScoreUI = new PlayerScoreUI(loader.getPlayerName(), loader.getPlayerFlavor());
-        pauseButton = new PauseButton(GAME_WIDTH, GAME_HEIGHT);
-        pauseOverlay = new PauseOverlay(GAME_WIDTH, GAME_HEIGHT);
-        deathOverlay = new DeathOverlay(GAME_WIDTH, GAME_HEIGHT);
-        victoryOverlay = new VictoryOverlay(GAME_WIDTH, GAME_HEIGHT);
-        timeLimit = new GameTimer(GAME_WIDTH);
-
-        gameMap = new GameMap(GAME_WIDTH, GAME_HEIGHT, CELL_SIZE);
-        gameMap.initializeBorderWalls();
+        createOverlays(loader.getPlayerName(), loader.getPlayerFlavor());
 
-        collisionDetector = new GameCollisionDetector(gameMap, gameMap.getGrid());
+        // Reiniciar desde esta partida vuelve a empezar su nivel
+        LevelTemplate level = loadLevel(loader.getLevelId());
+        screenManager.getSessionData().setLevelId(level.getId());
 
         // Usar el loader para cargar todo
-        loader.loadIceBlocks(gameMap);
+        session = new GameSession(GAME_WIDTH, GAME_HEIGHT, CELL_SIZE);
+        session.loadFromSave(loader, level, getSpritePathForFlavor(loader.getPlayerFlavor()));
+        autoSaver = new AutoSaver(saveWriter, loader.getPlayerName(), loader.getPlayerFlavor(), AUTOSAVE_INTERVAL_TICKS);
+        autoSaver.reset(session);
 
-        fruitManager = new FruitManager(gameMap.getGrid());
-        loader.loadFruits(fruitManager, gameMap.getGrid());
+        startGameLoop();
 
-        enemyManager = new EnemyManager(gameMap.getGrid(), collisionDetector);
-        loader.loadEnemies(enemyManager);
-
-        String spritePath = getSpritePathForFlavor(loader.getPlayerFlavor());
-        player = new IceCreamPlayer(loader.getPlayerX(), loader.getPlayerY(), spritePath);
-        player.setCollisionDetector(collisionDetector, gameMap.getGrid());
+        System.out.println("Partida cargada correctamente.");
+        System.out.println(SpriteCache.getReport());
+        System.out.println(SpriteAtlas.getReport());
+        PixelCache.flushAsync();
+    }
 
-        Point alignedPos = gameMap.snapToGrid(player.getX(), player.getY());
-        player.setPosition(alignedPos.x, alignedPos.y);
+    /**
+     * En los modos contra la IA agrega el segundo helado y sus controladores.
+     * J1VSJ2 todavia se juega con un solo helado.
+     */
+    private void setUpAIPlayers(GameSessionData sessionData) {
+        String mode = sessionData.getGameMode();
+        boolean aiVsAi = "IAVSIA".equals(mode);
+        if (!aiVsAi && !"J1VSIA".equals(mode)) {
+            return;
+        }
 
-        // MISMO CODIGO DEL TIMER QUE EN startGame()
-        gameTimer = new Timer(16, e -> {
-            if (!playerDead && !levelComplete && !pauseButton.isPaused()) {
-                player.update();
-                gameMap.update();
-                fruitManager.update();
-                enemyManager.update();
-                timeLimit.update();
+        session.addSecondPlayer(getSpritePathForFlavor(sessionData.getPlayer2Flavor()));
+        session.setAIController(2, new AIController(
+                AIController.Difficulty.fromName(sessionData.getPlayer2Difficulty())));
+        if (aiVsAi) {
+            session.setAIController(1, new AIController(
+                    AIController.Difficulty.fromName(sessionData.getPlayer1Difficulty())));
+        }
+        player2ScoreUI = new PlayerScoreUI(sessionData.getPlayer2Name(), sessionData.getPlayer2Flavor(),
+                "Images/Resources/J2.png", 200);
 
-                if (timeLimit.isTimeUp()) {
-                    handlePlayerDeath();
-                }
+        System.out.println("Modo " + mode + " - IA jugador 2: " + sessionData.getPlayer2Difficulty()
+                + (aiVsAi ? ", IA jugador 1: " + sessionData.getPlayer1Difficulty() : ""));
+    }
 
-                if (player.shouldCreateIce()) {
-                    Player.Direction dir = player.getDirection();
-                    gameMap.createIceInDirection(player.getX(), player.getY(), dir);
-                    player.resetIceCreation();
-                }
+    /**
+     * Plantilla del nivel (leida una sola vez); si el archivo falla se usa el nivel 1
+     */
+    private LevelTemplate loadLevel(String levelId) {
+        try {
+            return LevelLoader.load(levelId);
+        } catch (IOException e) {
+            System.out.println("Error cargando el nivel " + levelId + ": " + e.getMessage());
+            return LevelLoader.loadDefault();
+        }
+    }
 
-                if (player.shouldDestroyIce()) {
-                    Player.Direction dir = player.getDirection();
-                    boolean destroyed = gameMap.destroyIceInDirection(
-                            player.getX(), player.getY(), dir);
-                    player.resetIceDestruction();
-                }
+    private void createOverlays(String playerName, String playerFlavor) {
+        playerScoreUI = new PlayerScoreUI(playerName, playerFlavor);
+        player2ScoreUI = null;
+        pauseButton = new PauseButton(GAME_WIDTH, GAME_HEIGHT);
+        pauseOverlay = new PauseOverlay(GAME_WIDTH, GAME_HEIGHT);
+        deathOverlay = new DeathOverlay(GAME_WIDTH, GAME_HEIGHT);
+        victoryOverlay = new VictoryOverlay(GAME_WIDTH, GAME_HEIGHT);
+    }
 
-                fruitManager.checkCollisions(player);
+    /**
+     * Arranca el hilo de simulacion; el EDT solo se encarga de dibujar
+     */
+    private void startGameLoop() {
+        Runnable render = ACTIVE_RENDERING ? this::renderActiveFrame : gamePanel::repaint;
+        frameStats.reset();
+        gameLoop = new GameLoop(this::updateGame, render, simulationLock, TICK_MILLIS);
+        gameLoop.start();
+    }
 
-                if (enemyManager.checkCollisionWithPlayer(player)) {
-                    handlePlayerDeath();
-                }
+    /**
+     * Dibuja un frame desde el hilo del GameLoop (solo en modo de renderizado activo)
+     */
+    private void renderActiveFrame() {
+        synchronized (simulationLock) {
+            gamePanel.captureFrame();
+        }
+        gamePanel.renderActive();
+    }
 
-                if (fruitManager.allFruitsCollected() && !levelComplete) {
-                    handleLevelComplete();
-                }
-            } else if (levelComplete && player != null) {
-                player.update();
-                winAnimationCounter++;
+    /**
+     * Un paso de simulacion. Se ejecuta en el hilo del GameLoop con el candado tomado.
+     * La logica vive en GameSession; aqui solo se reacciona a sus cambios de estado.
+     */
+    private void updateGame() {
+        session.tick();
 
-                if (winAnimationCounter >= WIN_ANIMATION_DURATION) {
-                    final int finalScore = (fruitManager != null) ? fruitManager.getScore() : 0;
-                    victoryOverlay.show(finalScore);
-                }
-            } else if (playerDead && player != null) {
-                player.update();
-            }
+        // Limite de tick: el mundo esta consistente, se puede tomar la foto del autoguardado
+        autoSaver.onTick(session);
 
-            gamePanel.repaint();
-        });
-        gameTimer.start();
+        if (session.isDeathAnimationComplete() && !deathOverlay.isVisible()) {
+            deathOverlay.show(session.getScore());
+        }
 
-        System.out.println("Partida cargada correctamente.");
+        if (session.isVictoryReady() && !victoryOverlay.isVisible()) {
+            victoryOverlay.show(session.getScore());
+        }
     }
 
-
-
     private String getSpritePathForFlavor(String flavor) {
         if (flavor == null || flavor.isEmpty()) {
             return "Images/IceCreams/Vanilla";
@@ -264,52 +237,12 @@ public class GameScreen implements Screen {
         }
     }
 
-    private void handleLevelComplete() {
-        if (levelComplete) return;
-
-        levelComplete = true;
-        winAnimationCounter = 0;
-        System.out.println("Nivel completado! Puntaje final: " + fruitManager.getScore());
-
-        if (player != null) {
-            player.startWinAnimation();
-        }
-    }
-
-    private void handlePlayerDeath() {
-        if (playerDead) return;
-
-        playerDead = true;
-        System.out.println("El jugador ha muerto!");
-
-        if (player != null) {
-            player.startDeathAnimation();
-        }
-
-        final int finalScore = (fruitManager != null) ? fruitManager.getScore() : 0;
-
-        Timer showDeathOverlayTimer = new Timer(16, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                if (player != null && player.isDeathAnimationComplete()) {
-                    deathOverlay.show(finalScore);
-                    ((Timer)e.getSource()).stop();
-                }
-            }
-        });
-        showDeathOverlayTimer.start();
-    }
-
-    /**
-     * Guarda el estado actual del juego
-     * Abre un dialogo para que el usuario seleccione donde guardar
-     */
     /**
      * Guarda el estado actual del juego
      * Abre un dialogo para que el usuario seleccione donde guardar
      */
     private void saveGame() {
-        if (player == null || fruitManager == null || enemyManager == null || gameMap == null) {
+        if (session == null) {
             System.out.println("No se puede guardar el juego en este momento");
             return;
         }
@@ -326,7 +259,7 @@ public class GameScreen implements Screen {
         // Sugerir un nombre de archivo por defecto
         GameSessionData sessionData = screenManager.getSessionData();
         String defaultName = sessionData.getPlayer1Name() + "_" + System.currentTimeMillis();
-        fileChooser.setSelectedFile(new java.io.File(defaultName));
+        fileChooser.setSelectedFile(new java.io.File("saves", defaultName));
 
         // Mostrar el dialogo
         int userSelection = fileChooser.showSaveDialog(panel);
@@ -340,68 +273,29 @@ public class GameScreen implements Screen {
                 filepath += ".sav";
             }
 
-            // Crear objeto de guardado con todos los datos
-            GameSaveData saveData = new GameSaveData();
-
-            // Guardar datos del jugador
-            saveData.setPlayerName(sessionData.getPlayer1Name());
-            saveData.setPlayerFlavor(sessionData.getPlayer1Flavor());
-            saveData.setPlayerX(player.getX());
-            saveData.setPlayerY(player.getY());
-            saveData.setScore(fruitManager.getScore());
-
-            // Guardar datos del nivel
-            saveData.setCollectedFruits(fruitManager.getCollectedCount());
-            saveData.setTotalFruits(fruitManager.getTotalCount());
-            saveData.setRemainingTime(timeLimit != null ? timeLimit.getRemainingTimeMs() : 0);
-
-            // Guardar frutas
-            for (Fruit fruit : fruitManager.getFruits()) {
-                Point gridPos = gameMap.getGrid().pixelToGrid(fruit.getX(), fruit.getY());
-                saveData.addFruit(
-                        gridPos.x,
-                        gridPos.y,
-                        fruit.isCollected(),
-                        fruit.getType().toString()
-                );
-            }
-
-            // Guardar enemigos
-            for (Enemy enemy : enemyManager.getEnemies()) {
-                Point gridPos = enemy.getGridPosition();
-                saveData.addEnemy(
-                        gridPos.x,
-                        gridPos.y,
-                        enemy.isActive(),
-                        enemy.getType().toString(),
-                        "DOWN"  // Direccion por defecto
-                );
-            }
-
-            // Guardar bloques de hielo
-            for (Block block : gameMap.getBlocks()) {
-                Point gridPos = gameMap.getGrid().pixelToGrid(block.getX(), block.getY());
-                saveData.addIceBlock(
-                        gridPos.x,
-                        gridPos.y,
-                        block.getType().toString()
-                );
-            }
-
-            // Guardar usando el path completo (sin agregar "saves/" otra vez)
-            if (saveData.saveToFile(filepath)) {
-                System.out.println("Juego guardado exitosamente en: " + filepath);
-                JOptionPane.showMessageDialog(panel,
-                        "Partida guardada exitosamente!",
-                        "Guardar",
-                        JOptionPane.INFORMATION_MESSAGE);
-            } else {
-                System.out.println("Error al guardar el juego");
-                JOptionPane.showMessageDialog(panel,
-                        "Error al guardar la partida",
-                        "Error",
-                        JOptionPane.ERROR_MESSAGE);
+            // Foto del estado con el candado tomado; la escritura va en segundo plano
+            GameSaveData saveData;
+            synchronized (simulationLock) {
+                saveData = session.createSaveData(
+                        sessionData.getPlayer1Name(), sessionData.getPlayer1Flavor());
             }
+
+            final String savedPath = filepath;
+            saveWriter.submit(saveData, filepath, ok -> SwingUtilities.invokeLater(() -> {
+                if (ok) {
+                    System.out.println("Juego guardado exitosamente en: " + savedPath);
+                    JOptionPane.showMessageDialog(panel,
+                            "Partida guardada exitosamente!",
+                            "Guardar",
+                            JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    System.out.println("Error al guardar el juego");
+                    JOptionPane.showMessageDialog(panel,
+                            "Error al guardar la partida",
+                            "Error",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            }));
         } else {
             System.out.println("Guardado cancelado por el usuario");
         }
@@ -409,8 +303,21 @@ public class GameScreen implements Screen {
 
 
     private void stopGame() {
-        if (gameTimer != null) {
-            gameTimer.stop();
+        InputLog replay = null;
+        synchronized (simulationLock) {
+            if (gameLoop != null) {
+                gameLoop.stop();
+            }
+            if (session != null) {
+                session.stopAIControllers();
+                System.out.println(session.getGameMap().getPoolReport());
+                replay = session.finishRecording();
+            }
+        }
+
+        // stopGame tambien se llama con el candado tomado desde el EDT: la grabacion la escribe el SaveWriter
+        if (replay != null) {
+            saveWriter.submit(replay, REPLAY_PATH, null);
         }
     }
 
@@ -422,17 +329,67 @@ public class GameScreen implements Screen {
     @Override
     public void onShow() {
         System.out.println("Mostrando pantalla de juego");
-        startGame();
+
+        // Solo hacen falta los sprites comunes y los de los sabores elegidos
+        CompletableFuture<Void> assets = AssetPreloader.gameAssets(getNeededSpritePaths());
+        if (assets.isDone()) {
+            beginGame();
+            return;
+        }
+
+        // Arranque en frio: la pantalla de carga se ve mientras terminan, sin bloquear el EDT
+        LoadingSplash splash = new LoadingSplash();
+        pendingAssets = assets;
+        panel.remove(gamePanel);
+        panel.add(splash, BorderLayout.CENTER);
+        splash.showUntil(assets, () -> {
+            panel.remove(splash);
+            if (pendingAssets != assets) {
+                return; // se salio de la pantalla mientras cargaba
+            }
+            pendingAssets = null;
+            panel.add(gamePanel, BorderLayout.CENTER);
+            panel.revalidate();
+            panel.repaint();
+            beginGame();
+        });
+    }
+
+    private void beginGame() {
+        synchronized (simulationLock) {
+            startGame();
+        }
 
         SwingUtilities.invokeLater(() -> {
-            gamePanel.requestFocusInWindow();
-            gamePanel.requestFocus();
+            gamePanel.getInputComponent().requestFocusInWindow();
+            gamePanel.getInputComponent().requestFocus();
         });
     }
 
+    /**
+     * Carpetas de los helados de la partida que se va a mostrar (guardada o nueva)
+     */
+    private String[] getNeededSpritePaths() {
+        GameSessionData sessionData = screenManager.getSessionData();
+        if (sessionData.hasGameLoader()) {
+            return new String[]{getSpritePathForFlavor(sessionData.getGameLoader().getPlayerFlavor())};
+        }
+        String mode = sessionData.getGameMode();
+        if ("J1VSIA".equals(mode) || "IAVSIA".equals(mode)) {
+            return new String[]{getSpritePathForFlavor(sessionData.getPlayer1Flavor()),
+                    getSpritePathForFlavor(sessionData.getPlayer2Flavor())};
+        }
+        return new String[]{getSpritePathForFlavor(sessionData.getPlayer1Flavor())};
+    }
+
     @Override
     public void onHide() {
         System.out.println("Ocultando pantalla de juego");
+        if (pendingAssets != null) {
+            pendingAssets = null;
+            panel.removeAll();
+            panel.add(gamePanel, BorderLayout.CENTER);
+        }
         stopGame();
     }
 
@@ -441,140 +398,187 @@ public class GameScreen implements Screen {
         private boolean upPressed, downPressed, leftPressed, rightPressed;
         private boolean showGrid = false;
 
+        // Capa estatica: fondo, muros y bloques que no se estan animando. Su lista se arma
+        // con el candado cuando el mapa cambia y la imagen se regenera despues, al dibujar
+        private BufferedImage staticLayer;
+        private final RenderList staticLayerList = new RenderList();
+        private boolean staticLayerPending;
+        private GameMap staticLayerMap;
+        private int staticLayerVersion;
+        private boolean staticLayerShowsGrid;
+        private int staticLayerWidth;
+        private int staticLayerHeight;
+
+        // Copia del frame tomada con el candado de la simulacion; se dibuja sin el
+        private final RenderList sceneList = new RenderList();
+        private boolean frameHasSession;
+        private int player1Score;
+        private int player2Score;
+        private int activeEnemyCount;
+        private final int[] enemyCounts = new int[ENEMY_TYPES.length];
+        private int collectedFruits;
+        private int totalFruits;
+        private boolean showTimer;
+        private GameTimer frameTimer;
+        private int timerFrame;
+        private long timerRemainingMs;
+        private TickProfiler frameProfiler;
+        // Bloques animados y los que tocan el area de uno; se reusan entre frames
+        private final List<Block> animatingBlocks = new ArrayList<>();
+        private final List<Block> areaBlocks = new ArrayList<>();
+
+        // En modo activo la entrada y el dibujo pasan por el canvas
+        private ActiveRenderCanvas activeCanvas;
+        private Component inputComponent;
+
         public GamePanel() {
             setPreferredSize(new Dimension(GAME_WIDTH, GAME_HEIGHT));
             setBackground(Color.BLACK);
             setFocusable(true);
-            loadBackgroundImage();
 
-            addKeyListener(new KeyAdapter() {
+            inputComponent = this;
+            if (ACTIVE_RENDERING) {
+                setLayout(new BorderLayout());
+                activeCanvas = new ActiveRenderCanvas(GAME_WIDTH, GAME_HEIGHT, this::drawGame, frameStats);
+                add(activeCanvas, BorderLayout.CENTER);
+                inputComponent = activeCanvas;
+                System.out.println("Renderizado activo con BufferStrategy");
+            }
+
+            inputComponent.addKeyListener(new KeyAdapter() {
                 @Override
                 public void keyPressed(KeyEvent e) {
-                    handleKeyPress(e, true);
+                    synchronized (simulationLock) {
+                        handleKeyPress(e, true);
+                    }
                 }
 
                 @Override
                 public void keyReleased(KeyEvent e) {
-                    handleKeyPress(e, false);
+                    synchronized (simulationLock) {
+                        handleKeyPress(e, false);
+                    }
                 }
             });
 
-            addMouseListener(new MouseAdapter() {
+            inputComponent.addMouseListener(new MouseAdapter() {
                 @Override
                 public void mouseClicked(MouseEvent e) {
-                    // Prioridad 1: Victory overlay
-                    if (victoryOverlay != null && victoryOverlay.isVisible()) {
-                        String action = victoryOverlay.handleClick(e.getPoint());
-                        if (action != null) {
-                            stopGame();
-                            if (action.equals("levelSelection")) {
-                                screenManager.showScreen("levelSelection");
-                            } else if (action.equals("menu")) {
-                                screenManager.showScreen("menu");
+                    synchronized (simulationLock) {
+                        // Prioridad 1: Victory overlay
+                        if (victoryOverlay != null && victoryOverlay.isVisible()) {
+                            String action = victoryOverlay.handleClick(e.getPoint());
+                            if (action != null) {
+                                stopGame();
+                                if (action.equals("levelSelection")) {
+                                    screenManager.showScreen("levelSelection");
+                                } else if (action.equals("menu")) {
+                                    screenManager.showScreen("menu");
+                                }
+                                return;
                             }
-                            return;
                         }
-                    }
 
-                    // Prioridad 2: Death overlay
-                    if (deathOverlay != null && deathOverlay.isVisible()) {
-                        String action = deathOverlay.handleClick(e.getPoint());
-                        if (action != null) {
-                            if (action.equals("restart")) {
-                                stopGame();
-                                startGame();
-                            } else if (action.equals("menu")) {
-                                stopGame();
-                                screenManager.showScreen("menu");
+                        // Prioridad 2: Death overlay
+                        if (deathOverlay != null && deathOverlay.isVisible()) {
+                            String action = deathOverlay.handleClick(e.getPoint());
+                            if (action != null) {
+                                if (action.equals("restart")) {
+                                    stopGame();
+                                    startGame();
+                                } else if (action.equals("menu")) {
+                                    stopGame();
+                                    screenManager.showScreen("menu");
+                                }
+                                return;
                             }
-                            return;
                         }
-                    }
 
-                    // Prioridad 3: Pause overlay
-                    if (pauseOverlay != null && pauseOverlay.isVisible()) {
-                        String action = pauseOverlay.handleClick(e.getPoint());
-                        if (action != null) {
-                            if (action.equals("continue")) {
-                                pauseOverlay.hide();
-                                pauseButton.resume();
-                                if (timeLimit != null) {
-                                    timeLimit.resume();
+                        // Prioridad 3: Pause overlay
+                        if (pauseOverlay != null && pauseOverlay.isVisible()) {
+                            String action = pauseOverlay.handleClick(e.getPoint());
+                            if (action != null) {
+                                if (action.equals("continue")) {
+                                    pauseOverlay.hide();
+                                    pauseButton.resume();
+                                    session.requestPause(false);
+                                } else if (action.equals("back")) {
+                                    pauseOverlay.hide();
+                                    stopGame();
+                                    screenManager.showScreen("menu");
+                                } else if (action.equals("save")) {
+                                    // El dialogo se abre fuera del candado para no frenar el bucle
+                                    SwingUtilities.invokeLater(GameScreen.this::saveGame);
                                 }
-                            } else if (action.equals("back")) {
-                                pauseOverlay.hide();
-                                stopGame();
-                                screenManager.showScreen("menu");
-                            } else if (action.equals("save")) {
-                                saveGame();
+                                repaint();
+                                return;
                             }
-                            repaint();
-                            return;
                         }
-                    }
 
-                    // Prioridad 4: Pause button
-                    if (pauseButton != null && !playerDead && !levelComplete) {
-                        if (pauseButton.handleClick(e.getPoint())) {
-                            if (pauseButton.isPaused()) {
-                                pauseOverlay.show();
-                                if (timeLimit != null) {
-                                    timeLimit.pause();
-                                }
-                            } else {
-                                pauseOverlay.hide();
-                                if (timeLimit != null) {
-                                    timeLimit.resume();
+                        // Prioridad 4: Pause button
+                        if (pauseButton != null && session != null
+                                && !session.isPlayerDead() && !session.isLevelComplete()) {
+                            if (pauseButton.handleClick(e.getPoint())) {
+                                session.requestPause(pauseButton.isPaused());
+                                if (pauseButton.isPaused()) {
+                                    pauseOverlay.show();
+                                } else {
+                                    pauseOverlay.hide();
                                 }
+                                repaint();
                             }
-                            repaint();
                         }
                     }
                 }
             });
 
-            addMouseMotionListener(new MouseMotionAdapter() {
+            inputComponent.addMouseMotionListener(new MouseMotionAdapter() {
                 @Override
                 public void mouseMoved(MouseEvent e) {
-                    Point mousePos = e.getPoint();
-                    boolean needsRepaint = false;
+                    synchronized (simulationLock) {
+                        Point mousePos = e.getPoint();
+                        boolean needsRepaint = false;
 
-                    if (victoryOverlay != null && victoryOverlay.isVisible()) {
-                        if (victoryOverlay.updateHover(mousePos)) {
-                            needsRepaint = true;
-                        }
-                        setCursor(victoryOverlay.getCursor(mousePos));
-                    } else if (deathOverlay != null && deathOverlay.isVisible()) {
-                        if (deathOverlay.updateHover(mousePos)) {
-                            needsRepaint = true;
-                        }
-                        setCursor(deathOverlay.getCursor(mousePos));
-                    } else if (pauseOverlay != null && pauseOverlay.isVisible()) {
-                        if (pauseOverlay.updateHover(mousePos)) {
-                            needsRepaint = true;
-                        }
-                        setCursor(pauseOverlay.getCursor(mousePos));
-                    } else {
-                        if (pauseButton != null) {
-                            if (pauseButton.updateHover(mousePos)) {
+                        if (victoryOverlay != null && victoryOverlay.isVisible()) {
+                            if (victoryOverlay.updateHover(mousePos)) {
                                 needsRepaint = true;
                             }
+                            setCursor(victoryOverlay.getCursor(mousePos));
+                        } else if (deathOverlay != null && deathOverlay.isVisible()) {
+                            if (deathOverlay.updateHover(mousePos)) {
+                                needsRepaint = true;
+                            }
+                            setCursor(deathOverlay.getCursor(mousePos));
+                        } else if (pauseOverlay != null && pauseOverlay.isVisible()) {
+                            if (pauseOverlay.updateHover(mousePos)) {
+                                needsRepaint = true;
+                            }
+                            setCursor(pauseOverlay.getCursor(mousePos));
+                        } else {
+                            if (pauseButton != null) {
+                                if (pauseButton.updateHover(mousePos)) {
+                                    needsRepaint = true;
+                                }
+                            }
+                            setCursor(Cursor.getDefaultCursor());
                         }
-                        setCursor(Cursor.getDefaultCursor());
-                    }
 
-                    if (needsRepaint) {
-                        repaint();
+                        if (needsRepaint) {
+                            repaint();
+                        }
                     }
                 }
             });
         }
 
         private void loadBackgroundImage() {
+            if (backgroundImage != null) {
+                return;
+            }
             try {
                 String path = "Images/Nieve.png";
-                backgroundImage = new ImageIcon(path).getImage();
-                if (backgroundImage.getWidth(null) > 0) {
+                backgroundImage = SpriteCache.getImage(path);
+                if (backgroundImage != null) {
                     System.out.println("Imagen de fondo cargada desde: " + path);
                 }
             } catch (Exception e) {
@@ -585,59 +589,115 @@ public class GameScreen implements Screen {
         @Override
         protected void paintComponent(Graphics g) {
             super.paintComponent(g);
+            if (activeCanvas != null) {
+                return;
+            }
+            // El candado solo cubre la copia del estado; el dibujo no frena a la simulacion
+            synchronized (simulationLock) {
+                captureFrame();
+            }
             drawGame(g);
+            frameStats.framePresented();
         }
 
-        private void drawGame(Graphics g) {
-            if (backgroundImage != null) {
-                g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
+        /**
+         * Dibuja y presenta un frame por el canvas activo
+         */
+        void renderActive() {
+            if (activeCanvas != null) {
+                activeCanvas.render();
             }
+        }
 
-            if (showGrid && gameMap != null) {
-                drawDebugGrid(g);
+        Component getInputComponent() {
+            return inputComponent;
+        }
+
+        /**
+         * Copia de la simulacion lo que necesita el proximo frame: que sprite va en que
+         * rectangulo, puntajes y contadores. Se llama con el candado tomado y no dibuja nada.
+         */
+        void captureFrame() {
+            sceneList.clear();
+            frameHasSession = session != null;
+            if (session == null) {
+                frameProfiler = null;
+                return;
             }
 
-            if (gameMap != null) {
-                for (Block block : gameMap.getBottomLayerBlocks()) {
-                    drawBlock(g, block);
+            GameMap gameMap = session.getGameMap();
+
+            // Fondo, muros y bloques quietos en una sola copia; encima solo lo que se anima
+            captureStaticLayer(gameMap);
+            captureAnimatingBlocks(gameMap);
+
+            for (Fruit fruit : session.getFruitManager().getFruits()) {
+                if (!fruit.isCollected()) {
+                    drawFruit(sceneList, fruit);
                 }
             }
 
-            if (gameMap != null) {
-                for (Wall wall : gameMap.getWalls()) {
-                    drawWall(g, wall);
+            for (Enemy enemy : session.getEnemyManager().getEnemies()) {
+                if (enemy.isActive()) {
+                    drawEnemy(sceneList, enemy);
                 }
             }
 
-            if (gameMap != null) {
-                for (Block block : gameMap.getTopLayerBlocks()) {
-                    drawBlock(g, block);
-                }
+            drawPlayer(sceneList, session.getPlayer());
+            if (session.getPlayer2() != null) {
+                drawPlayer(sceneList, session.getPlayer2());
             }
 
-            if (fruitManager != null) {
-                for (Fruit fruit : fruitManager.getFruits()) {
-                    if (!fruit.isCollected()) {
-                        drawFruit(g, fruit);
-                    }
-                }
+            // Con dos helados cada uno muestra lo suyo
+            player2Score = session.getPlayer2Score();
+            player1Score = session.getScore() - player2Score;
+
+            // Los conteos los mantienen los managers; aqui solo se leen
+            EnemyManager enemyManager = session.getEnemyManager();
+            activeEnemyCount = enemyManager.getActiveEnemyCount();
+            for (int i = 0; i < ENEMY_TYPES.length; i++) {
+                enemyCounts[i] = enemyManager.getActiveCount(ENEMY_TYPES[i]);
             }
+            collectedFruits = session.getFruitManager().getCollectedCount();
+            totalFruits = session.getFruitManager().getTotalCount();
+
+            frameTimer = session.getTimeLimit();
+            showTimer = !session.isPlayerDead() && !session.isLevelComplete();
+            timerFrame = frameTimer.getCurrentFrame();
+            timerRemainingMs = frameTimer.getRemainingTimeMs();
+            frameProfiler = session.getProfiler();
+        }
 
-            if (enemyManager != null) {
-                for (Enemy enemy : enemyManager.getEnemies()) {
-                    if (enemy.isActive()) {
-                        drawEnemy(g, enemy);
-                    }
+        /**
+         * Dibuja el ultimo frame copiado; no toca la simulacion
+         */
+        private void drawGame(Graphics g) {
+            long paintStart = System.nanoTime();
+            drawScene(g);
+            performanceHud.recordPaint(System.nanoTime() - paintStart);
+
+            // Panel de rendimiento (F3) encima de todo
+            performanceHud.draw(g, frameProfiler);
+        }
+
+        private void drawScene(Graphics g) {
+            if (!frameHasSession) {
+                if (backgroundImage != null) {
+                    g.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
                 }
+                drawPauseButton(g);
+                return;
             }
 
-            if (player != null) {
-                drawPlayer(g);
-            }
+            drawStaticLayer(g);
+            sceneList.draw(g);
 
             // Dibujar UI del jugador (icono, puntaje y nombre)
-            if (playerScoreUI != null && fruitManager != null) {
-                playerScoreUI.draw(g, fruitManager.getScore());
+            if (playerScoreUI != null) {
+                playerScoreUI.draw(g, player1Score);
+            }
+            if (player2ScoreUI != null) {
+                player2ScoreUI.draw(g, player2Score);
             }
 
             // Dibujar contador de enemigos
@@ -646,8 +706,8 @@ public class GameScreen implements Screen {
             // Dibujar contador de frutas
             drawFruitCounter(g);
 
-            if (timeLimit != null && !playerDead && !levelComplete) {
-                timeLimit.draw(g);
+            if (showTimer) {
+                frameTimer.draw(g, timerFrame, timerRemainingMs);
             }
 
             drawPauseButton(g);
@@ -665,12 +725,173 @@ public class GameScreen implements Screen {
             }
         }
 
-        private void drawEnemyCounter(Graphics g) {
-            if (enemyManager == null) return;
+        /**
+         * Vuelve a armar la lista de la capa estatica si el mapa cambio
+         */
+        private void captureStaticLayer(GameMap gameMap) {
+            int width = getWidth();
+            int height = getHeight();
+            if (width <= 0 || height <= 0) {
+                return;
+            }
+
+            boolean stale = staticLayerMap != gameMap
+                    || staticLayerVersion != gameMap.getLayoutVersion()
+                    || staticLayerShowsGrid != showGrid
+                    || staticLayerWidth != width
+                    || staticLayerHeight != height;
+            if (!stale) {
+                return;
+            }
+
+            staticLayerList.clear();
+            staticLayerList.fill(Color.BLACK, 0, 0, width, height);
+
+            if (backgroundImage != null) {
+                staticLayerList.image(backgroundImage, 0, 0, width, height);
+            }
+
+            if (showGrid) {
+                drawDebugGrid(staticLayerList, gameMap.getGrid());
+            }
+
+            for (Block block : gameMap.getBottomLayerBlocks()) {
+                if (!block.isAnimating()) {
+                    drawBlock(staticLayerList, block);
+                }
+            }
+
+            for (Wall wall : gameMap.getWalls()) {
+                drawWall(staticLayerList, wall);
+            }
 
-            Map<Enemy.EnemyType, Integer> enemyCounts = enemyManager.getEnemyCountsByType();
+            // De arriba hacia abajo: cada fila tapa lo que cuelga de la anterior
+            List<Block> topBlocks = gameMap.getTopLayerBlocks();
+            topBlocks.sort(BY_ROW);
+            for (Block block : topBlocks) {
+                if (!block.isAnimating()) {
+                    drawBlock(staticLayerList, block);
+                }
+            }
+
+            staticLayerMap = gameMap;
+            staticLayerVersion = gameMap.getLayoutVersion();
+            staticLayerShowsGrid = showGrid;
+            staticLayerWidth = width;
+            staticLayerHeight = height;
+            staticLayerPending = true;
+        }
 
-            if (enemyCounts.isEmpty()) return;
+        /**
+         * Dibuja la capa estatica, regenerando la imagen solo si su lista cambio
+         */
+        private void drawStaticLayer(Graphics g) {
+            int width = staticLayerWidth;
+            int height = staticLayerHeight;
+            if (width <= 0 || height <= 0) {
+                return;
+            }
+
+            if (staticLayerPending || staticLayer == null
+                    || staticLayer.getWidth() != width || staticLayer.getHeight() != height) {
+                rebuildStaticLayer(width, height);
+                staticLayerPending = false;
+            }
+
+            g.drawImage(staticLayer, 0, 0, null);
+        }
+
+        private void rebuildStaticLayer(int width, int height) {
+            if (staticLayer == null || staticLayer.getWidth() != width || staticLayer.getHeight() != height) {
+                GraphicsConfiguration config = getGraphicsConfiguration();
+                staticLayer = (config != null)
+                        ? config.createCompatibleImage(width, height, Transparency.OPAQUE)
+                        : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            }
+
+            Graphics layer = staticLayer.getGraphics();
+            try {
+                staticLayerList.draw(layer);
+            } finally {
+                layer.dispose();
+            }
+        }
+
+        /**
+         * Agrega los bloques que se estan creando o destruyendo (no estan en la capa estatica).
+         * El rectangulo de cada uno se vuelve a componer con todo lo que lo toca y en el orden
+         * de la capa: fondo, fila 16, muros y los demas bloques de arriba hacia abajo
+         */
+        private void captureAnimatingBlocks(GameMap gameMap) {
+            animatingBlocks.clear();
+            for (Block block : gameMap.getBlocks()) {
+                if (block.isAnimating()) {
+                    animatingBlocks.add(block);
+                }
+            }
+
+            for (Block block : animatingBlocks) {
+                recomposeBlockArea(gameMap, block);
+            }
+        }
+
+        private void recomposeBlockArea(GameMap gameMap, Block block) {
+            Rectangle area = new Rectangle(block.getX(), block.getY(), block.getWidth(), block.getHeight());
+            GridSystem grid = gameMap.getGrid();
+            int gridX = grid.pixelToGridX((int) area.getCenterX());
+            int gridY = grid.pixelToGridY((int) area.getCenterY());
+
+            // Los sprites cuelgan a lo sumo hasta la celda vecina: bastan los quietos de
+            // alrededor y los animados
+            areaBlocks.clear();
+            for (int row = gridY - 1; row <= gridY + 1; row++) {
+                for (int column = gridX - 1; column <= gridX + 1; column++) {
+                    Block other = gameMap.getBlockAtGrid(column, row);
+                    if (other != null && !other.isAnimating() && touches(area, other)) {
+                        areaBlocks.add(other);
+                    }
+                }
+            }
+            for (Block other : animatingBlocks) {
+                if (touches(area, other)) {
+                    areaBlocks.add(other);
+                }
+            }
+            areaBlocks.sort(BY_ROW);
+
+            sceneList.clip(area.x, area.y, area.width, area.height);
+            sceneList.fill(Color.BLACK, area.x, area.y, area.width, area.height);
+            if (backgroundImage != null) {
+                sceneList.image(backgroundImage, 0, 0, getWidth(), getHeight());
+            }
+            if (showGrid) {
+                drawDebugGrid(sceneList, grid);
+            }
+
+            for (Block other : areaBlocks) {
+                if (gameMap.isBottomLayer(other)) {
+                    drawBlock(sceneList, other);
+                }
+            }
+            for (Wall wall : gameMap.getWalls()) {
+                if (area.intersects(wall.getX(), wall.getY(), wall.getWidth(), wall.getHeight())) {
+                    drawWall(sceneList, wall);
+                }
+            }
+            for (Block other : areaBlocks) {
+                if (!gameMap.isBottomLayer(other)) {
+                    drawBlock(sceneList, other);
+                }
+            }
+            sceneList.unclip();
+        }
+
+        private boolean touches(Rectangle area, Block block) {
+            return area.intersects(block.getX(), block.getY(), block.getWidth(), block.getHeight());
+        }
+
+        private void drawEnemyCounter(Graphics g) {
+            if (activeEnemyCount == 0) return;
 
             int startX = 670;
             int startY = 25;
@@ -684,9 +905,12 @@ public class GameScreen implements Screen {
             Font countFont = new Font("Arial", Font.PLAIN, 15);
             g.setFont(countFont);
 
-            for (Map.Entry<Enemy.EnemyType, Integer> entry : enemyCounts.entrySet()) {
-                String enemyName = getEnemyDisplayName(entry.getKey());
-                String text = "  " + enemyName + ": " + entry.getValue();
+            for (int i = 0; i < ENEMY_TYPES.length; i++) {
+                int count = enemyCounts[i];
+                if (count == 0) {
+                    continue;
+                }
+                String text = "  " + getEnemyDisplayName(ENEMY_TYPES[i]) + ": " + count;
 
                 // Sombra negra
                 g.setColor(Color.BLACK);
@@ -710,10 +934,8 @@ public class GameScreen implements Screen {
         }
 
         private void drawFruitCounter(Graphics g) {
-            if (fruitManager == null) return;
-
             g.setFont(new Font("Arial", Font.PLAIN, 16));
-            String fruitText = "Frutas: " + fruitManager.getCollectedCount() + "/" + fruitManager.getTotalCount();
+            String fruitText = "Frutas: " + collectedFruits + "/" + totalFruits;
 
             g.setColor(Color.BLACK);
             g.drawString(fruitText, 21, 735 );
@@ -736,80 +958,73 @@ public class GameScreen implements Screen {
             }
         }
 
-        private void drawBlock(Graphics g, Block block) {
-            Image sprite = block.getCurrentSprite();
+        private void drawBlock(RenderList list, Block block) {
+            SpriteFrame sprite = block.getCurrentSprite();
             if (sprite != null) {
-                g.drawImage(sprite,
+                list.sprite(sprite,
                         block.getX(),
                         block.getY(),
                         block.getWidth(),
-                        block.getHeight(),
-                        null);
+                        block.getHeight());
 
                 if (showGrid && block.isSolid()) {
-                    g.setColor(new Color(255, 0, 0, 100));
-                    g.fillRect(block.getX(), block.getY(),
+                    list.fill(new Color(255, 0, 0, 100), block.getX(), block.getY(),
                             CELL_SIZE, CELL_SIZE);
                 }
             }
         }
 
-        private void drawWall(Graphics g, Wall wall) {
+        private void drawWall(RenderList list, Wall wall) {
             Image sprite = wall.getSprite();
             if (sprite != null) {
-                g.drawImage(sprite,
+                list.image(sprite,
                         wall.getX(),
                         wall.getY(),
                         wall.getWidth(),
-                        wall.getHeight(),
-                        null);
+                        wall.getHeight());
 
                 if (showGrid) {
-                    g.setColor(new Color(128, 0, 128, 100));
-                    g.fillRect(wall.getX(), wall.getY(),
+                    list.fill(new Color(128, 0, 128, 100), wall.getX(), wall.getY(),
                             wall.getWidth(), wall.getHeight());
                 }
             }
         }
 
-        private void drawFruit(Graphics g, Fruit fruit) {
-            Image sprite = fruit.getCurrentSprite();
+        private void drawFruit(RenderList list, Fruit fruit) {
+            SpriteFrame sprite = fruit.getCurrentSprite();
             if (sprite != null) {
                 int fruitDrawX = fruit.getX() + (CELL_SIZE - fruit.getWidth()) / 2;
                 int fruitDrawY = fruit.getY() + (CELL_SIZE - fruit.getHeight()) / 2;
 
-                g.drawImage(sprite,
+                list.sprite(sprite,
                         fruitDrawX,
                         fruitDrawY,
                         fruit.getWidth(),
-                        fruit.getHeight(),
-                        null);
+                        fruit.getHeight());
             }
         }
 
-        private void drawEnemy(Graphics g, Enemy enemy) {
-            Image sprite = enemy.getCurrentSprite();
+        private void drawEnemy(RenderList list, Enemy enemy) {
+            SpriteFrame sprite = enemy.getCurrentSprite();
             if (sprite != null) {
                 int enemyDrawX = enemy.getX() + (CELL_SIZE - enemy.getWidth()) / 2;
                 int enemyDrawY = enemy.getY() + (CELL_SIZE - enemy.getHeight()) / 2;
 
-                g.drawImage(sprite,
+                list.sprite(sprite,
                         enemyDrawX,
                         enemyDrawY,
                         enemy.getWidth(),
-                        enemy.getHeight(),
-                        null);
+                        enemy.getHeight());
 
                 if (showGrid) {
-                    g.setColor(new Color(255, 165, 0, 150));
-                    g.fillRect(enemy.getX(), enemy.getY(),
+                    list.fill(new Color(255, 165, 0, 150), enemy.getX(), enemy.getY(),
                             CELL_SIZE, CELL_SIZE);
                 }
             }
         }
 
-        private void drawPlayer(Graphics g) {
-            Image sprite = player.getCurrentSprite();
+        private void drawPlayer(RenderList list, IceCreamPlayer player) {
+            SpriteFrame sprite = player.getCurrentSprite();
             if (sprite != null) {
                 int drawWidth = player.getWidth();
                 int drawHeight = player.getHeight();
@@ -821,30 +1036,30 @@ public class GameScreen implements Screen {
                     playerDrawY -= 15;
                 }
 
-                g.drawImage(sprite, playerDrawX, playerDrawY,
-                        drawWidth, drawHeight, null);
+                list.sprite(sprite, playerDrawX, playerDrawY,
+                        drawWidth, drawHeight);
             }
         }
 
-        private void drawDebugGrid(Graphics g) {
-            g.setColor(new Color(255, 0, 0, 150));
+        private void drawDebugGrid(RenderList list, GridSystem grid) {
+            Color color = new Color(255, 0, 0, 150);
 
-            int gridWidth = gameMap.getGrid().getGridWidth();
-            int gridHeight = gameMap.getGrid().getGridHeight();
+            int gridWidth = grid.getGridWidth();
+            int gridHeight = grid.getGridHeight();
 
             for (int x = 0; x <= gridWidth; x++) {
-                Point p = gameMap.getGrid().gridToPixel(x, 0);
-                g.drawLine(p.x, 0, p.x, getHeight());
+                int px = grid.gridToPixelX(x);
+                list.line(color, px, 0, px, getHeight());
             }
 
             for (int y = 0; y <= gridHeight; y++) {
-                Point p = gameMap.getGrid().gridToPixel(0, y);
-                g.drawLine(0, p.y, getWidth(), p.y);
+                int py = grid.gridToPixelY(y);
+                list.line(color, 0, py, getWidth(), py);
             }
         }
 
         private void handleKeyPress(KeyEvent e, boolean pressed) {
-            if (player == null) return;
+            if (session == null) return;
 
             int key = e.getKeyCode();
 
@@ -854,22 +1069,23 @@ public class GameScreen implements Screen {
                 return;
             }
 
-            if (playerDead || levelComplete || (pauseButton != null && pauseButton.isPaused())) {
+            if (key == KeyEvent.VK_F3 && pressed) {
+                performanceHud.toggle();
+                repaint();
+                return;
+            }
+
+            if (!session.isPlaying()) {
                 return;
             }
 
             if (key == KeyEvent.VK_P && pressed && pauseButton != null) {
                 pauseButton.toggle();
+                session.requestPause(pauseButton.isPaused());
                 if (pauseButton.isPaused()) {
                     pauseOverlay.show();
-                    if (timeLimit != null) {
-                        timeLimit.pause();
-                    }
                 } else {
                     pauseOverlay.hide();
-                    if (timeLimit != null) {
-                        timeLimit.resume();
-                    }
                 }
                 repaint();
                 return;
@@ -880,8 +1096,8 @@ public class GameScreen implements Screen {
                 System.out.println("Cuadricula de debug: " + (showGrid ? "ON" : "OFF"));
             }
 
-            if (key == KeyEvent.VK_SPACE && pressed && gameMap != null) {
-                handleIceAction();
+            if (key == KeyEvent.VK_SPACE && pressed) {
+                session.queueIceAction();
             }
 
             if (key == KeyEvent.VK_UP || key == KeyEvent.VK_W) {
@@ -897,70 +1113,7 @@ public class GameScreen implements Screen {
                 rightPressed = pressed;
             }
 
-            updatePlayerMovement();
-        }
-
-        private void handleIceAction() {
-            if (!player.canPerformAction()) {
-                return;
-            }
-
-            if (player.isPerformingAction()) {
-                return;
-            }
-
-            Player.Direction dir = player.getDirection();
-            Point playerGrid = gameMap.getGrid().pixelToGrid(player.getX(), player.getY());
-            Point nextGrid = gameMap.getGrid().getNextGridPosition(playerGrid.x, playerGrid.y, dir);
-
-            boolean hasIceInDirection = false;
-            if (gameMap.getGrid().isInBounds(nextGrid.x, nextGrid.y)) {
-                for (Block block : gameMap.getBlocks()) {
-                    Point blockGrid = gameMap.getGrid().pixelToGrid(block.getX(), block.getY());
-                    if (blockGrid.x == nextGrid.x && blockGrid.y == nextGrid.y &&
-                            block.getType() == Block.BlockType.ICE) {
-                        hasIceInDirection = true;
-                        break;
-                    }
-                }
-            }
-
-            boolean animationStarted = false;
-
-            if (hasIceInDirection) {
-                animationStarted = player.startBreakIceAnimation();
-            } else {
-                animationStarted = player.startPutIceAnimation();
-            }
-
-            if (animationStarted) {
-                player.performAction();
-            }
-        }
-
-        private void updatePlayerMovement() {
-            if (player == null || gameMap == null || playerDead || levelComplete) return;
-
-            if (player.isPerformingAction()) {
-                return;
-            }
-
-            if (player.isOnCooldown()) {
-                player.stopMoving();
-                return;
-            }
-
-            if (upPressed) {
-                player.moveUp();
-            } else if (downPressed) {
-                player.moveDown();
-            } else if (leftPressed) {
-                player.moveLeft();
-            } else if (rightPressed) {
-                player.moveRight();
-            } else {
-                player.stopMoving();
-            }
+            session.setHeldDirections(upPressed, downPressed, leftPressed, rightPressed);
         }
     }
-}
\ No newline at end of file
+}
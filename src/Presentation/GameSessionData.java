@@ -1,20 +1,34 @@
 package Presentation;
 
 import Domain.GameLoader;
+import Domain.LevelLoader;
 
 /**
  * Almacena los datos de la sesion de juego actual
  * Se comparte entre las diferentes pantallas
  */
 public class GameSessionData {
+    // Modo de juego: un jugador o los de la pantalla de 2 jugadores
+    public static final String SINGLE_PLAYER = "J1";
+
     private String player1Name;
     private String player1Flavor;
     private GameLoader gameLoader; // NUEVO
+    private String levelId;
+
+    // Modos de 2 jugadores
+    private String gameMode;
+    private String player2Name;
+    private String player2Flavor;
+    private String player1Difficulty;
+    private String player2Difficulty;
 
     public GameSessionData() {
         this.player1Name = "Player 1";
         this.player1Flavor = "vanilla";
         this.gameLoader = null; // NUEVO
+        this.levelId = LevelLoader.DEFAULT_LEVEL;
+        this.gameMode = SINGLE_PLAYER;
     }
 
     public String getPlayer1Name() {
@@ -33,6 +47,66 @@ public class GameSessionData {
         this.player1Flavor = flavor;
     }
 
+    /**
+     * Nivel elegido en la seleccion de nivel (nombre del archivo en Levels/)
+     */
+    public String getLevelId() {
+        return levelId;
+    }
+
+    public void setLevelId(String levelId) {
+        this.levelId = levelId;
+    }
+
+    /**
+     * Modo elegido: SINGLE_PLAYER, J1VSJ2, J1VSIA o IAVSIA
+     */
+    public String getGameMode() {
+        return gameMode;
+    }
+
+    public void setGameMode(String gameMode) {
+        this.gameMode = gameMode;
+    }
+
+    public String getPlayer2Name() {
+        return player2Name;
+    }
+
+    public void setPlayer2Name(String name) {
+        this.player2Name = name;
+    }
+
+    public String getPlayer2Flavor() {
+        return player2Flavor;
+    }
+
+    public void setPlayer2Flavor(String flavor) {
+        this.player2Flavor = flavor;
+    }
+
+    /**
+     * Dificultad de la IA del jugador 1 (solo IAVSIA)
+     */
+    public String getPlayer1Difficulty() {
+        return player1Difficulty;
+    }
+
+    public void setPlayer1Difficulty(String difficulty) {
+        this.player1Difficulty = difficulty;
+    }
+
+    /**
+     * Dificultad de la IA del jugador 2 (J1VSIA e IAVSIA)
+     */
+    public String getPlayer2Difficulty() {
+        return player2Difficulty;
+    }
+
+    public void setPlayer2Difficulty(String difficulty) {
+        this.player2Difficulty = difficulty;
+    }
+
     // NUEVOS METODOS PARA EL LOADER
     public GameLoader getGameLoader() {
         return gameLoader;
@@ -9,6 +9,8 @@ import java.awt.event.*;
  * Ahora usa el GIF TJuego2Jugadores.gif
  */
 public class GameTypeScreen implements Screen {
+    static final String BACKGROUND_PATH = "Images/CantJugadores.gif";
+
     private JPanel panel;
     private JLabel backgroundLabel;
     private final ScreenManager screenManager;
@@ -30,18 +32,13 @@ public class GameTypeScreen implements Screen {
 
     private void loadGifBackground() {
         try {
-            String path = "Images/CantJugadores.gif";
-            ImageIcon gifIcon = new ImageIcon(path);
+            String path = BACKGROUND_PATH;
+            ImageIcon scaledIcon = AssetPreloader.await(
+                    AssetPreloader.loadAnimatedBackground(path, 756, 752));
 
-            if (gifIcon.getIconWidth() > 0) {
+            if (scaledIcon != null) {
                 System.out.println("GIF de tipo de juego cargado desde: " + path);
 
-                // Escalar el GIF para que llene la ventana
-                Image scaledImage = gifIcon.getImage().getScaledInstance(
-                        756, 752, Image.SCALE_DEFAULT
-                );
-                ImageIcon scaledIcon = new ImageIcon(scaledImage);
-
                 backgroundLabel = new JLabel(scaledIcon);
                 backgroundLabel.setLayout(null);
                 backgroundLabel.setPreferredSize(new Dimension(756, 752));
@@ -128,5 +125,8 @@ public class GameTypeScreen implements Screen {
     @Override
     public void onHide() {
         System.out.println("Ocultando pantalla de seleccion de tipo de juego");
+
+        // Oculta no necesita animar el fondo
+        ScreenImages.stopAnimation(backgroundLabel);
     }
 }
\ No newline at end of file
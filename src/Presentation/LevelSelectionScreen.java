@@ -3,13 +3,22 @@ package Presentation;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.awt.image.BufferedImage;
 
 /**
  * Pantalla de seleccion de nivel con botones invisibles
  */
 public class LevelSelectionScreen implements Screen {
+    static final String BACKGROUND_PATH = "Images/SelcNiveles.png";
+
     private JPanel panel;
     private Image backgroundImage;
+    private int imageWidth;
+    private int imageHeight;
+    private boolean imageReleased;
+
+    // El PNG mide mas de 4000 pixeles: se dibuja desde una copia al tamano del panel
+    private BufferedImage scaledBackground;
     private final ScreenManager screenManager;
 
     public LevelSelectionScreen(ScreenManager screenManager) {
@@ -36,12 +45,14 @@ public class LevelSelectionScreen implements Screen {
 
     private void loadImage() {
         try {
-            String[] paths = {"Images/SelcNiveles.png"};
+            String[] paths = {BACKGROUND_PATH};
 
             for (String path : paths) {
                 try {
-                    backgroundImage = new ImageIcon(path).getImage();
-                    if (backgroundImage.getWidth(null) > 0) {
+                    backgroundImage = AssetPreloader.await(AssetPreloader.loadImage(path));
+                    if (backgroundImage != null) {
+                        imageWidth = backgroundImage.getWidth(null);
+                        imageHeight = backgroundImage.getHeight(null);
                         System.out.println("Imagen de seleccion de nivel cargada desde: " + path);
                         return;
                     }
@@ -61,8 +72,8 @@ public class LevelSelectionScreen implements Screen {
             int panelWidth = panel.getWidth();
             int panelHeight = panel.getHeight();
 
-            int imgWidth = backgroundImage.getWidth(null);
-            int imgHeight = backgroundImage.getHeight(null);
+            int imgWidth = imageWidth;
+            int imgHeight = imageHeight;
 
             double scaleX = (double) panelWidth / imgWidth;
             double scaleY = (double) panelHeight / imgHeight;
@@ -74,35 +85,23 @@ public class LevelSelectionScreen implements Screen {
             int x = (panelWidth - newWidth) / 2;
             int y = (panelHeight - newHeight) / 2;
 
-            g.drawImage(backgroundImage, x, y, newWidth, newHeight, null);
+            if (newWidth <= 0 || newHeight <= 0) {
+                return;
+            }
+            if (scaledBackground == null || scaledBackground.getWidth() != newWidth
+                    || scaledBackground.getHeight() != newHeight) {
+                scaledBackground = scaleBackground(newWidth, newHeight);
+            }
+            g.drawImage(scaledBackground, x, y, null);
         }
     }
 
     private void createButtons() {
-        // Boton para nivel 1 - INVISIBLE
-        JButton level1Button = createInvisibleButton(232, 245, 90, 65);
-        level1Button.addActionListener(e -> {
-            System.out.println("Nivel 1 seleccionado");
-            screenManager.showScreen("game");
-        });
-
-        // Boton para nivel 2 - INVISIBLE
-        JButton level2Button = createInvisibleButton(335, 245, 90, 65);
-        level2Button.addActionListener(e -> {
-            System.out.println("Nivel 2 seleccionado (no implementado)");
-        });
-
-        // Boton para nivel 3 - INVISIBLE
-        JButton level3Button = createInvisibleButton(440, 245, 90, 65);
-        level3Button.addActionListener(e -> {
-            System.out.println("Nivel 3 seleccionado (no implementado)");
-        });
-
-        // Boton para nivel 4 - INVISIBLE
-        JButton level4Button = createInvisibleButton(337, 356, 85, 65);
-        level4Button.addActionListener(e -> {
-            System.out.println("Nivel 4 seleccionado (no implementado)");
-        });
+        // Botones de nivel - INVISIBLES
+        JButton level1Button = createLevelButton(1, 232, 245, 90, 65);
+        JButton level2Button = createLevelButton(2, 335, 245, 90, 65);
+        JButton level3Button = createLevelButton(3, 440, 245, 90, 65);
+        JButton level4Button = createLevelButton(4, 337, 356, 85, 65);
 
         // Boton BACK - INVISIBLE
         JButton backButton = createInvisibleButton(295, 480, 170, 72);
@@ -118,6 +117,19 @@ public class LevelSelectionScreen implements Screen {
         panel.add(backButton);
     }
 
+    /**
+     * Boton que elige Levels/nivelN.txt y empieza el juego
+     */
+    private JButton createLevelButton(int number, int x, int y, int width, int height) {
+        JButton button = createInvisibleButton(x, y, width, height);
+        button.addActionListener(e -> {
+            System.out.println("Nivel " + number + " seleccionado");
+            screenManager.getSessionData().setLevelId("nivel" + number);
+            screenManager.showScreen("game");
+        });
+        return button;
+    }
+
     private JButton createInvisibleButton(int x, int y, int width, int height) {
         JButton button = new JButton();
         button.setBounds(x, y, width, height);
@@ -134,6 +146,34 @@ public class LevelSelectionScreen implements Screen {
         return button;
     }
 
+    private BufferedImage scaleBackground(int width, int height) {
+        if (imageReleased) {
+            // El ImageIcon espera a que la imagen liberada se vuelva a cargar
+            new ImageIcon(backgroundImage);
+            imageReleased = false;
+        }
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(backgroundImage, 0, 0, width, height, null);
+        g2d.dispose();
+        return scaled;
+    }
+
+    @Override
+    public long getRetainedBytes() {
+        return imageReleased ? 0 : ScreenImages.bytesOf(backgroundImage);
+    }
+
+    @Override
+    public void release() {
+        // La copia escalada se conserva; solo se suelta el PNG original
+        if (backgroundImage != null) {
+            backgroundImage.flush();
+            imageReleased = true;
+        }
+    }
+
     @Override
     public JPanel getPanel() {
         return panel;
@@ -0,0 +1,68 @@
+package Presentation;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pantalla de carga liviana que se muestra mientras AssetPreloader trabaja.
+ * No carga ninguna imagen: solo dibuja el titulo y una barra con el progreso de la precarga.
+ */
+public class LoadingSplash extends JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private static final int BAR_WIDTH = 400;
+    private static final int BAR_HEIGHT = 16;
+
+    private final Timer refreshTimer;
+
+    public LoadingSplash() {
+        setPreferredSize(new Dimension(770, 790));
+        setBackground(Color.BLACK);
+        refreshTimer = new Timer(50, e -> repaint());
+    }
+
+    /**
+     * Muestra el progreso hasta que termine la tarea y despues ejecuta next en el EDT
+     */
+    public void showUntil(CompletableFuture<?> ready, Runnable next) {
+        refreshTimer.start();
+        ready.whenComplete((result, error) -> SwingUtilities.invokeLater(() -> {
+            refreshTimer.stop();
+            next.run();
+        }));
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        int centerX = getWidth() / 2;
+        int centerY = getHeight() / 2;
+
+        g2d.setColor(Color.WHITE);
+        g2d.setFont(new Font("Arial", Font.BOLD, 36));
+        drawCentered(g2d, "Bad Ice Cream", centerX, centerY - 40);
+
+        int barX = centerX - BAR_WIDTH / 2;
+        int barY = centerY;
+        int filled = (int) (BAR_WIDTH * AssetPreloader.getProgress());
+        g2d.setColor(new Color(60, 60, 60));
+        g2d.fillRect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+        g2d.setColor(new Color(120, 200, 255));
+        g2d.fillRect(barX, barY, filled, BAR_HEIGHT);
+        g2d.setColor(Color.WHITE);
+        g2d.drawRect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+
+        g2d.setFont(new Font("Arial", Font.PLAIN, 14));
+        drawCentered(g2d, "Cargando... " + (int) (AssetPreloader.getProgress() * 100) + "%",
+                centerX, barY + BAR_HEIGHT + 24);
+    }
+
+    private void drawCentered(Graphics2D g2d, String text, int centerX, int baselineY) {
+        FontMetrics metrics = g2d.getFontMetrics();
+        g2d.drawString(text, centerX - metrics.stringWidth(text) / 2, baselineY);
+    }
+}
@@ -13,13 +13,25 @@ public class Main {
         frame.setLocationRelativeTo(null);
         frame.setResizable(false);
 
-        // Crear administrador de pantallas
-        ScreenManager screenManager = new ScreenManager(frame);
+        // Precargar en paralelo mientras se ve la pantalla de carga
+        long start = System.nanoTime();
+        AssetPreloader.startAll();
+        LoadingSplash splash = new LoadingSplash();
+        frame.add(splash);
+        frame.setVisible(true);
 
-        // Mostrar pantalla inicial (menu)
-        screenManager.showScreen("menu");
+        // Las pantallas se construyen cuando sus fondos estan listos; los sprites del juego siguen en fondo
+        splash.showUntil(AssetPreloader.screenAssets(), () -> {
+            frame.remove(splash);
 
-        frame.setVisible(true);
+            // Crear administrador de pantallas
+            ScreenManager screenManager = new ScreenManager(frame);
+
+            // Mostrar pantalla inicial (menu)
+            screenManager.showScreen("menu");
+            System.out.println("Menu listo en " + (System.nanoTime() - start) / 1_000_000 + " ms. "
+                    + AssetPreloader.getReport());
+        });
     }
 
     // Metodo main tradicion
@@ -6,6 +6,8 @@ import java.awt.event.*;
 
 // Pantalla de menu principal con GIF animado de fondo
 public class MenuScreen implements Screen {
+    static final String BACKGROUND_PATH = "Images/inicioBadIceCream.gif";
+
     private JPanel panel;
     private JLabel backgroundLabel;
     private ScreenManager screenManager;
@@ -27,22 +29,18 @@ public class MenuScreen implements Screen {
 
     private void loadGifBackground() {
         try {
-            String[] paths = {"Images/inicioBadIceCream.gif"};
+            String[] paths = {BACKGROUND_PATH};
 
             for (String path : paths) {
                 try {
-                    ImageIcon gifIcon = new ImageIcon(path);
+                    // Ya escalado por la precarga; esperar si todavia no termino
+                    ImageIcon scaledIcon = AssetPreloader.await(
+                            AssetPreloader.loadAnimatedBackground(path, 756, 752));
 
                     // Verificar que el GIF se cargo correctamente
-                    if (gifIcon.getIconWidth() > 0) {
+                    if (scaledIcon != null) {
                         System.out.println("GIF cargado desde: " + path);
 
-                        // Escalar el GIF para que llene la ventana (ajustado a nuevo tamano)
-                        Image scaledImage = gifIcon.getImage().getScaledInstance(
-                                756, 752, Image.SCALE_DEFAULT
-                        );
-                        ImageIcon scaledIcon = new ImageIcon(scaledImage);
-
                         // Crear JLabel con el GIF animado
                         backgroundLabel = new JLabel(scaledIcon);
                         backgroundLabel.setLayout(null); // Layout absoluto para botones
@@ -121,5 +119,8 @@ public class MenuScreen implements Screen {
     @Override
     public void onHide() {
         System.out.println("Ocultando menu principal");
+
+        // Oculta no necesita animar el fondo
+        ScreenImages.stopAnimation(backgroundLabel);
     }
 }
\ No newline at end of file
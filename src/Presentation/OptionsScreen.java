@@ -1,14 +1,19 @@
 package Presentation;
 
+import Domain.GameLoader;
+import Domain.GameSaveData;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.File;
 
 /**
  * Pantalla de opciones con GIF animado de fondo
  * Incluye botones para Play, Load, Help y Credits
  */
 public class OptionsScreen implements Screen {
+    static final String BACKGROUND_PATH = "Images/inicioBadIceCreamMENUN.gif";
+
     private JPanel panel;
     private JLabel backgroundLabel;
     private ScreenManager screenManager;
@@ -30,20 +35,16 @@ public class OptionsScreen implements Screen {
 
     private void loadGifBackground() {
         try {
-            String[] paths = {"Images/inicioBadIceCreamMENUN.gif"};
+            String[] paths = {BACKGROUND_PATH};
 
             for (String path : paths) {
                 try {
-                    ImageIcon gifIcon = new ImageIcon(path);
+                    ImageIcon scaledIcon = AssetPreloader.await(
+                            AssetPreloader.loadAnimatedBackground(path, 756, 752));
 
-                    if (gifIcon.getIconWidth() > 0) {
+                    if (scaledIcon != null) {
                         System.out.println("GIF de opciones cargado desde: " + path);
 
-                        Image scaledImage = gifIcon.getImage().getScaledInstance(
-                                756, 752, Image.SCALE_DEFAULT
-                        );
-                        ImageIcon scaledIcon = new ImageIcon(scaledImage);
-
                         backgroundLabel = new JLabel(scaledIcon);
                         backgroundLabel.setLayout(null);
                         backgroundLabel.setPreferredSize(new Dimension(756, 752));
@@ -80,7 +81,7 @@ public class OptionsScreen implements Screen {
         JButton loadButton = createInvisibleButton(325, 442, 110, 30);
         loadButton.addActionListener(e -> {
             System.out.println("Load presionado - Cargando partida");
-            // Por ahora no hace nada
+            loadSavedGame();
         });
         backgroundLabel.add(loadButton);
 
@@ -131,10 +132,9 @@ public class OptionsScreen implements Screen {
 
         if (userSelection == JFileChooser.APPROVE_OPTION) {
             File fileToLoad = fileChooser.getSelectedFile();
-            String filename = fileToLoad.getName().replace(".sav", "");
 
-            // Cargar usando GameSaveData (ya existente)
-            GameSaveData saveData = GameSaveData.loadFromFile(filename);
+            // Cargar usando GameSaveData (convierte los guardados antiguos)
+            GameSaveData saveData = GameSaveData.loadFromFile(fileToLoad.getAbsolutePath());
 
             if (saveData != null) {
                 System.out.println("Partida cargada exitosamente");
@@ -179,5 +179,8 @@ public class OptionsScreen implements Screen {
     @Override
     public void onHide() {
         System.out.println("Ocultando pantalla de opciones");
+
+        // Oculta no necesita animar el fondo
+        ScreenImages.stopAnimation(backgroundLabel);
     }
 }
\ No newline at end of file
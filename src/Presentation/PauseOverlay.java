@@ -1,6 +1,7 @@
 package Presentation;
 
-import javax.swing.ImageIcon;
+import Domain.SpriteCache;
+
 import java.awt.Graphics;
 import java.awt.Image;
 import java.awt.Point;
@@ -60,8 +61,8 @@ public class PauseOverlay {
     private void loadImage() {
         try {
             String path = "Images/PantallaPausa.png";
-            pauseImage = new ImageIcon(path).getImage();
-            if (pauseImage.getWidth(null) > 0) {
+            pauseImage = SpriteCache.getImage(path);
+            if (pauseImage != null) {
                 System.out.println("Imagen de pausa cargada desde: " + path);
             } else {
                 System.out.println("Advertencia: No se pudo cargar la imagen de pausa");
@@ -0,0 +1,180 @@
+package Presentation;
+
+import Domain.TickProfiler;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Panel de rendimiento que se activa con F3 durante el juego.
+ * Muestra FPS, tiempo de pintado, tiempo de tick por fase, un histograma
+ * de los ultimos frames, uso del heap y actividad del GC, para diagnosticar
+ * tirones en la maquina del jugador sin conectar un profiler.
+ */
+public class PerformanceHud {
+    private static final int X = 10;
+    private static final int Y = 140;
+    private static final int WIDTH = 250;
+    private static final int LINE_HEIGHT = 15;
+
+    // Histograma: rangos de 4 ms, el ultimo acumula los frames de 40 ms o mas
+    private static final int HISTOGRAM_BUCKETS = 11;
+    private static final double BUCKET_MILLIS = 4.0;
+    private static final int HISTOGRAM_HEIGHT = 40;
+
+    private static final int PAINT_WINDOW = 60;
+
+    private static final Font FONT = new Font("Monospaced", Font.PLAIN, 12);
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+
+    private final FrameStats frameStats;
+    private final List<GarbageCollectorMXBean> gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+    private final int[] histogram = new int[HISTOGRAM_BUCKETS];
+    private final long[] paintSamples = new long[PAINT_WINDOW];
+    private int paintIndex;
+    private int paintCount;
+    private boolean visible;
+
+    public PerformanceHud(FrameStats frameStats) {
+        this.frameStats = frameStats;
+    }
+
+    public void toggle() {
+        visible = !visible;
+        System.out.println("Panel de rendimiento: " + (visible ? "ON" : "OFF"));
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Registra cuanto tardo en dibujarse un frame (sin contar el propio panel)
+     */
+    public void recordPaint(long nanos) {
+        paintSamples[paintIndex] = nanos;
+        paintIndex = (paintIndex + 1) % PAINT_WINDOW;
+        if (paintCount < PAINT_WINDOW) {
+            paintCount++;
+        }
+    }
+
+    public void draw(Graphics g, TickProfiler profiler) {
+        if (!visible) return;
+
+        int lines = 8 + TickProfiler.Phase.values().length;
+        int height = lines * LINE_HEIGHT + HISTOGRAM_HEIGHT + 20;
+
+        g.setColor(BACKGROUND);
+        g.fillRect(X, Y, WIDTH, height);
+
+        g.setFont(FONT);
+        g.setColor(Color.WHITE);
+        int textX = X + 8;
+        int y = Y + LINE_HEIGHT;
+
+        g.drawString("RENDIMIENTO (F3)", textX, y);
+        y += LINE_HEIGHT;
+        g.drawString(String.format("FPS %5.1f  frame %5.2f ms",
+                frameStats.getFps(), frameStats.getMeanFrameMillis()), textX, y);
+        y += LINE_HEIGHT;
+        g.drawString(String.format("Pintado %5.2f ms (max %5.2f)",
+                averagePaintMillis(), maxPaintMillis()), textX, y);
+        y += LINE_HEIGHT;
+
+        if (profiler != null) {
+            g.drawString(String.format("Tick    %5.2f ms (max %5.2f)",
+                    profiler.getAverageTickMillis(), profiler.getMaxTickMillis()), textX, y);
+            y += LINE_HEIGHT;
+            for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+                g.drawString(String.format("  %-10s %5.3f / %5.3f ms", getPhaseName(phase),
+                        profiler.getAverageMillis(phase), profiler.getMaxMillis(phase)), textX, y);
+                y += LINE_HEIGHT;
+            }
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+        long maxMb = runtime.maxMemory() / (1024 * 1024);
+        g.drawString("Heap " + usedMb + " / " + maxMb + " MB", textX, y);
+        y += LINE_HEIGHT;
+        g.drawString("GC " + getGcCount() + " (" + getGcMillis() + " ms)", textX, y);
+        y += LINE_HEIGHT;
+
+        g.drawString("Frames (4 ms por barra)", textX, y);
+        y += 6;
+        drawHistogram(g, textX, y);
+    }
+
+    private void drawHistogram(Graphics g, int x, int y) {
+        frameStats.fillHistogram(histogram, BUCKET_MILLIS);
+
+        int maxCount = 1;
+        for (int count : histogram) {
+            maxCount = Math.max(maxCount, count);
+        }
+
+        int barWidth = (WIDTH - 16) / HISTOGRAM_BUCKETS;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            int barHeight = histogram[i] * HISTOGRAM_HEIGHT / maxCount;
+            // Verde hasta 16 ms, amarillo hasta 32 ms, rojo despues
+            double bucketStart = i * BUCKET_MILLIS;
+            g.setColor(bucketStart < 16 ? Color.GREEN : bucketStart < 32 ? Color.YELLOW : Color.RED);
+            g.fillRect(x + i * barWidth, y + HISTOGRAM_HEIGHT - barHeight, barWidth - 2, barHeight);
+        }
+    }
+
+    private String getPhaseName(TickProfiler.Phase phase) {
+        switch (phase) {
+            case PLAYER:
+                return "Jugador";
+            case MAP:
+                return "Mapa";
+            case FRUITS:
+                return "Frutas";
+            case ENEMIES:
+                return "Enemigos";
+            case COLLISIONS:
+                return "Colisiones";
+            default:
+                return phase.name();
+        }
+    }
+
+    private double averagePaintMillis() {
+        if (paintCount == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < paintCount; i++) {
+            sum += paintSamples[i];
+        }
+        return sum / (double) paintCount / 1_000_000.0;
+    }
+
+    private double maxPaintMillis() {
+        long max = 0;
+        for (int i = 0; i < paintCount; i++) {
+            max = Math.max(max, paintSamples[i]);
+        }
+        return max / 1_000_000.0;
+    }
+
+    private long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            count += Math.max(0, bean.getCollectionCount());
+        }
+        return count;
+    }
+
+    private long getGcMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : gcBeans) {
+            time += Math.max(0, bean.getCollectionTime());
+        }
+        return time;
+    }
+}
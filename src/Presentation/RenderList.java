@@ -0,0 +1,127 @@
+package Presentation;
+
+import Domain.SpriteFrame;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Image;
+import java.util.Arrays;
+
+/**
+ * Lista de dibujo de un frame.
+ * Se llena con el candado de la simulacion tomado (solo guarda que sprite va en que rectangulo)
+ * y se dibuja despues sin el candado, para que el hilo del juego no espere al pintado.
+ * Los arreglos se reusan entre frames.
+ */
+public class RenderList {
+    private static final int SPRITE = 0;
+    private static final int IMAGE = 1;
+    private static final int FILL = 2;
+    private static final int LINE = 3;
+    private static final int CLIP = 4;
+    private static final int UNCLIP = 5;
+
+    private int size;
+    private int[] kinds = new int[256];
+    // SpriteFrame, Image o Color segun el tipo
+    private Object[] refs = new Object[256];
+    // Cuatro enteros por operacion: rectangulo (x, y, ancho, alto) o linea (x1, y1, x2, y2)
+    private int[] coords = new int[256 * 4];
+
+    public void clear() {
+        Arrays.fill(refs, 0, size, null);
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void sprite(SpriteFrame sprite, int x, int y, int width, int height) {
+        add(SPRITE, sprite, x, y, width, height);
+    }
+
+    public void image(Image image, int x, int y, int width, int height) {
+        add(IMAGE, image, x, y, width, height);
+    }
+
+    public void fill(Color color, int x, int y, int width, int height) {
+        add(FILL, color, x, y, width, height);
+    }
+
+    public void line(Color color, int x1, int y1, int x2, int y2) {
+        add(LINE, color, x1, y1, x2, y2);
+    }
+
+    /**
+     * Lo que sigue hasta unclip se recorta al rectangulo
+     */
+    public void clip(int x, int y, int width, int height) {
+        add(CLIP, null, x, y, width, height);
+    }
+
+    public void unclip() {
+        add(UNCLIP, null, 0, 0, 0, 0);
+    }
+
+    private void add(int kind, Object ref, int a, int b, int c, int d) {
+        if (size == kinds.length) {
+            kinds = Arrays.copyOf(kinds, size * 2);
+            refs = Arrays.copyOf(refs, size * 2);
+            coords = Arrays.copyOf(coords, size * 8);
+        }
+        kinds[size] = kind;
+        refs[size] = ref;
+        int base = size * 4;
+        coords[base] = a;
+        coords[base + 1] = b;
+        coords[base + 2] = c;
+        coords[base + 3] = d;
+        size++;
+    }
+
+    /**
+     * Dibuja todas las operaciones en orden
+     */
+    public void draw(Graphics g) {
+        Graphics target = g;
+        for (int i = 0; i < size; i++) {
+            int base = i * 4;
+            int a = coords[base];
+            int b = coords[base + 1];
+            int c = coords[base + 2];
+            int d = coords[base + 3];
+            switch (kinds[i]) {
+                case SPRITE:
+                    ((SpriteFrame) refs[i]).draw(target, a, b, c, d);
+                    break;
+                case IMAGE:
+                    target.drawImage((Image) refs[i], a, b, c, d, null);
+                    break;
+                case FILL:
+                    target.setColor((Color) refs[i]);
+                    target.fillRect(a, b, c, d);
+                    break;
+                case LINE:
+                    target.setColor((Color) refs[i]);
+                    target.drawLine(a, b, c, d);
+                    break;
+                case CLIP:
+                    target = g.create();
+                    target.clipRect(a, b, c, d);
+                    break;
+                case UNCLIP:
+                    if (target != g) {
+                        target.dispose();
+                        target = g;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (target != g) {
+            target.dispose();
+        }
+    }
+}
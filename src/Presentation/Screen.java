@@ -7,4 +7,13 @@ public interface Screen {
     JPanel getPanel();
     void onShow();
     void onHide();
-}
\ No newline at end of file
+
+    // Memoria aproximada de imagenes que la pantalla retiene mientras esta oculta
+    default long getRetainedBytes() {
+        return 0;
+    }
+
+    // Libera esas imagenes; la pantalla debe poder volver a mostrarse despues
+    default void release() {
+    }
+}
@@ -0,0 +1,34 @@
+package Presentation;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Utilidades para las imagenes de fondo de las pantallas
+ */
+final class ScreenImages {
+    private ScreenImages() {
+    }
+
+    /**
+     * Detiene el GIF animado de un fondo y descarta sus frames decodificados.
+     * La imagen se vuelve a producir sola la proxima vez que el label se pinta.
+     */
+    static void stopAnimation(JLabel label) {
+        if (label != null && label.getIcon() instanceof ImageIcon) {
+            ((ImageIcon) label.getIcon()).getImage().flush();
+        }
+    }
+
+    /**
+     * Memoria aproximada de una imagen ARGB ya cargada
+     */
+    static long bytesOf(Image image) {
+        if (image == null) {
+            return 0;
+        }
+        int width = image.getWidth(null);
+        int height = image.getHeight(null);
+        return width > 0 && height > 0 ? (long) width * height * 4 : 0;
+    }
+}
@@ -3,18 +3,39 @@ package Presentation;
 import javax.swing.*;
 import java.awt.*;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
-// Administrador que maneja el cambio entre pantallas usando polimorfismo
+// Administrador que maneja el cambio entre pantallas usando polimorfismo.
+// Las pantallas se registran como fabricas y se construyen la primera vez que se muestran;
+// las ocultas liberan sus imagenes pesadas cuando superan el presupuesto de memoria.
 public class ScreenManager {
+    // Memoria que pueden retener las pantallas ocultas (-Dbadicecream.screenBudgetMb)
+    private static final long MEMORY_BUDGET = Long.getLong("badicecream.screenBudgetMb", 32) * 1024 * 1024;
+
+    // Construir de antemano la pantalla que probablemente sigue (-Dbadicecream.prefetchScreens=false)
+    private static final boolean PREFETCH =
+            Boolean.parseBoolean(System.getProperty("badicecream.prefetchScreens", "true"));
+
+    // Camino habitual de un jugador: menu -> opciones -> tipo de juego -> sabor -> nivel
+    private static final Map<String, String> LIKELY_NEXT = Map.of(
+            "menu", "options",
+            "options", "gameType",
+            "gameType", "flavorSelection",
+            "flavorSelection", "levelSelection");
+
     private JFrame frame;
-    private Map<String, Screen> screens;
+    private final Map<String, Supplier<Screen>> factories;
+    // En orden de uso (la menos usada primero) para elegir cual liberar
+    private final Map<String, Screen> screens;
     private Screen currentScreen;
     private GameSessionData sessionData;
 
     public ScreenManager(JFrame frame) {
         this.frame = frame;
-        this.screens = new HashMap<>();
+        this.factories = new HashMap<>();
+        this.screens = new LinkedHashMap<>(16, 0.75f, true);
         this.sessionData = new GameSessionData();
         initializeScreens();
     }
@@ -25,21 +46,21 @@ public class ScreenManager {
 
     private void initializeScreens() {
         // Registrar todas las pantallas del juego
-        screens.put("menu", new MenuScreen(this));
-        screens.put("options", new OptionsScreen(this));
-        screens.put("game", new GameScreen(this));
-        screens.put("gameType", new GameTypeScreen(this));
-        screens.put("flavorSelection", new FlavorSelectionScreen(this));
-        screens.put("levelSelection", new LevelSelectionScreen(this));
-
-        // Pantallas de 2 jugadores - crear referencia para compartir estado
-        TwoPlayerModeScreen twoPlayerMode = new TwoPlayerModeScreen(this);
-        screens.put("twoPlayerMode", twoPlayerMode);
-        screens.put("twoPlayerFlavorSelection", new TwoPlayerFlavorSelectionScreen(this, twoPlayerMode));
+        registerScreen("menu", () -> new MenuScreen(this));
+        registerScreen("options", () -> new OptionsScreen(this));
+        registerScreen("game", () -> new GameScreen(this));
+        registerScreen("gameType", () -> new GameTypeScreen(this));
+        registerScreen("flavorSelection", () -> new FlavorSelectionScreen(this));
+        registerScreen("levelSelection", () -> new LevelSelectionScreen(this));
+
+        // Pantallas de 2 jugadores - la de sabores comparte el estado de la de modos
+        registerScreen("twoPlayerMode", () -> new TwoPlayerModeScreen(this));
+        registerScreen("twoPlayerFlavorSelection", () -> new TwoPlayerFlavorSelectionScreen(this,
+                (TwoPlayerModeScreen) getOrCreateScreen("twoPlayerMode")));
     }
 
     public void showScreen(String screenName) {
-        Screen newScreen = screens.get(screenName);
+        Screen newScreen = getOrCreateScreen(screenName);
 
         if (newScreen == null) {
             System.out.println("Error: Pantalla '" + screenName + "' no existe");
@@ -58,6 +79,16 @@ public class ScreenManager {
         frame.add(currentScreen.getPanel());
         frame.revalidate();
         frame.repaint();
+
+        releaseHiddenScreens();
+        prefetchNext(screenName);
+    }
+
+    /**
+     * Registra una pantalla que se construye recien cuando se muestra por primera vez
+     */
+    public void registerScreen(String name, Supplier<Screen> factory) {
+        factories.put(name, factory);
     }
 
     public void addScreen(String name, Screen screen) {
@@ -67,4 +98,58 @@ public class ScreenManager {
     public Screen getCurrentScreen() {
         return currentScreen;
     }
-}
\ No newline at end of file
+
+    private Screen getOrCreateScreen(String name) {
+        Screen screen = screens.get(name);
+        if (screen != null) {
+            return screen;
+        }
+
+        Supplier<Screen> factory = factories.get(name);
+        if (factory == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        screen = factory.get();
+        screens.put(name, screen);
+        System.out.println("Pantalla '" + name + "' construida en " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return screen;
+    }
+
+    /**
+     * Libera las imagenes de las pantallas ocultas, empezando por la usada hace mas tiempo,
+     * hasta que lo retenido entre en el presupuesto
+     */
+    private void releaseHiddenScreens() {
+        long retained = 0;
+        for (Screen screen : screens.values()) {
+            if (screen != currentScreen) {
+                retained += screen.getRetainedBytes();
+            }
+        }
+
+        for (Map.Entry<String, Screen> entry : screens.entrySet()) {
+            if (retained <= MEMORY_BUDGET) {
+                return;
+            }
+            Screen screen = entry.getValue();
+            long bytes = screen.getRetainedBytes();
+            if (screen != currentScreen && bytes > 0) {
+                screen.release();
+                retained -= bytes;
+                System.out.println("Pantalla '" + entry.getKey() + "' liberada (" + bytes / 1024 + " KB)");
+            }
+        }
+    }
+
+    /**
+     * Construye la pantalla que probablemente sigue cuando el EDT quede libre
+     */
+    private void prefetchNext(String screenName) {
+        String next = LIKELY_NEXT.get(screenName);
+        if (!PREFETCH || next == null || screens.containsKey(next)) {
+            return;
+        }
+        SwingUtilities.invokeLater(() -> getOrCreateScreen(next));
+    }
+}
@@ -9,6 +9,8 @@ import java.awt.event.*;
  * Permite elegir sabor y nombre/dificultad segun el modo de juego
  */
 public class TwoPlayerFlavorSelectionScreen implements Screen {
+    static final String BACKGROUND_PATH = "Images/Sabor2Helados.gif";
+
     private JPanel panel;
     private JLabel backgroundLabel;
     private final ScreenManager screenManager;
@@ -19,6 +21,7 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
     // Campos de entrada para jugadores
     private JTextField player1NameField;
     private JTextField player2NameField;
+    private JComboBox<String> player1DifficultyBox;
     private JComboBox<String> player2DifficultyBox;
 
     // Sabores seleccionados
@@ -42,17 +45,13 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
 
     private void loadGifBackground() {
         try {
-            String path = "Images/Sabor2Helados.gif";
-            ImageIcon gifIcon = new ImageIcon(path);
+            String path = BACKGROUND_PATH;
+            ImageIcon scaledIcon = AssetPreloader.await(
+                    AssetPreloader.loadAnimatedBackground(path, 756, 752));
 
-            if (gifIcon.getIconWidth() > 0) {
+            if (scaledIcon != null) {
                 System.out.println("GIF de seleccion de sabores 2 jugadores cargado desde: " + path);
 
-                Image scaledImage = gifIcon.getImage().getScaledInstance(
-                        756, 752, Image.SCALE_DEFAULT
-                );
-                ImageIcon scaledIcon = new ImageIcon(scaledImage);
-
                 backgroundLabel = new JLabel(scaledIcon);
                 backgroundLabel.setLayout(null);
                 backgroundLabel.setPreferredSize(new Dimension(756, 752));
@@ -182,13 +181,7 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
         });
 
         // Selector de dificultad para IA (derecha)
-        String[] difficulties = {"hungry", "fearful", "expert"};
-        player2DifficultyBox = new JComboBox<>(difficulties);
-        player2DifficultyBox.setBounds(450, 118, 200, 40);
-        player2DifficultyBox.setFont(new Font("Arial", Font.BOLD, 18));
-        player2DifficultyBox.setForeground(new Color(139, 69, 19));
-        player2DifficultyBox.setBackground(new Color(255, 248, 220));
-        player2DifficultyBox.setBorder(BorderFactory.createLineBorder(new Color(139, 69, 19), 3));
+        player2DifficultyBox = createDifficultyBox(450);
 
         backgroundLabel.add(player1NameField);
         backgroundLabel.add(player2DifficultyBox);
@@ -196,6 +189,38 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
         System.out.println("Campo de nombre y selector de IA agregados");
     }
 
+    private void createIAVSIAFields() {
+        if (backgroundLabel == null) {
+            System.out.println("No se pueden crear campos sin fondo");
+            return;
+        }
+
+        System.out.println("Creando selectores para IA VS IA");
+
+        // Un selector de dificultad por helado
+        player1DifficultyBox = createDifficultyBox(115);
+        player2DifficultyBox = createDifficultyBox(450);
+
+        backgroundLabel.add(player1DifficultyBox);
+        backgroundLabel.add(player2DifficultyBox);
+
+        System.out.println("Selectores de IA agregados");
+    }
+
+    /**
+     * Selector de dificultad de IA con el estilo de los campos de nombre
+     */
+    private JComboBox<String> createDifficultyBox(int x) {
+        String[] difficulties = {"hungry", "fearful", "expert"};
+        JComboBox<String> box = new JComboBox<>(difficulties);
+        box.setBounds(x, 118, 200, 40);
+        box.setFont(new Font("Arial", Font.BOLD, 18));
+        box.setForeground(new Color(139, 69, 19));
+        box.setBackground(new Color(255, 248, 220));
+        box.setBorder(BorderFactory.createLineBorder(new Color(139, 69, 19), 3));
+        return box;
+    }
+
     private void createButtons() {
         if (backgroundLabel == null) {
             System.out.println("No se pueden crear botones sin fondo");
@@ -282,6 +307,17 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
             System.out.println("Ambos jugadores seleccionaron sabor, avanzando...");
             System.out.println("Jugador 1: " + getPlayer1Name() + " - " + player1Flavor);
             System.out.println("Jugador 2: " + getPlayer2Name() + " - " + player2Flavor);
+
+            // La partida lee los datos de aqui
+            GameSessionData sessionData = screenManager.getSessionData();
+            sessionData.setGameMode(getGameMode());
+            sessionData.setPlayer1Name(getPlayer1Name());
+            sessionData.setPlayer1Flavor(player1Flavor);
+            sessionData.setPlayer2Name(getPlayer2Name());
+            sessionData.setPlayer2Flavor(player2Flavor);
+            sessionData.setPlayer1Difficulty(getPlayer1Difficulty());
+            sessionData.setPlayer2Difficulty(getPlayer2Difficulty());
+
             screenManager.showScreen("levelSelection");
         }
     }
@@ -306,6 +342,8 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
         if (player1NameField != null) {
             String name = player1NameField.getText().trim();
             return (name.isEmpty() || name.equals("Player 1")) ? "Player 1" : name;
+        } else if (player1DifficultyBox != null) {
+            return "IA-" + player1DifficultyBox.getSelectedItem();
         }
         return "Player 1";
     }
@@ -344,6 +382,16 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
         return modeScreen.getSelectedMode();
     }
 
+    /**
+     * Obtiene la dificultad de la IA del jugador 1 (solo para IAVSIA)
+     */
+    public String getPlayer1Difficulty() {
+        if (player1DifficultyBox != null) {
+            return (String) player1DifficultyBox.getSelectedItem();
+        }
+        return null;
+    }
+
     /**
      * Obtiene la dificultad de la IA del jugador 2 (solo para J1VSIA e IAVSIA)
      */
@@ -382,6 +430,12 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
         player1Flavor = "";
         player2Flavor = "";
 
+        // Los campos del modo anterior ya no aplican
+        player1NameField = null;
+        player2NameField = null;
+        player1DifficultyBox = null;
+        player2DifficultyBox = null;
+
         // Crear campos segun el modo
         if ("J1VSJ2".equals(mode)) {
             createJ1VSJ2Fields();
@@ -389,6 +443,9 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
         } else if ("J1VSIA".equals(mode)) {
             createJ1VSIAFields();
             createButtons();
+        } else if ("IAVSIA".equals(mode)) {
+            createIAVSIAFields();
+            createButtons();
         } else {
             System.out.println("Modo " + mode + " aun no implementado");
         }
@@ -398,6 +455,9 @@ public class TwoPlayerFlavorSelectionScreen implements Screen {
     public void onHide() {
         System.out.println("Ocultando pantalla de seleccion de sabores 2 jugadores");
 
+        // Oculta no necesita animar el fondo
+        ScreenImages.stopAnimation(backgroundLabel);
+
         // Limpiar campos al ocultar
         if (backgroundLabel != null) {
             backgroundLabel.removeAll();
@@ -10,6 +10,8 @@ import java.awt.event.*;
  * J1 VS J2, J1 VS IA, IA VS IA
  */
 public class TwoPlayerModeScreen implements Screen {
+    static final String BACKGROUND_PATH = "Images/TJuego2Jugadores.png";
+
     private JPanel panel;
     private Image backgroundImage;
     private final ScreenManager screenManager;
@@ -39,10 +41,10 @@ public class TwoPlayerModeScreen implements Screen {
 
     private void loadImage() {
         try {
-            String path = "Images/TJuego2Jugadores.png";
-            backgroundImage = new ImageIcon(path).getImage();
+            String path = BACKGROUND_PATH;
+            backgroundImage = AssetPreloader.await(AssetPreloader.loadImage(path));
 
-            if (backgroundImage.getWidth(null) > 0) {
+            if (backgroundImage != null) {
                 System.out.println("Imagen de modos 2 jugadores cargada desde: " + path);
             } else {
                 System.out.println("No se pudo cargar la imagen de modos 2 jugadores");
@@ -1,5 +1,7 @@
 package Presentation;
 
+import Domain.SpriteCache;
+
 import javax.swing.*;
 import java.awt.*;
 
@@ -9,7 +11,8 @@ import java.awt.*;
  */
 public class VictoryOverlay {
     private Image victoryScreenImage;
-    private boolean visible;
+    // show se llama en el hilo del juego y draw en el EDT, sin el candado de la simulacion
+    private volatile boolean visible;
     private int finalScore;
 
     // Botones con areas clickeables
@@ -45,10 +48,9 @@ public class VictoryOverlay {
     private void loadVictoryScreen() {
         try {
             String path = "Images/PantallaGanar.png";
-            ImageIcon icon = new ImageIcon(path);
+            victoryScreenImage = SpriteCache.getImage(path);
 
-            if (icon.getIconWidth() > 0) {
-                victoryScreenImage = icon.getImage();
+            if (victoryScreenImage != null) {
 
                 // Dimensiones de la imagen
                 imageWidth = 480;